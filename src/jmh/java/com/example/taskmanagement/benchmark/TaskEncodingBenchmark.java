@@ -0,0 +1,101 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.application.dto.TaskDTO;
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.example.taskmanagement.infrastructure.json.TaskJsonWriter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payload size and encode/decode cost of a task list in each negotiable encoding. {@code encode} is the
+ * server side, rendering through {@link TaskJsonWriter} as the list endpoint does; {@code decode} is a
+ * client reading the body back into DTOs. Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskEncodingBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    private TaskEncoding.Format format;
+
+    @Param({"false", "true"})
+    private boolean epochMillis;
+
+    private List<Task> tasks;
+    private TaskEncoding encoding;
+    private JsonFactory jsonFactory;
+    private ObjectReader reader;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(new Task(new ObjectId().toHexString(), "Task " + i, "Description of task " + i, i % 2 == 0,
+                    now.minusMinutes(i), now, (long) i));
+        }
+        encoding = new TaskEncoding(format, epochMillis);
+        jsonFactory = Jackson2ObjectMapperBuilder.json().build().getFactory();
+        ObjectMapper clientMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(switch (format) {
+                    case JSON -> new JsonFactory();
+                    case CBOR -> new CBORFactory();
+                    case SMILE -> new SmileFactory();
+                })
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        reader = clientMapper.readerFor(epochMillis ? EpochMillisTaskDTO[].class : TaskDTO[].class);
+        encoded = encode();
+        System.out.printf("%n%s epochMillis=%s size=%d: %d bytes (%.1f per task)%n",
+                format, epochMillis, size, encoded.length, (double) encoded.length / size);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TaskJsonWriter writer = TaskJsonWriter.create(jsonFactory, out, TaskListFormat.JSON_ARRAY, encoding)) {
+            for (Task task : tasks) {
+                writer.writeTask(task);
+            }
+            writer.finish();
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public Object[] decode() throws Exception {
+        return reader.readValue(encoded);
+    }
+
+    /**
+     * What a client reads epoch-millisecond timestamps into.
+     */
+    public static class EpochMillisTaskDTO {
+        public String id;
+        public String title;
+        public String description;
+        public boolean completed;
+        public long createdAt;
+        public long updatedAt;
+    }
+}
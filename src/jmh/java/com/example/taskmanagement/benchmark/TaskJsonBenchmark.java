@@ -0,0 +1,44 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.application.dto.TaskDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of {@code TaskDTO} lists, configured the way Spring Boot configures the
+ * application's ObjectMapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskJsonBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<TaskDTO> taskDTOs;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, TaskDTO.class));
+        LocalDateTime now = LocalDateTime.now();
+        taskDTOs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            taskDTOs.add(new TaskDTO(String.valueOf(i), "Task " + i, "Description " + i, i % 2 == 0, now, now));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return writer.writeValueAsBytes(taskDTOs);
+    }
+}
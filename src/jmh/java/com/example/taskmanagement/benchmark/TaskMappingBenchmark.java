@@ -0,0 +1,83 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.application.controller.TaskController;
+import com.example.taskmanagement.application.dto.TaskCreateDTO;
+import com.example.taskmanagement.application.dto.TaskDTO;
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.port.in.TaskUseCase;
+import com.example.taskmanagement.infrastructure.adapter.TaskAdapter;
+import com.example.taskmanagement.infrastructure.entity.TaskEntity;
+import com.example.taskmanagement.infrastructure.repository.TaskInfraRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request object mapping cost: TaskEntity -> Task in the adapter and Task -> TaskDTO in the
+ * controller, measured through their public entry points over stubbed neighbours.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskMappingBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private TaskAdapter taskAdapter;
+    private TaskController taskController;
+    private TaskCreateDTO taskCreateDTO;
+
+    @Setup
+    public void setUp() {
+        List<TaskEntity> entities = new ArrayList<>(size);
+        List<Task> tasks = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            entities.add(new TaskEntity(String.valueOf(i), "Task " + i, "Description " + i, i % 2 == 0, now, now));
+            tasks.add(new Task(String.valueOf(i), "Task " + i, "Description " + i, i % 2 == 0, now, now));
+        }
+        taskAdapter = new TaskAdapter(stub(TaskInfraRepository.class, "findAll", entities), null);
+        taskController = new TaskController(useCase(tasks), null);
+        taskCreateDTO = new TaskCreateDTO("Benchmark Task", "Benchmark Description");
+    }
+
+    @Benchmark
+    public List<Task> entityToDomain() {
+        return taskAdapter.findAll();
+    }
+
+    @Benchmark
+    public ResponseEntity<List<TaskDTO>> domainToDto() {
+        return taskController.searchTasks("task", size);
+    }
+
+    @Benchmark
+    public ResponseEntity<TaskDTO> createRoundTrip() {
+        return taskController.createTask(taskCreateDTO, null);
+    }
+
+    private static TaskUseCase useCase(List<Task> tasks) {
+        return (TaskUseCase) Proxy.newProxyInstance(TaskUseCase.class.getClassLoader(), new Class<?>[]{TaskUseCase.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "searchTasks" -> tasks;
+                    case "createTask" -> args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, String methodName, Object result) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().equals(methodName)) {
+                return result;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.application.dto.TaskDTO;
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.example.taskmanagement.infrastructure.entity.TaskEntity;
+import com.example.taskmanagement.infrastructure.json.BsonTaskTranscoder;
+import com.example.taskmanagement.infrastructure.json.TaskJsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.bson.BsonBinaryReader;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning stored task documents into a JSON list response. {@code mapped} is the regular read path:
+ * driver decode to a Document, Spring Data mapping to TaskEntity, TaskEntity -> Task -> TaskDTO and Jackson.
+ * {@code raw} is the projection read path, transcoding the BSON bytes straight to JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskReadPathBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private final DocumentCodec documentCodec = new DocumentCodec();
+    private List<RawBsonDocument> documents;
+    private MappingMongoConverter converter;
+    private ObjectMapper objectMapper;
+    private ObjectWriter listWriter;
+
+    @Setup
+    public void setUp() {
+        // Wired the way Spring Boot wires them, so java.time values are handled as simple types
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, TaskDTO.class));
+
+        LocalDateTime now = LocalDateTime.now();
+        documents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TaskEntity entity = new TaskEntity(new ObjectId().toHexString(), "Task " + i, "Description " + i,
+                    i % 2 == 0, now, now, (long) i);
+            Document stored = new Document();
+            converter.write(entity, stored);
+            documents.add(new RawBsonDocument(stored, documentCodec));
+        }
+    }
+
+    @Benchmark
+    public byte[] mapped() throws Exception {
+        List<TaskDTO> taskDTOs = new ArrayList<>(documents.size());
+        for (RawBsonDocument raw : documents) {
+            Document document;
+            try (BsonBinaryReader reader = new BsonBinaryReader(raw.getByteBuffer().asNIO())) {
+                document = documentCodec.decode(reader, DecoderContext.builder().build());
+            }
+            TaskEntity entity = converter.read(TaskEntity.class, document);
+            Task task = new Task(entity.getId(), entity.getTitle(), entity.getDescription(), entity.isCompleted(),
+                    entity.getCreatedAt(), entity.getUpdatedAt(), entity.getVersion());
+            taskDTOs.add(new TaskDTO(task.getId(), task.getTitle(), task.getDescription(), task.isCompleted(),
+                    task.getCreatedAt(), task.getUpdatedAt()));
+        }
+        return listWriter.writeValueAsBytes(taskDTOs);
+    }
+
+    @Benchmark
+    public byte[] raw() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TaskJsonWriter writer = new TaskJsonWriter(objectMapper.getFactory(), out, TaskListFormat.JSON_ARRAY)) {
+            for (RawBsonDocument document : documents) {
+                BsonTaskTranscoder.transcode(document, writer);
+            }
+            writer.finish();
+        }
+        return out.toByteArray();
+    }
+}
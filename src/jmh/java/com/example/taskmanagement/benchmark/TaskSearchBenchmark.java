@@ -0,0 +1,65 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.infrastructure.search.InvertedTaskSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Query latency of the in-process search index over a synthetic corpus with a Zipf-like vocabulary,
+ * so common terms have long postings lists and rare terms short ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskSearchBenchmark {
+
+    private static final int VOCABULARY_SIZE = 50_000;
+
+    @Param({"100000", "1000000"})
+    public int taskCount;
+
+    private InvertedTaskSearchIndex searchIndex;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        searchIndex = new InvertedTaskSearchIndex();
+        searchIndex.rebuild(IntStream.range(0, taskCount).mapToObj(i -> new Task(
+                "task-" + i, words(random, 4), words(random, 20), false, null, null)));
+    }
+
+    @Benchmark
+    public List<String> commonTerm() {
+        return searchIndex.search("w1", 20);
+    }
+
+    @Benchmark
+    public List<String> rareTerms() {
+        return searchIndex.search("w20000 w30000", 20);
+    }
+
+    @Benchmark
+    public List<String> mixedTerms() {
+        return searchIndex.search("w5 w200 w4000", 20);
+    }
+
+    @Benchmark
+    public void reindexTask() {
+        searchIndex.index(new Task("task-0", "w1 w2 w3", "w10 w20 w30", false, null, null));
+    }
+
+    private static String words(SplittableRandom random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            // Squaring a uniform sample skews the distribution towards low (frequent) term numbers
+            double u = random.nextDouble();
+            text.append(" w").append((int) (u * u * VOCABULARY_SIZE));
+        }
+        return text.toString();
+    }
+}
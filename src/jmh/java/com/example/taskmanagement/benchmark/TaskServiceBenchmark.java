@@ -0,0 +1,101 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskPage;
+import com.example.taskmanagement.domain.service.TaskService;
+import com.example.taskmanagement.infrastructure.adapter.InMemoryTaskAdapter;
+import com.example.taskmanagement.infrastructure.search.InvertedTaskSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain-layer cost of each use case, with persistence taken out of the picture by the in-memory
+ * adapter.
+ * <p>
+ * Creating and completing tasks can't be repeated against the same state without changing what is
+ * measured: the store keeps growing, and a completed task takes the no-op path. Those two run as single
+ * shots of {@value #TASK_COUNT} calls against a store rebuilt for every iteration, each call completing a
+ * different pending task. Single-shot scores are divided by the operations per invocation, not the batch
+ * size, so the batch is declared as such to keep the scores per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskServiceBenchmark {
+
+    private static final int TASK_COUNT = 10_000;
+
+    private TaskService taskService;
+    private List<String> ids;
+
+    @Setup
+    public void setUp() {
+        taskService = new TaskService(new InMemoryTaskAdapter(), new InvertedTaskSearchIndex(), event -> { });
+        ids = createTasks(taskService);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(batchSize = TASK_COUNT)
+    @Measurement(batchSize = TASK_COUNT)
+    @OperationsPerInvocation(TASK_COUNT)
+    public Task createTask(Writes writes) {
+        return writes.taskService.createTask(new Task(null, "Benchmark Task", "Benchmark Description", false, null, null));
+    }
+
+    @Benchmark
+    public Optional<Task> getTaskById() {
+        return taskService.getTaskById(randomId());
+    }
+
+    @Benchmark
+    public Task updateTask() {
+        return taskService.updateTask(new Task(randomId(), "Updated Task", "Updated Description", false, null, null));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(batchSize = TASK_COUNT)
+    @Measurement(batchSize = TASK_COUNT)
+    @OperationsPerInvocation(TASK_COUNT)
+    public Task markTaskAsCompleted(Writes writes) {
+        return writes.taskService.markTaskAsCompleted(writes.pendingIds.get(writes.next++));
+    }
+
+    @Benchmark
+    public TaskPage getTaskPage() {
+        return taskService.getTaskPage(null, 50);
+    }
+
+    private String randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    @State(Scope.Thread)
+    public static class Writes {
+
+        private TaskService taskService;
+        private List<String> pendingIds;
+        private int next;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            taskService = new TaskService(new InMemoryTaskAdapter(), new InvertedTaskSearchIndex(), event -> { });
+            pendingIds = createTasks(taskService);
+            next = 0;
+        }
+    }
+
+    private static List<String> createTasks(TaskService taskService) {
+        List<String> created = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            created.add(taskService.createTask(new Task(null, "Task " + i, "Description " + i, false, null, null)).getId());
+        }
+        return created;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.application.dto.TaskCreateDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation cost of the request body accepted by the create and update endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private TaskCreateDTO validTask;
+    private TaskCreateDTO invalidTask;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validTask = new TaskCreateDTO("Benchmark Task", "Benchmark Description");
+        invalidTask = new TaskCreateDTO("", "x".repeat(501));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TaskCreateDTO>> validTask() {
+        return validator.validate(validTask);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TaskCreateDTO>> invalidTask() {
+        return validator.validate(invalidTask);
+    }
+}
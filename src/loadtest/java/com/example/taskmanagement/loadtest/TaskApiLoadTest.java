@@ -0,0 +1,439 @@
+package com.example.taskmanagement.loadtest;
+
+import com.example.taskmanagement.TaskManagementApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load test of the REST API: requests arrive at a fixed rate whatever the response times, with a
+ * weighted mix of create, get, list, update, complete and delete calls.
+ * <p>
+ * Latency is measured from each request's scheduled start, not from when it was actually sent, so a stall
+ * in the server or in the generator is charged to every request that should have been sent during it
+ * (no coordinated omission). Service time, measured from the actual send, is reported alongside for
+ * comparison. Requests scheduled during the warmup are sent but not recorded. Requests still in flight when
+ * the drain deadline passes are recorded as timeouts at the deadline, so the slowest ones still count towards
+ * the percentiles, and reported apart.
+ * <p>
+ * By default the application is booted in-process on the in-memory store. Tunable through system
+ * properties: {@code loadtest.store} ({@code in-memory}, {@code file} or {@code mongo}, default in-memory),
+ * {@code loadtest.mongoUri} (default mongodb://localhost:27017/taskmanagement-loadtest),
+ * {@code loadtest.baseUrl} (drive an already running instance instead of booting one),
+ * {@code loadtest.rate} (requests per second, default 500), {@code loadtest.duration} (seconds recorded,
+ * default 30), {@code loadtest.warmup} (seconds, default 5), {@code loadtest.drainTimeout} (seconds to wait for
+ * requests in flight once the run ends, default 60), {@code loadtest.seed} (tasks created up front,
+ * default 1000) and {@code loadtest.mix} (weights, default create:15,get:45,list:5,update:15,complete:10,delete:10).
+ * <p>
+ * The report is written as JSON to {@code build/reports/loadtest}, once under a timestamped name so runs
+ * can be compared over time and once as {@code api-latest.json}.
+ */
+public class TaskApiLoadTest {
+
+    private static final String DEFAULT_MIX = "create:15,get:45,list:5,update:15,complete:10,delete:10";
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    enum Operation {
+        CREATE("POST /api/tasks"),
+        GET("GET /api/tasks/{id}"),
+        LIST("GET /api/tasks"),
+        UPDATE("PUT /api/tasks/{id}"),
+        COMPLETE("PATCH /api/tasks/{id}/complete"),
+        DELETE("DELETE /api/tasks/{id}");
+
+        private final String endpoint;
+
+        Operation(String endpoint) {
+            this.endpoint = endpoint;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String store = System.getProperty("loadtest.store", "in-memory");
+        String baseUrlProperty = System.getProperty("loadtest.baseUrl");
+        int rate = Integer.getInteger("loadtest.rate", 500);
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 30));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup", 5));
+        Duration drainTimeout = Duration.ofSeconds(Long.getLong("loadtest.drainTimeout", 60));
+        int seedTasks = Integer.getInteger("loadtest.seed", 1_000);
+        String mixProperty = System.getProperty("loadtest.mix", DEFAULT_MIX);
+        Mix mix = Mix.parse(mixProperty);
+
+        ConfigurableApplicationContext context = baseUrlProperty == null ? boot(store) : null;
+        try {
+            String baseUrl = baseUrlProperty != null ? baseUrlProperty
+                    : "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            IdPool ids = new IdPool();
+            seed(client, baseUrl, seedTasks, ids);
+
+            Map<Operation, Stats> stats = new LinkedHashMap<>();
+            for (Operation operation : Operation.values()) {
+                stats.put(operation, new Stats());
+            }
+            System.out.printf("Driving %s at %d req/s for %ds after %ds warmup%n", baseUrl, rate,
+                    duration.toSeconds(), warmup.toSeconds());
+            long started = run(client, baseUrl, rate, warmup, duration, drainTimeout, mix, ids, stats);
+            client.close();
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("startedAt", Instant.ofEpochMilli(started).toString());
+            report.put("target", baseUrlProperty != null ? baseUrlProperty : store);
+            report.put("rate", rate);
+            report.put("durationSeconds", duration.toSeconds());
+            report.put("warmupSeconds", warmup.toSeconds());
+            report.put("mix", mixProperty);
+            Map<String, Object> endpoints = new LinkedHashMap<>();
+            Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+            long totalErrors = 0;
+            long totalTimeouts = 0;
+            for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+                Stats endpointStats = entry.getValue();
+                endpoints.put(entry.getKey().endpoint, endpointStats.toReport(duration));
+                total.add(endpointStats.latency);
+                totalErrors += endpointStats.errors.get();
+                totalTimeouts += endpointStats.timeouts.get();
+                print(entry.getKey().endpoint, endpointStats.latency, duration, endpointStats.errors.get(),
+                        endpointStats.timeouts.get());
+            }
+            print("all", total, duration, totalErrors, totalTimeouts);
+            report.put("endpoints", endpoints);
+            Map<String, Object> all = Stats.summarize(total, duration, totalErrors);
+            all.put("timeouts", totalTimeouts);
+            report.put("all", all);
+            write(report, started);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        // The Mongo driver's Netty event loops are non-daemon and outlive the context
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext boot(String store) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(TaskManagementApplication.class)
+                .properties(
+                        "server.port=0",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.taskmanagement=WARN");
+        switch (store) {
+            case "in-memory" -> builder.profiles("in-memory");
+            case "file" -> builder.profiles("file")
+                    .properties("task.file.directory=" + Path.of("build", "loadtest-data").toAbsolutePath());
+            case "mongo" -> builder.properties("spring.data.mongodb.uri="
+                    + System.getProperty("loadtest.mongoUri", "mongodb://localhost:27017/taskmanagement-loadtest"));
+            default -> throw new IllegalArgumentException("Unknown loadtest.store: " + store);
+        }
+        return builder.run();
+    }
+
+    private static void seed(HttpClient client, String baseUrl, int count, IdPool ids) throws Exception {
+        for (int i = 0; i < count; i += 500) {
+            StringBuilder body = new StringBuilder("[");
+            for (int j = i; j < Math.min(i + 500, count); j++) {
+                body.append(j == i ? "" : ",").append("{\"title\":\"Seed task ").append(j).append("\"}");
+            }
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.append("]").toString()))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            for (JsonNode item : OBJECT_MAPPER.readTree(response.body())) {
+                ids.add(item.get("id").asText());
+            }
+        }
+    }
+
+    /**
+     * Sends requests on a fixed schedule until the run ends, then waits for the ones still in flight up to a
+     * deadline. Recorded requests that haven't completed by then are recorded as timeouts. Returns the
+     * wall-clock start time.
+     */
+    private static long run(HttpClient client, String baseUrl, int rate, Duration warmup, Duration duration,
+                            Duration drainTimeout, Mix mix, IdPool ids, Map<Operation, Stats> stats)
+            throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long wallClockStart = System.currentTimeMillis();
+        long start = System.nanoTime();
+        long recordFrom = start + warmup.toNanos();
+        long end = recordFrom + duration.toNanos();
+        AtomicLong inFlight = new AtomicLong();
+        Set<Pending> recordedInFlight = ConcurrentHashMap.newKeySet();
+        for (long i = 0; ; i++) {
+            long scheduled = start + i * intervalNanos;
+            if (scheduled >= end) {
+                break;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = mix.next();
+            HttpRequest request = request(operation, baseUrl, ids);
+            if (request == null) {
+                // Nothing to act on yet; create instead so the schedule is kept
+                operation = Operation.CREATE;
+                request = request(operation, baseUrl, ids);
+            }
+            Operation sent = operation;
+            long sentAt = System.nanoTime();
+            Pending pending = scheduled >= recordFrom ? new Pending(stats.get(operation), scheduled, sentAt) : null;
+            if (pending != null) {
+                recordedInFlight.add(pending);
+            }
+            inFlight.incrementAndGet();
+            CompletableFuture<HttpResponse<String>> response = client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+            response.whenComplete((result, failure) -> {
+                long now = System.nanoTime();
+                if (pending != null && pending.finish()) {
+                    pending.target.record(scheduled, sentAt, now, failure == null ? result.statusCode() : -1);
+                    recordedInFlight.remove(pending);
+                }
+                if (failure == null && sent == Operation.CREATE && result.statusCode() == 201) {
+                    ids.add(idOf(result.body()));
+                }
+                inFlight.decrementAndGet();
+            });
+        }
+        long drainDeadline = System.nanoTime() + drainTimeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        long timedOutAt = System.nanoTime();
+        for (Pending pending : recordedInFlight) {
+            if (pending.finish()) {
+                pending.target.recordTimeout(pending.scheduled, pending.sentAt, timedOutAt);
+            }
+        }
+        if (inFlight.get() > 0) {
+            // close() would wait for the stragglers
+            client.shutdownNow();
+        }
+        return wallClockStart;
+    }
+
+    private static HttpRequest request(Operation operation, String baseUrl, IdPool ids) {
+        HttpRequest.Builder builder;
+        switch (operation) {
+            case CREATE -> builder = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"title\":\"Load task\",\"description\":\"Created by the load test\"}"));
+            case LIST -> builder = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks?completed=false&limit=50"));
+            case DELETE -> {
+                String id = ids.take();
+                if (id == null) {
+                    return null;
+                }
+                builder = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/" + id)).DELETE();
+            }
+            default -> {
+                String id = ids.random();
+                if (id == null) {
+                    return null;
+                }
+                URI uri = URI.create(baseUrl + "/api/tasks/" + id + (operation == Operation.COMPLETE ? "/complete" : ""));
+                builder = switch (operation) {
+                    case GET -> HttpRequest.newBuilder(uri);
+                    case UPDATE -> HttpRequest.newBuilder(uri)
+                            .header("Content-Type", "application/json")
+                            .PUT(HttpRequest.BodyPublishers.ofString(
+                                    "{\"title\":\"Updated load task\",\"description\":\"Updated by the load test\"}"));
+                    default -> HttpRequest.newBuilder(uri).method("PATCH", HttpRequest.BodyPublishers.noBody());
+                };
+            }
+        }
+        return builder.timeout(Duration.ofSeconds(30)).build();
+    }
+
+    private static String idOf(String body) {
+        try {
+            return OBJECT_MAPPER.readTree(body).get("id").asText();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unexpected create response: " + body, e);
+        }
+    }
+
+    private static void print(String endpoint, Histogram latency, Duration duration, long errors, long timeouts) {
+        System.out.printf("%-32s %8.1f req/s p50=%8.2f ms p99=%8.2f ms p99.9=%8.2f ms max=%8.2f ms errors=%d"
+                        + " timeouts=%d%n",
+                endpoint, latency.getTotalCount() / (double) duration.toSeconds(),
+                latency.getValueAtPercentile(50) / 1000.0, latency.getValueAtPercentile(99) / 1000.0,
+                latency.getValueAtPercentile(99.9) / 1000.0, latency.getMaxValue() / 1000.0, errors, timeouts);
+    }
+
+    private static void write(Map<String, Object> report, long started) throws Exception {
+        Path directory = Path.of(System.getProperty("loadtest.reportDir", Path.of("build", "reports", "loadtest").toString()));
+        Files.createDirectories(directory);
+        String timestamp = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC)
+                .format(Instant.ofEpochMilli(started));
+        Path output = directory.resolve("api-" + timestamp + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+        Files.copy(output, directory.resolve("api-latest.json"), StandardCopyOption.REPLACE_EXISTING);
+        System.out.println("Report written to " + output.toAbsolutePath());
+    }
+
+    /**
+     * A recorded request that hasn't completed yet. Whichever of its completion and the drain deadline comes
+     * first records it.
+     */
+    private static final class Pending {
+        private final Stats target;
+        private final long scheduled;
+        private final long sentAt;
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        Pending(Stats target, long scheduled, long sentAt) {
+            this.target = target;
+            this.scheduled = scheduled;
+            this.sentAt = sentAt;
+        }
+
+        boolean finish() {
+            return finished.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * Latency and outcome counts for one endpoint. 404, 409 and 412 answers are expected when a random
+     * task was deleted or changed by a concurrent request, so they are counted apart from errors. Timeouts
+     * are counted as errors too.
+     */
+    private static final class Stats {
+        private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+
+        void record(long scheduled, long sent, long completed, int status) {
+            latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(completed - scheduled), HIGHEST_TRACKABLE_MICROS));
+            serviceTime.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(completed - sent), HIGHEST_TRACKABLE_MICROS));
+            if (status == 404 || status == 409 || status == 412) {
+                rejected.incrementAndGet();
+            } else if (status < 200 || status >= 300) {
+                errors.incrementAndGet();
+            }
+        }
+
+        /**
+         * Records a request given up on at {@code deadline}; its real latency is at least what is recorded.
+         */
+        void recordTimeout(long scheduled, long sent, long deadline) {
+            record(scheduled, sent, deadline, -1);
+            timeouts.incrementAndGet();
+        }
+
+        Map<String, Object> toReport(Duration duration) {
+            Map<String, Object> report = summarize(latency, duration, errors.get());
+            report.put("timeouts", timeouts.get());
+            report.put("rejected", rejected.get());
+            report.put("serviceTimeP99Millis", serviceTime.getValueAtPercentile(99) / 1000.0);
+            return report;
+        }
+
+        static Map<String, Object> summarize(Histogram latency, Duration duration, long errors) {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("requests", latency.getTotalCount());
+            report.put("throughput", latency.getTotalCount() / (double) duration.toSeconds());
+            report.put("errors", errors);
+            report.put("p50Millis", latency.getValueAtPercentile(50) / 1000.0);
+            report.put("p90Millis", latency.getValueAtPercentile(90) / 1000.0);
+            report.put("p99Millis", latency.getValueAtPercentile(99) / 1000.0);
+            report.put("p999Millis", latency.getValueAtPercentile(99.9) / 1000.0);
+            report.put("maxMillis", latency.getMaxValue() / 1000.0);
+            return report;
+        }
+    }
+
+    /**
+     * Weighted choice between operations.
+     */
+    private record Mix(Operation[] operations, int[] cumulativeWeights) {
+
+        static Mix parse(String spec) {
+            List<Operation> operations = new ArrayList<>();
+            List<Integer> cumulative = new ArrayList<>();
+            int total = 0;
+            for (String entry : spec.split(",")) {
+                String[] parts = entry.trim().split(":");
+                int weight = Integer.parseInt(parts[1].trim());
+                if (weight > 0) {
+                    total += weight;
+                    operations.add(Operation.valueOf(parts[0].trim().toUpperCase()));
+                    cumulative.add(total);
+                }
+            }
+            if (total == 0) {
+                throw new IllegalArgumentException("loadtest.mix has no positive weights: " + spec);
+            }
+            return new Mix(operations.toArray(Operation[]::new), cumulative.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        Operation next() {
+            int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (pick < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Ids of tasks believed to exist. Deletes take their id out so no later request is aimed at it on purpose.
+     */
+    private static final class IdPool {
+        private final List<String> ids = new ArrayList<>();
+
+        synchronized void add(String id) {
+            ids.add(id);
+        }
+
+        synchronized String random() {
+            return ids.isEmpty() ? null : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+
+        synchronized String take() {
+            if (ids.isEmpty()) {
+                return null;
+            }
+            int index = ThreadLocalRandom.current().nextInt(ids.size());
+            String last = ids.remove(ids.size() - 1);
+            return index == ids.size() ? last : ids.set(index, last);
+        }
+    }
+}
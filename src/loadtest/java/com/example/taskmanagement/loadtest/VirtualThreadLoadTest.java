@@ -0,0 +1,162 @@
+package com.example.taskmanagement.loadtest;
+
+import com.example.taskmanagement.TaskManagementApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares platform-thread and virtual-thread request execution under a slow repository.
+ * <p>
+ * For each mode the application is booted in-process on the in-memory adapter with
+ * {@code task.simulated-latency} added to every repository call, then driven by an increasing number of
+ * closed-loop clients issuing {@code GET /api/tasks/{id}}. The highest client count whose p99 stays
+ * within the latency budget is reported as the mode's maximum sustainable concurrency.
+ * <p>
+ * Tunable through system properties: {@code loadtest.latency} (ms, default 50),
+ * {@code loadtest.levels} (comma separated, default 50,100,200,400,800,1600),
+ * {@code loadtest.duration} (seconds per level, default 10) and {@code loadtest.p99Budget}
+ * (ms, default four times the latency).
+ */
+public class VirtualThreadLoadTest {
+
+    private static final int SEED_TASKS = 1_000;
+
+    public static void main(String[] args) throws Exception {
+        long latencyMillis = Long.getLong("loadtest.latency", 50);
+        long durationSeconds = Long.getLong("loadtest.duration", 10);
+        long p99BudgetMillis = Long.getLong("loadtest.p99Budget", latencyMillis * 4);
+        List<Integer> levels = new ArrayList<>();
+        for (String level : System.getProperty("loadtest.levels", "50,100,200,400,800,1600").split(",")) {
+            levels.add(Integer.parseInt(level.trim()));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("simulatedLatencyMillis", latencyMillis);
+        report.put("p99BudgetMillis", p99BudgetMillis);
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            String mode = virtualThreads ? "virtual" : "platform";
+            List<Map<String, Object>> results = new ArrayList<>();
+            int maxSustainable = 0;
+            try (ConfigurableApplicationContext context = boot(virtualThreads, latencyMillis)) {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                List<String> ids = seed(baseUrl);
+                for (int level : levels) {
+                    Map<String, Object> result = runLevel(baseUrl, ids, level, Duration.ofSeconds(durationSeconds));
+                    results.add(result);
+                    System.out.printf("%-8s clients=%5d throughput=%9.1f req/s p50=%7.1f ms p99=%7.1f ms errors=%d%n",
+                            mode, level, result.get("throughput"), result.get("p50Millis"), result.get("p99Millis"),
+                            result.get("errors"));
+                    if ((double) result.get("p99Millis") <= p99BudgetMillis && (long) result.get("errors") == 0) {
+                        maxSustainable = level;
+                    }
+                }
+            }
+            report.put(mode, Map.of("maxSustainableConcurrency", maxSustainable, "levels", results));
+            System.out.printf("%-8s max sustainable concurrency: %d%n", mode, maxSustainable);
+        }
+
+        Path output = Path.of("build", "reports", "loadtest", "virtual-threads.json");
+        Files.createDirectories(output.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+        System.out.println("Report written to " + output.toAbsolutePath());
+    }
+
+    private static ConfigurableApplicationContext boot(boolean virtualThreads, long latencyMillis) {
+        return new SpringApplicationBuilder(TaskManagementApplication.class)
+                .profiles("in-memory")
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "task.simulated-latency=" + latencyMillis + "ms",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.taskmanagement=WARN")
+                .run();
+    }
+
+    private static List<String> seed(String baseUrl) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> ids = new ArrayList<>(SEED_TASKS);
+        for (int i = 0; i < SEED_TASKS; i += 500) {
+            StringBuilder body = new StringBuilder("[");
+            for (int j = i; j < Math.min(i + 500, SEED_TASKS); j++) {
+                body.append(j == i ? "" : ",").append("{\"title\":\"Task ").append(j).append("\"}");
+            }
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.append("]").toString()))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            for (JsonNode item : objectMapper.readTree(response.body())) {
+                ids.add(item.get("id").asText());
+            }
+        }
+        return ids;
+    }
+
+    private static Map<String, Object> runLevel(String baseUrl, List<String> ids, int clients, Duration duration)
+            throws InterruptedException {
+        Histogram histogram = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+        AtomicLong errors = new AtomicLong();
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        String id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/" + id))
+                                .timeout(Duration.ofSeconds(30))
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start),
+                                histogram.getHighestTrackableValue()));
+                    }
+                });
+            }
+        }
+        client.close();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("clients", clients);
+        result.put("requests", histogram.getTotalCount());
+        result.put("throughput", histogram.getTotalCount() / (double) duration.toSeconds());
+        result.put("p50Millis", histogram.getValueAtPercentile(50) / 1000.0);
+        result.put("p99Millis", histogram.getValueAtPercentile(99) / 1000.0);
+        result.put("maxMillis", histogram.getMaxValue() / 1000.0);
+        result.put("errors", errors.get());
+        return result;
+    }
+}
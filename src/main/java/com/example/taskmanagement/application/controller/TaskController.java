@@ -1,19 +1,46 @@
 package com.example.taskmanagement.application.controller;
 
+import com.example.taskmanagement.application.dto.TaskBatchItemDTO;
+import com.example.taskmanagement.application.dto.TaskBatchUpdateDTO;
+import com.example.taskmanagement.application.dto.TaskChangeDTO;
+import com.example.taskmanagement.application.dto.TaskChangesDTO;
 import com.example.taskmanagement.application.dto.TaskCreateDTO;
 import com.example.taskmanagement.application.dto.TaskDTO;
+import com.example.taskmanagement.application.dto.TaskFilterDTO;
+import com.example.taskmanagement.application.dto.TaskPageDTO;
+import com.example.taskmanagement.application.dto.TaskStatsDTO;
 import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskChangeSet;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.example.taskmanagement.domain.model.TaskPage;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.port.in.TaskReadUseCase;
 import com.example.taskmanagement.domain.port.in.TaskUseCase;
+import com.example.taskmanagement.exception.InvalidRequestException;
 import com.example.taskmanagement.exception.TaskNotFoundException;
+import com.example.taskmanagement.exception.TaskVersionConflictException;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.util.List;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @RestController
@@ -23,38 +50,115 @@ import java.util.stream.Collectors;
 public class TaskController {
 
     private final TaskUseCase taskUseCase;
+    private final TaskReadUseCase taskReadUseCase;
 
     @PostMapping
     @Operation(summary = "Create a new task")
-    public ResponseEntity<TaskDTO> createTask(@Valid @RequestBody TaskCreateDTO taskCreateDTO) {
+    public ResponseEntity<TaskDTO> createTask(@Valid @RequestBody TaskCreateDTO taskCreateDTO,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         Task task = convertToEntity(taskCreateDTO);
         Task createdTask = taskUseCase.createTask(task);
-        return new ResponseEntity<>(convertToDTO(createdTask), HttpStatus.CREATED);
+        return taskResponse(ResponseEntity.status(HttpStatus.CREATED), createdTask, accept);
     }
 
-    @GetMapping("/{id}")
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            TaskMediaTypes.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Get a task by ID")
-    public ResponseEntity<TaskDTO> getTaskById(@PathVariable String id) {
-        return taskUseCase.getTaskById(id)
-                .map(task -> ResponseEntity.ok(convertToDTO(task)))
+    public ResponseEntity<TaskDTO> getTaskById(@PathVariable String id,
+                                               @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                               @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        Task task = taskUseCase.getTaskById(id)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + id));
+        TaskMediaTypes.Negotiated negotiated = TaskMediaTypes.negotiate(accept, MediaType.APPLICATION_JSON);
+        String etag = TaskETags.of(task, negotiated.encoding());
+        if (TaskETags.noneMatchHits(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return taskResponse(ResponseEntity.ok(), task, accept);
     }
 
-    @GetMapping
-    @Operation(summary = "Get all tasks")
-    public ResponseEntity<List<TaskDTO>> getAllTasks() {
-        List<Task> tasks = taskUseCase.getAllTasks();
-        List<TaskDTO> taskDTOs = tasks.stream().map(this::convertToDTO).collect(Collectors.toList());
-        return ResponseEntity.ok(taskDTOs);
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            TaskMediaTypes.APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Get all tasks, optionally filtered by status and created/updated time ranges")
+    @ApiResponse(responseCode = "200", content = {
+            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = TaskDTO.class))),
+            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE, array = @ArraySchema(schema = @Schema(implementation = TaskDTO.class))),
+            @Content(mediaType = TaskMediaTypes.APPLICATION_SMILE_VALUE, array = @ArraySchema(schema = @Schema(implementation = TaskDTO.class)))})
+    public ResponseEntity<byte[]> getAllTasks(@ParameterObject TaskFilterDTO filter,
+                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        TaskQuery query = filter.equals(new TaskFilterDTO()) ? null : convertToQuery(filter);
+        TaskMediaTypes.Negotiated negotiated = TaskMediaTypes.negotiate(accept, MediaType.APPLICATION_JSON);
+        // Rendered straight from the store; the bytes are kept so the ETag can cover the exact body
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        taskReadUseCase.writeTasks(query, TaskListFormat.JSON_ARRAY, negotiated.encoding(), body);
+        byte[] encoded = body.toByteArray();
+        String etag = TaskETags.of(encoded);
+        if (TaskETags.noneMatchHits(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).contentType(negotiated.mediaType()).body(encoded);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search task titles and descriptions, best matches first")
+    public ResponseEntity<List<TaskDTO>> searchTasks(@RequestParam String q,
+                                                     @RequestParam(defaultValue = "20") int limit) {
+        List<Task> tasks = taskUseCase.searchTasks(q, limit);
+        return ResponseEntity.ok(tasks.stream().map(this::convertToDTO).collect(Collectors.toList()));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get total, completed and pending task counts")
+    public ResponseEntity<TaskStatsDTO> getTaskStats() {
+        TaskStats stats = taskUseCase.getTaskStats();
+        return ResponseEntity.ok(new TaskStatsDTO(stats.getTotal(), stats.getCompleted(), stats.getPending()));
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of tasks using an opaque cursor")
+    public ResponseEntity<TaskPageDTO> getTaskPage(@RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "50") int size) {
+        TaskPage page = taskUseCase.getTaskPage(cursor, size);
+        List<TaskDTO> taskDTOs = page.getTasks().stream().map(this::convertToDTO).collect(Collectors.toList());
+        return ResponseEntity.ok(new TaskPageDTO(taskDTOs, page.getNextCursor()));
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get tasks created, updated or deleted since a watermark")
+    public ResponseEntity<TaskChangesDTO> getChanges(@RequestParam(required = false) String since,
+                                                     @RequestParam(defaultValue = "500") int limit) {
+        TaskChangeSet changeSet = taskUseCase.getChangesSince(since, limit);
+        List<TaskChangeDTO> changes = changeSet.getChanges().stream()
+                .map(change -> new TaskChangeDTO(change.getId(), change.isDeleted(),
+                        change.getTask() != null ? convertToDTO(change.getTask()) : null, change.getChangedAt()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(new TaskChangesDTO(changes, changeSet.getWatermark(), changeSet.isHasMore()));
+    }
+
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            TaskMediaTypes.APPLICATION_SMILE_VALUE})
+    @Operation(summary = "Export all tasks as newline-delimited JSON, or as a sequence of CBOR or Smile values")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        TaskMediaTypes.Negotiated negotiated = TaskMediaTypes.negotiate(accept, MediaType.APPLICATION_NDJSON);
+        StreamingResponseBody body = outputStream ->
+                taskReadUseCase.writeTasks(null, TaskListFormat.NDJSON, negotiated.encoding(), outputStream);
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).contentType(negotiated.mediaType()).body(body);
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "Update a task")
-    public ResponseEntity<TaskDTO> updateTask(@PathVariable String id, @Valid @RequestBody TaskCreateDTO taskCreateDTO) {
+    public ResponseEntity<TaskDTO> updateTask(@PathVariable String id, @Valid @RequestBody TaskCreateDTO taskCreateDTO,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         Task task = convertToEntity(taskCreateDTO);
         task.setId(id);
-        Task updatedTask = taskUseCase.updateTask(task);
-        return ResponseEntity.ok(convertToDTO(updatedTask));
+        Task updatedTask = ifMatch(ifMatch, id, () -> taskUseCase.updateTask(task), version -> {
+            task.setVersion(version);
+            return taskUseCase.updateTask(task);
+        });
+        return taskResponse(ResponseEntity.ok(), updatedTask, accept);
     }
 
     @DeleteMapping("/{id}")
@@ -66,9 +170,113 @@ public class TaskController {
 
     @PatchMapping("/{id}/complete")
     @Operation(summary = "Mark a task as completed")
-    public ResponseEntity<TaskDTO> markTaskAsCompleted(@PathVariable String id) {
-        Task completedTask = taskUseCase.markTaskAsCompleted(id);
-        return ResponseEntity.ok(convertToDTO(completedTask));
+    public ResponseEntity<TaskDTO> markTaskAsCompleted(@PathVariable String id,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                       @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        Task completedTask = ifMatch(ifMatch, id, () -> taskUseCase.markTaskAsCompleted(id),
+                version -> taskUseCase.markTaskAsCompleted(id, version));
+        return taskResponse(ResponseEntity.ok(), completedTask, accept);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Create tasks in bulk")
+    public ResponseEntity<List<TaskBatchItemDTO>> createTasks(@RequestBody List<@Valid TaskCreateDTO> taskCreateDTOs) {
+        List<Task> tasks = taskCreateDTOs.stream().map(this::convertToEntity).collect(Collectors.toList());
+        return ResponseEntity.ok(convertToDTOs(taskUseCase.createTasks(tasks)));
+    }
+
+    @PutMapping("/batch")
+    @Operation(summary = "Update tasks in bulk")
+    public ResponseEntity<List<TaskBatchItemDTO>> updateTasks(@RequestBody List<@Valid TaskBatchUpdateDTO> taskUpdateDTOs) {
+        List<Task> tasks = taskUpdateDTOs.stream()
+                .map(dto -> new Task(dto.getId(), dto.getTitle(), dto.getDescription(), false, null, null))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(convertToDTOs(taskUseCase.updateTasks(tasks)));
+    }
+
+    @PatchMapping("/batch/complete")
+    @Operation(summary = "Mark tasks as completed in bulk")
+    public ResponseEntity<List<TaskBatchItemDTO>> markTasksAsCompleted(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(convertToDTOs(taskUseCase.markTasksAsCompleted(ids)));
+    }
+
+    @PostMapping("/batch/delete")
+    @Operation(summary = "Delete tasks in bulk")
+    public ResponseEntity<List<TaskBatchItemDTO>> deleteTasks(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(convertToDTOs(taskUseCase.deleteTasks(ids)));
+    }
+
+    private TaskQuery convertToQuery(TaskFilterDTO filter) {
+        return TaskQuery.builder()
+                .completed(filter.getCompleted())
+                .createdFrom(filter.getCreatedFrom())
+                .createdTo(filter.getCreatedTo())
+                .updatedFrom(filter.getUpdatedFrom())
+                .updatedTo(filter.getUpdatedTo())
+                .sortBy(parseSortField(filter.getSort()))
+                .descending(parseDescending(filter.getDirection()))
+                .limit(filter.getLimit())
+                .build();
+    }
+
+    private TaskQuery.SortField parseSortField(String sort) {
+        if (sort == null || sort.equals("updatedAt")) {
+            return TaskQuery.SortField.UPDATED_AT;
+        }
+        if (sort.equals("createdAt")) {
+            return TaskQuery.SortField.CREATED_AT;
+        }
+        throw new InvalidRequestException("Invalid sort field: " + sort);
+    }
+
+    private boolean parseDescending(String direction) {
+        if (direction == null || direction.equalsIgnoreCase("desc")) {
+            return true;
+        }
+        if (direction.equalsIgnoreCase("asc")) {
+            return false;
+        }
+        throw new InvalidRequestException("Invalid sort direction: " + direction);
+    }
+
+    private List<TaskBatchItemDTO> convertToDTOs(List<TaskBatchItemResult> results) {
+        return results.stream()
+                .map(result -> new TaskBatchItemDTO(
+                        result.getIndex(),
+                        result.getId(),
+                        result.isSuccess(),
+                        result.getTask() != null ? convertToDTO(result.getTask()) : null,
+                        result.getError()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Renders {@code task} in the encoding the ETag names. The content type is fixed here rather than left to
+     * the message converters, so the tag always describes the representation actually sent.
+     */
+    private Task ifMatch(String ifMatch, String id, Supplier<Task> unconditional, LongFunction<Task> conditional) {
+        List<Long> versions = TaskETags.expectedVersions(ifMatch, id);
+        if (versions.isEmpty()) {
+            return unconditional.get();
+        }
+        // Each attempt is its own conditional write, so at most one of them can match the current version
+        TaskVersionConflictException conflict = null;
+        for (long version : versions) {
+            try {
+                return conditional.apply(version);
+            } catch (TaskVersionConflictException e) {
+                conflict = e;
+            }
+        }
+        throw conflict;
+    }
+
+    private ResponseEntity<TaskDTO> taskResponse(ResponseEntity.BodyBuilder response, Task task, String accept) {
+        TaskMediaTypes.Negotiated negotiated = TaskMediaTypes.negotiate(accept, MediaType.APPLICATION_JSON);
+        return response.eTag(TaskETags.of(task, negotiated.encoding()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(negotiated.mediaType())
+                .body(convertToDTO(task));
     }
 
     private TaskDTO convertToDTO(Task task) {
@@ -0,0 +1,107 @@
+package com.example.taskmanagement.application.controller;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.exception.TaskVersionConflictException;
+import com.example.taskmanagement.infrastructure.json.TaskTimestamps;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Strong ETags for task representations. A single task's tag is its version, which the store bumps on
+ * every write, followed by the encoding when it isn't plain JSON, so each representation of a version has
+ * its own tag; a rendered list's tag is a digest of its exact bytes.
+ */
+final class TaskETags {
+
+    private static final char ENCODING_SEPARATOR = '-';
+
+    private TaskETags() {
+    }
+
+    /**
+     * Returns the tag for {@code task} rendered in {@code encoding}, or null for a task stored before versioning
+     * was introduced.
+     */
+    static String of(Task task, TaskEncoding encoding) {
+        if (task.getVersion() == null) {
+            return null;
+        }
+        StringBuilder tag = new StringBuilder("\"").append(task.getVersion());
+        if (encoding.getFormat() != TaskEncoding.Format.JSON) {
+            tag.append(ENCODING_SEPARATOR).append(encoding.getFormat().name().toLowerCase(Locale.ROOT));
+        }
+        if (encoding.isEpochMillis()) {
+            tag.append(ENCODING_SEPARATOR).append(TaskTimestamps.EPOCH_MILLIS);
+        }
+        return tag.append('"').toString();
+    }
+
+    static String of(byte[] body) {
+        return "\"" + HexFormat.of().formatHex(sha256().digest(body), 0, 16) + "\"";
+    }
+
+    /**
+     * Weak comparison of {@code etag} against an If-None-Match header, as required for GET.
+     */
+    static boolean noneMatchHits(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaque(tag).equals(opaque(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the versions a write is conditional on from an If-Match header, which matches when any of its
+     * tags names the current version. The tag of any representation of a version names it. Returns an empty
+     * list when there is no condition on the version; a header none of whose tags can name one of our
+     * versions can never match.
+     */
+    static List<Long> expectedVersions(String ifMatch, String id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return List.of();
+        }
+        Set<Long> versions = new LinkedHashSet<>();
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            // If-Match uses strong comparison, so a weak tag never matches
+            if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                String opaque = tag.substring(1, tag.length() - 1);
+                int separator = opaque.indexOf(ENCODING_SEPARATOR);
+                try {
+                    versions.add(Long.parseLong(separator < 0 ? opaque : opaque.substring(0, separator)));
+                } catch (NumberFormatException e) {
+                    // Not one of our tags, so it can't match
+                }
+            }
+        }
+        if (versions.isEmpty()) {
+            throw new TaskVersionConflictException("If-Match " + ifMatch.trim() + " does not match task " + id);
+        }
+        return List.copyOf(versions);
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.taskmanagement.application.controller;
+
+import com.example.taskmanagement.application.sse.TaskEventBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/tasks")
+@RequiredArgsConstructor
+@Tag(name = "Task Management", description = "APIs for managing tasks")
+public class TaskEventController {
+
+    private final TaskEventBroadcaster broadcaster;
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream task changes as Server-Sent Events")
+    public SseEmitter streamEvents() {
+        return broadcaster.subscribe();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.taskmanagement.application.controller;
+
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.infrastructure.json.TaskTimestamps;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Content negotiation for the task list responses that are rendered straight from the store and so bypass
+ * Spring's message converters.
+ */
+final class TaskMediaTypes {
+
+    static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    private TaskMediaTypes() {
+    }
+
+    record Negotiated(MediaType mediaType, TaskEncoding encoding) {
+    }
+
+    /**
+     * Picks CBOR, Smile or {@code json} (plain or newline-delimited JSON) for the {@code Accept} header, in
+     * order of quality and then of appearance. The chosen type keeps a {@code timestamps=epoch-millis}
+     * parameter, so the response says which timestamps it carries.
+     */
+    static Negotiated negotiate(String accept, MediaType json) {
+        if (accept == null || accept.isBlank()) {
+            return new Negotiated(json, TaskEncoding.JSON);
+        }
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            TaskEncoding.Format format = type.includes(json) ? TaskEncoding.Format.JSON
+                    : type.includes(MediaType.APPLICATION_CBOR) ? TaskEncoding.Format.CBOR
+                    : type.includes(APPLICATION_SMILE) ? TaskEncoding.Format.SMILE
+                    : null;
+            if (format != null) {
+                MediaType chosen = switch (format) {
+                    case JSON -> json;
+                    case CBOR -> MediaType.APPLICATION_CBOR;
+                    case SMILE -> APPLICATION_SMILE;
+                };
+                boolean epochMillis = TaskTimestamps.epochMillisRequested(type);
+                if (epochMillis) {
+                    chosen = new MediaType(chosen, Map.of(TaskTimestamps.PARAMETER, TaskTimestamps.EPOCH_MILLIS));
+                }
+                return new Negotiated(chosen, new TaskEncoding(format, epochMillis));
+            }
+        }
+        return new Negotiated(json, TaskEncoding.JSON);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.taskmanagement.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchItemDTO {
+    private int index;
+    private String id;
+    private boolean success;
+    private TaskDTO task;
+    private String error;
+}
@@ -0,0 +1,17 @@
+package com.example.taskmanagement.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeDTO {
+    private String id;
+    private boolean deleted;
+    private TaskDTO task;
+    private LocalDateTime changedAt;
+}
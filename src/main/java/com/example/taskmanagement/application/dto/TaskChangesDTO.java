@@ -0,0 +1,16 @@
+package com.example.taskmanagement.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesDTO {
+    private List<TaskChangeDTO> changes;
+    private String watermark;
+    private boolean hasMore;
+}
@@ -0,0 +1,16 @@
+package com.example.taskmanagement.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEventDTO {
+    private String type;
+    private TaskDTO task;
+    private LocalDateTime occurredAt;
+}
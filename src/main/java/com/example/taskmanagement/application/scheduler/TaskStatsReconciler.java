@@ -0,0 +1,26 @@
+package com.example.taskmanagement.application.scheduler;
+
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.port.in.TaskUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically corrects the incrementally maintained task counts against the store, starting right after
+ * startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskStatsReconciler {
+
+    private final TaskUseCase taskUseCase;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${task.stats.reconcile-interval:60s}")
+    public void reconcile() {
+        TaskStats stats = taskUseCase.reconcileTaskStats();
+        log.debug("Reconciled task stats: {} total, {} completed", stats.getTotal(), stats.getCompleted());
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.taskmanagement.application.scheduler;
+
+import com.example.taskmanagement.domain.port.in.TaskUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops deletion tombstones once they fall out of the delta sync retention window.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskTombstonePurger {
+
+    private final TaskUseCase taskUseCase;
+
+    @Scheduled(fixedDelayString = "${task.changes.purge-interval:1h}")
+    public void purge() {
+        long purged = taskUseCase.purgeExpiredTombstones();
+        log.debug("Purged {} expired task tombstones", purged);
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.taskmanagement.application.sse;
+
+import com.example.taskmanagement.application.dto.TaskDTO;
+import com.example.taskmanagement.application.dto.TaskEventDTO;
+import com.example.taskmanagement.config.TaskEventProperties;
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskEvent;
+import com.example.taskmanagement.domain.port.out.TaskEventPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans task events out to Server-Sent Events subscribers. Each event is serialized once and offered to a
+ * bounded per-subscriber queue, so publishing never waits on a client. Queues are drained on virtual threads,
+ * one drain at a time per subscriber. A subscriber whose queue overflows loses its backlog and receives a
+ * single {@code resync} event telling it to reload instead.
+ */
+@Slf4j
+@Component
+public class TaskEventBroadcaster implements TaskEventPublisher {
+
+    private static final Frame HEARTBEAT = new Frame(null, null, null);
+    private static final Frame RESYNC = new Frame(null, "resync", "{}");
+
+    private final ObjectMapper objectMapper;
+    private final TaskEventProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Counter droppedEvents;
+
+    public TaskEventBroadcaster(ObjectMapper objectMapper, TaskEventProperties properties, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.droppedEvents = Counter.builder("task.events.dropped")
+                .description("Events discarded because a subscriber fell too far behind")
+                .register(meterRegistry);
+        Gauge.builder("task.events.subscribers", subscribers, Set::size)
+                .description("Open task event streams")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(properties.getTimeout().toMillis()));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, properties.getBufferSize());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @Override
+    public void publish(TaskEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(convertToDTO(event));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize {} event for task {}", event.getType(), event.getTask().getId(), e);
+            return;
+        }
+        Frame frame = new Frame(Long.toString(sequence.incrementAndGet()), event.getType().name().toLowerCase(), data);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(frame);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${task.events.heartbeat-interval:15s}")
+    public void sendHeartbeats() {
+        // Keeps idle connections open through proxies and surfaces clients that went away
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(HEARTBEAT);
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        deliveryExecutor.shutdownNow();
+    }
+
+    private TaskEventDTO convertToDTO(TaskEvent event) {
+        Task task = event.getTask();
+        TaskDTO taskDTO = new TaskDTO(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.isCompleted(),
+                task.getCreatedAt(),
+                task.getUpdatedAt()
+        );
+        return new TaskEventDTO(event.getType().name(), taskDTO, event.getOccurredAt());
+    }
+
+    private record Frame(String id, String name, String data) {
+
+        private SseEmitter.SseEventBuilder toEvent() {
+            if (data == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event();
+            if (id != null) {
+                event.id(id);
+            }
+            return event.name(name).data(data);
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Frame> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void offer(Frame frame) {
+            if (!queue.offer(frame)) {
+                int dropped = queue.size() + 1;
+                queue.clear();
+                queue.offer(RESYNC);
+                droppedEvents.increment(dropped);
+            }
+            if (draining.compareAndSet(false, true)) {
+                deliveryExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    Frame frame;
+                    while ((frame = queue.poll()) != null) {
+                        emitter.send(frame.toEvent());
+                    }
+                    draining.set(false);
+                    // Re-check: an offer may have landed after the last poll but before the flag was cleared
+                } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                emitter.complete();
+            }
+        }
+    }
+}
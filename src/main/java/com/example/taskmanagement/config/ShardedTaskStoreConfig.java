@@ -0,0 +1,45 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import com.example.taskmanagement.infrastructure.sharding.ShardedTaskRepository;
+import com.example.taskmanagement.infrastructure.sharding.TaskShardEndpoint;
+import com.example.taskmanagement.infrastructure.sharding.TaskShardFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Task store for the {@code sharded} profile: tasks spread over the stores listed under
+ * {@code task.sharding.shards} by consistent hashing of their ids, with shards added at runtime through
+ * the {@code taskshards} actuator endpoint.
+ */
+@Configuration
+@Profile("sharded")
+@EnableConfigurationProperties(TaskShardingProperties.class)
+public class ShardedTaskStoreConfig {
+
+    @Bean
+    public TaskShardFactory taskShardFactory(TaskShardingProperties properties) {
+        return new TaskShardFactory(properties.getStore() == TaskShardingProperties.Store.IN_MEMORY);
+    }
+
+    @Bean
+    @Qualifier("taskStore")
+    public ShardedTaskRepository shardedTaskStore(TaskShardingProperties properties, TaskShardFactory shardFactory) {
+        Map<String, TaskRepository> shards = new LinkedHashMap<>();
+        for (TaskShardingProperties.Shard shard : properties.getShards()) {
+            shards.put(shard.getName(), shardFactory.create(shard.getName(), shard.getUri()));
+        }
+        return new ShardedTaskRepository(shards, properties.getVirtualNodes());
+    }
+
+    @Bean
+    public TaskShardEndpoint taskShardEndpoint(ShardedTaskRepository shardedTaskStore, TaskShardFactory shardFactory) {
+        return new TaskShardEndpoint(shardedTaskStore, shardFactory);
+    }
+}
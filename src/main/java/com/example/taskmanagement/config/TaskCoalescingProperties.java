@@ -0,0 +1,10 @@
+package com.example.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "task.coalescing")
+public class TaskCoalescingProperties {
+    private boolean enabled = true;
+}
@@ -0,0 +1,34 @@
+package com.example.taskmanagement.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "task.concurrency-limit")
+public class TaskConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private Budget reads = new Budget(50, 10, 400);
+    private Budget writes = new Budget(20, 5, 200);
+    /**
+     * How far recent latency may rise above the long-term average before the limits shrink.
+     */
+    private double tolerance = 1.5;
+    /**
+     * Weight of each new limit estimate; lower values react more slowly but jitter less.
+     */
+    private double smoothing = 0.2;
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Budget {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+    }
+}
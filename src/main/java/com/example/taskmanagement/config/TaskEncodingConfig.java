@@ -0,0 +1,61 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.infrastructure.json.TaskTimestamps;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Message converters for the API's encodings: JSON, plus CBOR and Smile for service-to-service callers.
+ * The binary mappers are built from the same Spring Boot Jackson settings as the JSON one, and all three
+ * write epoch-millisecond timestamps when the negotiated media type carries
+ * {@code timestamps=epoch-millis}.
+ */
+@Configuration
+public class TaskEncodingConfig {
+
+    @Bean
+    public Module taskTimestampsModule() {
+        return TaskTimestamps.module();
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter taskJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType mediaType) {
+                return TaskTimestamps.customize(super.customizeWriter(writer, javaType, mediaType), mediaType);
+            }
+        };
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter taskCborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build()) {
+            @Override
+            protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType mediaType) {
+                return TaskTimestamps.customize(super.customizeWriter(writer, javaType, mediaType), mediaType);
+            }
+        };
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter taskSmileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build()) {
+            @Override
+            protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType mediaType) {
+                return TaskTimestamps.customize(super.customizeWriter(writer, javaType, mediaType), mediaType);
+            }
+        };
+    }
+}
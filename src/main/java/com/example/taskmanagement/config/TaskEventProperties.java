@@ -0,0 +1,20 @@
+package com.example.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "task.events")
+public class TaskEventProperties {
+    /**
+     * Events buffered per subscriber before it is treated as a slow consumer.
+     */
+    private int bufferSize = 256;
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    /**
+     * How long a stream stays open before the client has to reconnect.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+}
@@ -0,0 +1,17 @@
+package com.example.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "task.file")
+public class TaskFileStoreProperties {
+    private Path directory = Path.of("data");
+    private boolean syncWrites = true;
+    private Duration fsyncInterval = Duration.ofMillis(2);
+    private int initialLogSize = 16 * 1024 * 1024;
+    private int compactionThreshold = 64 * 1024 * 1024;
+}
@@ -0,0 +1,93 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import com.example.taskmanagement.infrastructure.adapter.TaskAdapter;
+import com.example.taskmanagement.infrastructure.replica.LaggingReplicaTaskRepository;
+import com.example.taskmanagement.infrastructure.replica.ReadYourWrites;
+import com.example.taskmanagement.infrastructure.replica.ReadYourWritesFilter;
+import com.example.taskmanagement.infrastructure.replica.ReplicaRouter;
+import com.example.taskmanagement.infrastructure.repository.TaskInfraRepository;
+import com.mongodb.ReadPreference;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Read replicas for {@link TaskRepositoryConfig} to route task reads to. With Mongo the replica is a
+ * second {@link TaskAdapter} reading from secondaries no staler than {@code task.replica.max-staleness};
+ * with {@code task.replica.simulated-lag} set it is an in-process copy trailing the store instead.
+ */
+@Configuration
+@ConditionalOnProperty(name = "task.replica.enabled", havingValue = "true")
+public class TaskReplicaConfig {
+
+    /**
+     * A client that just wrote is routed to any replica within the staleness bound once its window closes,
+     * so a window shorter than that bound could show it a replica that hasn't caught up with its write.
+     */
+    @Bean
+    public ReadYourWrites readYourWrites(TaskReplicaProperties properties) {
+        if (properties.getReadYourWritesWindow().compareTo(properties.getMaxStaleness()) < 0) {
+            throw new IllegalStateException("task.replica.read-your-writes-window ("
+                    + properties.getReadYourWritesWindow() + ") must be at least task.replica.max-staleness ("
+                    + properties.getMaxStaleness() + ")");
+        }
+        return new ReadYourWrites(properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    public ReplicaRouter replicaRouter(@Qualifier("taskReplica") TaskRepository taskReplica,
+                                       ReadYourWrites readYourWrites,
+                                       TaskReplicaProperties properties,
+                                       MeterRegistry meterRegistry) {
+        // Mongo enforces the staleness bound itself when picking a secondary
+        Supplier<Duration> replicaLag = taskReplica instanceof LaggingReplicaTaskRepository lagging
+                ? lagging::lag
+                : () -> Duration.ZERO;
+        return new ReplicaRouter(readYourWrites, properties.getMaxStaleness(), replicaLag, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadYourWrites readYourWrites) {
+        return new ReadYourWritesFilter(readYourWrites);
+    }
+
+    @Bean
+    @Qualifier("taskReplica")
+    public TaskRepository taskReplica(@Qualifier("taskStore") TaskRepository taskStore,
+                                      ObjectProvider<MongoTemplate> mongoTemplate,
+                                      TaskReplicaProperties properties,
+                                      MeterRegistry meterRegistry) {
+        if (properties.getSimulatedLag() != null) {
+            LaggingReplicaTaskRepository replica = new LaggingReplicaTaskRepository(taskStore, properties.getSimulatedLag());
+            replica.start();
+            Gauge.builder("task.replica.lag", replica, lagging -> lagging.lag().toMillis())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            return replica;
+        }
+        MongoTemplate primaryTemplate = mongoTemplate.getIfAvailable();
+        if (!(taskStore instanceof TaskAdapter) || primaryTemplate == null) {
+            throw new IllegalStateException(
+                    "Task replicas need the Mongo store; set task.replica.simulated-lag to simulate one");
+        }
+        // Same database and mapping, but finds go to a secondary within the staleness bound when there is one
+        MongoTemplate replicaTemplate = new MongoTemplate(primaryTemplate.getMongoDatabaseFactory(),
+                primaryTemplate.getConverter());
+        replicaTemplate.setReadPreference(ReadPreference.secondaryPreferred(
+                properties.getMaxStaleness().toSeconds(), TimeUnit.SECONDS));
+        TaskInfraRepository replicaRepository = new MongoRepositoryFactory(replicaTemplate)
+                .getRepository(TaskInfraRepository.class);
+        return new TaskAdapter(replicaRepository, replicaTemplate);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "task.replica")
+public class TaskReplicaProperties {
+    private boolean enabled = false;
+    /**
+     * How far behind the primary a replica may be and still serve reads. Mongo accepts nothing below 90s.
+     */
+    private Duration maxStaleness = Duration.ofSeconds(90);
+    /**
+     * How long a client's reads go to the primary after it changed a task, so it sees its own writes. Must
+     * be at least {@link #maxStaleness}, since any replica within that bound may serve the client afterwards.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(90);
+    /**
+     * Replaces the Mongo secondaries with an in-process replica that trails the store by this much, for
+     * stores without replicas and for trying routing out locally.
+     */
+    private Duration simulatedLag;
+}
@@ -0,0 +1,142 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import com.example.taskmanagement.infrastructure.adapter.LatencyInjectingTaskRepository;
+import com.example.taskmanagement.infrastructure.adapter.MongoTaskReadAdapter;
+import com.example.taskmanagement.infrastructure.cache.CachingTaskRepository;
+import com.example.taskmanagement.infrastructure.coalescing.CoalescingTaskReadRepository;
+import com.example.taskmanagement.infrastructure.coalescing.CoalescingTaskRepository;
+import com.example.taskmanagement.infrastructure.metrics.MeteredTaskRepository;
+import com.example.taskmanagement.infrastructure.replica.ReplicaRouter;
+import com.example.taskmanagement.infrastructure.replica.ReplicaRoutingTaskRepository;
+import com.example.taskmanagement.infrastructure.search.IndexingTaskRepository;
+import com.example.taskmanagement.infrastructure.search.InvertedTaskSearchIndex;
+import com.example.taskmanagement.infrastructure.search.TaskSearchIndexRebuilder;
+import com.example.taskmanagement.infrastructure.writebehind.WriteBehindTaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+/**
+ * Assembles the {@link TaskRepository} the domain sees: the persistence adapter wrapped in the
+ * optional decorators enabled through configuration. Persistence adapters qualify themselves as
+ * {@code taskStore} and are selected by profile: Mongo by default, {@code in-memory}, {@code file} or
+ * {@code sharded}. Reads are split off to a {@code taskReplica} when {@link TaskReplicaConfig} provides one.
+ */
+@Configuration
+@EnableConfigurationProperties({TaskCacheProperties.class, TaskCoalescingProperties.class, TaskFileStoreProperties.class,
+        TaskReplicaProperties.class, TaskWriteBehindProperties.class})
+public class TaskRepositoryConfig {
+
+    /**
+     * Search index built from the store at startup, before the application takes traffic, and kept
+     * current by {@link IndexingTaskRepository} and {@link TaskSearchIndexRebuilder} afterwards.
+     */
+    @Bean
+    public InvertedTaskSearchIndex taskSearchIndex(@Qualifier("taskStore") TaskRepository taskStore) {
+        InvertedTaskSearchIndex searchIndex = new InvertedTaskSearchIndex();
+        try (Stream<Task> tasks = taskStore.streamAll()) {
+            searchIndex.rebuild(tasks);
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Reads the tasks to rebuild from under the write-behind queue, which makes the read wait for queued writes.
+     */
+    @Bean
+    public TaskSearchIndexRebuilder taskSearchIndexRebuilder(@Qualifier("taskStore") TaskRepository taskStore,
+                                                             ObjectProvider<WriteBehindTaskRepository> writeBehind,
+                                                             InvertedTaskSearchIndex searchIndex) {
+        TaskRepository source = writeBehind.getIfAvailable();
+        return new TaskSearchIndexRebuilder(source != null ? source : taskStore, searchIndex);
+    }
+
+    /**
+     * Optional write-behind queue in front of the store. A bean of its own so it is flushed and stopped on
+     * shutdown, and so readers that bypass the repository can wait for its queued writes.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "task.write-behind.enabled", havingValue = "true")
+    public WriteBehindTaskRepository writeBehindTaskRepository(@Qualifier("taskStore") TaskRepository taskStore,
+                                                               TaskWriteBehindProperties properties,
+                                                               MeterRegistry meterRegistry,
+                                                               @Value("${task.simulated-latency:0ms}") Duration simulatedLatency) {
+        WriteBehindTaskRepository writeBehind = WriteBehindTaskRepository.start(
+                withSimulatedLatency(taskStore, simulatedLatency), properties.getFlushInterval(),
+                properties.getMaxBatchSize(), properties.getMaxPending(), properties.getDurability());
+        Gauge.builder("task.write-behind.pending", writeBehind, WriteBehindTaskRepository::pendingCount)
+                .register(meterRegistry);
+        return writeBehind;
+    }
+
+    /**
+     * Coalesces list renders of the Mongo read adapter, which reads the collection directly and so never passes
+     * through {@link CoalescingTaskRepository}. The in-process stores render from the repository chain, where
+     * the queries are already coalesced.
+     */
+    @Bean
+    @Primary
+    @Profile("!in-memory & !file & !sharded")
+    @ConditionalOnProperty(name = "task.coalescing.enabled", havingValue = "true", matchIfMissing = true)
+    public CoalescingTaskReadRepository coalescingTaskReadRepository(MongoTaskReadAdapter mongoTaskReadAdapter,
+                                                                     MeterRegistry meterRegistry) {
+        return new CoalescingTaskReadRepository(mongoTaskReadAdapter, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public TaskRepository taskRepository(@Qualifier("taskStore") TaskRepository taskStore,
+                                         ObjectProvider<WriteBehindTaskRepository> writeBehind,
+                                         @Qualifier("taskReplica") ObjectProvider<TaskRepository> replica,
+                                         ObjectProvider<ReplicaRouter> replicaRouter,
+                                         InvertedTaskSearchIndex searchIndex,
+                                         TaskCacheProperties cacheProperties,
+                                         TaskCoalescingProperties coalescingProperties,
+                                         ObjectProvider<CoalescingTaskReadRepository> renderedLists,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${task.simulated-latency:0ms}") Duration simulatedLatency) {
+        // Write-behind sits under the search index and cache so both see writes as soon as they are queued
+        TaskRepository repository = writeBehind.getIfAvailable();
+        if (repository == null) {
+            repository = withSimulatedLatency(taskStore, simulatedLatency);
+        }
+        repository = new IndexingTaskRepository(repository, searchIndex);
+        // Under the cache, so concurrent misses for the same task share one store lookup
+        if (coalescingProperties.isEnabled()) {
+            repository = new CoalescingTaskRepository(repository, meterRegistry, renderedLists.getIfAvailable());
+        }
+        if (cacheProperties.isEnabled()) {
+            CachingTaskRepository cachingRepository = new CachingTaskRepository(
+                    repository, cacheProperties.getMaximumSize(), cacheProperties.getTtl());
+            CaffeineCacheMetrics.monitor(meterRegistry, cachingRepository.nativeCache(), "tasks");
+            repository = cachingRepository;
+        }
+        // Over the cache, so replica reads never fill it with stale tasks, and under metrics so task.repository
+        // still covers every call
+        TaskRepository taskReplica = replica.getIfAvailable();
+        if (taskReplica != null) {
+            repository = new ReplicaRoutingTaskRepository(repository,
+                    withSimulatedLatency(taskReplica, simulatedLatency), replicaRouter.getObject());
+        }
+        // Outermost, so latency is measured as the domain experiences it
+        return new MeteredTaskRepository(repository, meterRegistry);
+    }
+
+    private static TaskRepository withSimulatedLatency(TaskRepository taskStore, Duration simulatedLatency) {
+        return simulatedLatency.isZero() ? taskStore : new LatencyInjectingTaskRepository(taskStore, simulatedLatency);
+    }
+}
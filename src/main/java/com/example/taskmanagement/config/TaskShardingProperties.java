@@ -0,0 +1,36 @@
+package com.example.taskmanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "task.sharding")
+public class TaskShardingProperties {
+
+    public enum Store {
+        MONGO,
+        /**
+         * In-process stand-ins for local runs and tests; shard URIs are ignored.
+         */
+        IN_MEMORY
+    }
+
+    private Store store = Store.MONGO;
+    /**
+     * Points each shard takes on the hash ring; more points spread tasks more evenly.
+     */
+    private int virtualNodes = 128;
+    private List<Shard> shards = new ArrayList<>();
+
+    @Data
+    public static class Shard {
+        private String name;
+        /**
+         * Mongo connection string including the database, e.g. {@code mongodb://host:27017/taskdb}.
+         */
+        private String uri;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.domain.port.in.TaskReadUseCase;
+import com.example.taskmanagement.domain.port.in.TaskUseCase;
+import com.example.taskmanagement.domain.service.TaskReadService;
+import com.example.taskmanagement.domain.service.TaskService;
+import com.example.taskmanagement.infrastructure.limit.AdaptiveConcurrencyLimiter;
+import com.example.taskmanagement.infrastructure.limit.ConcurrencyLimitedTaskReadUseCase;
+import com.example.taskmanagement.infrastructure.limit.ConcurrencyLimitedTaskUseCase;
+import com.example.taskmanagement.infrastructure.metrics.MeteredTaskReadUseCase;
+import com.example.taskmanagement.infrastructure.metrics.MeteredTaskUseCase;
+import com.example.taskmanagement.infrastructure.replica.ReadYourWrites;
+import com.example.taskmanagement.infrastructure.replica.ReadYourWritesTaskUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Assembles the {@link TaskUseCase} and {@link TaskReadUseCase} the web layer sees: the domain services
+ * wrapped in cross-cutting decorators.
+ */
+@Configuration
+@EnableConfigurationProperties({TaskEventProperties.class, TaskConcurrencyLimitProperties.class})
+public class TaskUseCaseConfig {
+
+    /**
+     * The read budget, shared by both use cases so task lists and single-task reads are shed against one limit.
+     */
+    @Bean
+    @Qualifier("taskReads")
+    public AdaptiveConcurrencyLimiter taskReadLimiter(TaskConcurrencyLimitProperties limitProperties) {
+        return limiter(limitProperties.getReads(), limitProperties);
+    }
+
+    @Bean
+    @Primary
+    public TaskUseCase taskUseCase(TaskService taskService, TaskConcurrencyLimitProperties limitProperties,
+                                   @Qualifier("taskReads") AdaptiveConcurrencyLimiter readLimiter,
+                                   ObjectProvider<ReadYourWrites> readYourWrites, MeterRegistry meterRegistry) {
+        TaskUseCase useCase = taskService;
+        // Innermost, so a change is recorded only once it reached the domain
+        ReadYourWrites recentWriters = readYourWrites.getIfAvailable();
+        if (recentWriters != null) {
+            useCase = new ReadYourWritesTaskUseCase(useCase, recentWriters);
+        }
+        if (limitProperties.isEnabled()) {
+            useCase = new ConcurrencyLimitedTaskUseCase(useCase, readLimiter,
+                    limiter(limitProperties.getWrites(), limitProperties),
+                    limitProperties.getRetryAfter(), meterRegistry);
+        }
+        // Outermost, so rejected calls show up in task.usecase.errors
+        return new MeteredTaskUseCase(useCase, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public TaskReadUseCase taskReadUseCase(TaskReadService taskReadService, TaskConcurrencyLimitProperties limitProperties,
+                                           @Qualifier("taskReads") AdaptiveConcurrencyLimiter readLimiter,
+                                           MeterRegistry meterRegistry) {
+        TaskReadUseCase useCase = taskReadService;
+        if (limitProperties.isEnabled()) {
+            useCase = new ConcurrencyLimitedTaskReadUseCase(useCase, readLimiter, limitProperties.getRetryAfter(),
+                    meterRegistry);
+        }
+        return new MeteredTaskReadUseCase(useCase, meterRegistry);
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(TaskConcurrencyLimitProperties.Budget budget,
+                                                      TaskConcurrencyLimitProperties properties) {
+        return new AdaptiveConcurrencyLimiter(budget.getInitialLimit(), budget.getMinLimit(), budget.getMaxLimit(),
+                properties.getTolerance(), properties.getSmoothing());
+    }
+}
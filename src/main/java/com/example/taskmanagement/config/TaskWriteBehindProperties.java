@@ -0,0 +1,17 @@
+package com.example.taskmanagement.config;
+
+import com.example.taskmanagement.infrastructure.writebehind.WriteBehindTaskRepository;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "task.write-behind")
+public class TaskWriteBehindProperties {
+    private boolean enabled = false;
+    private Duration flushInterval = Duration.ofMillis(10);
+    private int maxBatchSize = 1000;
+    private int maxPending = 10_000;
+    private WriteBehindTaskRepository.Durability durability = WriteBehindTaskRepository.Durability.ENQUEUED;
+}
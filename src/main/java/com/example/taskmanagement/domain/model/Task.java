@@ -1,12 +1,14 @@
 package com.example.taskmanagement.domain.model;
 
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
@@ -16,5 +18,15 @@ public class Task {
     private boolean completed;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    /**
+     * Incremented by the store on every write. On an update, a non-null version makes the write
+     * conditional on the stored task still being at that version.
+     */
+    private Long version;
+
+    public Task(String id, String title, String description, boolean completed,
+                LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, description, completed, createdAt, updatedAt, null);
+    }
 }
 
@@ -0,0 +1,34 @@
+package com.example.taskmanagement.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchItemResult {
+    private int index;
+    private String id;
+    private Task task;
+    private String error;
+
+    public static TaskBatchItemResult success(int index, Task task) {
+        return new TaskBatchItemResult(index, task.getId(), task, null);
+    }
+
+    public static TaskBatchItemResult failure(int index, String id, String error) {
+        return new TaskBatchItemResult(index, id, null, error);
+    }
+
+    /**
+     * For an update of a task that was deleted or changed after the caller read it.
+     */
+    public static TaskBatchItemResult stale(int index, String id) {
+        return failure(index, id, "Task " + id + " was deleted or changed since it was read");
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanagement.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of a delta sync: the current state of a created or updated task, or a deletion.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChange {
+    private String id;
+    private boolean deleted;
+    private Task task;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,16 @@
+package com.example.taskmanagement.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeSet {
+    private List<TaskChange> changes;
+    private String watermark;
+    private boolean hasMore;
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanagement.domain.model;
+
+import lombok.Value;
+
+/**
+ * Wire encoding of rendered tasks: the data format, and whether timestamps are written as ISO-8601 local
+ * date-times, as the JSON API has always returned them, or as epoch milliseconds.
+ */
+@Value
+public class TaskEncoding {
+
+    public static final TaskEncoding JSON = new TaskEncoding(Format.JSON, false);
+
+    public enum Format {
+        JSON,
+        CBOR,
+        SMILE
+    }
+
+    Format format;
+    boolean epochMillis;
+}
@@ -0,0 +1,31 @@
+package com.example.taskmanagement.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change to one task. {@code task} is the state after the change, or the removed task for deletions.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        COMPLETED,
+        DELETED
+    }
+
+    private Type type;
+    private Task task;
+    private LocalDateTime occurredAt;
+
+    public static TaskEvent of(Type type, Task task) {
+        return new TaskEvent(type, task, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.taskmanagement.domain.model;
+
+/**
+ * Wire layout of a rendered task list: a single JSON array, or one JSON object per line.
+ */
+public enum TaskListFormat {
+    JSON_ARRAY,
+    NDJSON
+}
@@ -0,0 +1,15 @@
+package com.example.taskmanagement.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPage {
+    private List<Task> tasks;
+    private String nextCursor;
+}
@@ -0,0 +1,35 @@
+package com.example.taskmanagement.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filter and sort criteria for listing tasks. Null criteria match everything; time ranges include their
+ * lower bound and exclude their upper bound. Ties on the sort field are broken by id.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskQuery {
+
+    public enum SortField {
+        CREATED_AT,
+        UPDATED_AT
+    }
+
+    private Boolean completed;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+    private LocalDateTime updatedFrom;
+    private LocalDateTime updatedTo;
+    @Builder.Default
+    private SortField sortBy = SortField.UPDATED_AT;
+    @Builder.Default
+    private boolean descending = true;
+    private Integer limit;
+}
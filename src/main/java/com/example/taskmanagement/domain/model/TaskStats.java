@@ -0,0 +1,17 @@
+package com.example.taskmanagement.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStats {
+    private long total;
+    private long completed;
+
+    public long getPending() {
+        return total - completed;
+    }
+}
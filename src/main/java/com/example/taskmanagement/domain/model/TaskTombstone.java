@@ -0,0 +1,18 @@
+package com.example.taskmanagement.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record that the task with {@code id} was deleted, kept so sync clients can learn about deletions.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstone {
+    private String id;
+    private LocalDateTime deletedAt;
+}
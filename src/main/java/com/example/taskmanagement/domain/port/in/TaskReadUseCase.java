@@ -0,0 +1,11 @@
+package com.example.taskmanagement.domain.port.in;
+
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.example.taskmanagement.domain.model.TaskQuery;
+
+import java.io.OutputStream;
+
+public interface TaskReadUseCase {
+    long writeTasks(TaskQuery query, TaskListFormat format, TaskEncoding encoding, OutputStream out);
+}
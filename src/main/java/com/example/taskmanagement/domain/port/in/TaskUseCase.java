@@ -1,16 +1,35 @@
 package com.example.taskmanagement.domain.port.in;
 
 import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskChangeSet;
+import com.example.taskmanagement.domain.model.TaskPage;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TaskUseCase {
     Task createTask(Task task);
     Optional<Task> getTaskById(String id);
     List<Task> getAllTasks();
+    List<Task> findTasks(TaskQuery query);
+    List<Task> searchTasks(String query, int limit);
+    TaskStats getTaskStats();
+    TaskStats reconcileTaskStats();
+    TaskChangeSet getChangesSince(String watermark, int limit);
+    long purgeExpiredTombstones();
+    TaskPage getTaskPage(String cursor, int size);
+    Stream<Task> exportTasks();
     Task updateTask(Task task);
     void deleteTask(String id);
     Task markTaskAsCompleted(String id);
+    Task markTaskAsCompleted(String id, long expectedVersion);
+    List<TaskBatchItemResult> createTasks(List<Task> tasks);
+    List<TaskBatchItemResult> updateTasks(List<Task> tasks);
+    List<TaskBatchItemResult> markTasksAsCompleted(List<String> ids);
+    List<TaskBatchItemResult> deleteTasks(List<String> ids);
 }
 
@@ -0,0 +1,10 @@
+package com.example.taskmanagement.domain.port.out;
+
+import com.example.taskmanagement.domain.model.TaskEvent;
+
+/**
+ * Receives every task change once the write has succeeded. Implementations must not block the caller.
+ */
+public interface TaskEventPublisher {
+    void publish(TaskEvent event);
+}
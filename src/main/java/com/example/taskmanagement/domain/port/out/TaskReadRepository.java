@@ -0,0 +1,22 @@
+package com.example.taskmanagement.domain.port.out;
+
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.example.taskmanagement.domain.model.TaskQuery;
+
+import java.io.OutputStream;
+
+/**
+ * Read side of the task store for large list responses. Tasks are rendered from their stored form straight
+ * into the API's task representation, in the requested encoding, without materializing a store entity, a {@code Task} and a DTO
+ * per task on the way.
+ */
+public interface TaskReadRepository {
+
+    /**
+     * Writes the tasks matching {@code query} in its order, or every task in store order when the query is
+     * null, to {@code out} and returns how many were written. {@code out} is flushed but left open; write
+     * failures surface as {@link java.io.UncheckedIOException}.
+     */
+    long writeTasks(TaskQuery query, TaskListFormat format, TaskEncoding encoding, OutputStream out);
+}
@@ -1,14 +1,122 @@
 package com.example.taskmanagement.domain.port.out;
 
 import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.model.TaskTombstone;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TaskRepository {
     Task save(Task task);
     Optional<Task> findById(String id);
     List<Task> findAll();
+
+    /**
+     * Returns up to {@code limit} tasks ordered by id, starting right after {@code afterId}
+     * (or from the beginning when {@code afterId} is null).
+     */
+    List<Task> findPageAfter(String afterId, int limit);
+
+    /**
+     * Lazily streams every task from the underlying store. The stream holds a database
+     * cursor open and must be closed by the caller.
+     */
+    Stream<Task> streamAll();
+
+    /**
+     * Returns the tasks matching {@code query}, filtered and sorted by the store so only matching
+     * tasks are read.
+     */
+    List<Task> findByQuery(TaskQuery query);
+
+    /**
+     * Counts all tasks and completed tasks in the store. Meant for periodic reconciliation, not request paths.
+     */
+    TaskStats countTasks();
+
+    /**
+     * Returns up to {@code limit} tasks ordered by updatedAt then id, positioned strictly after
+     * ({@code after}, {@code afterId}) and updated strictly before {@code before}. A null {@code after}
+     * starts from the oldest change; a null {@code afterId} includes every task updated at {@code after}.
+     */
+    List<Task> findUpdatedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit);
+
+    /**
+     * Same bounds and ordering as {@link #findUpdatedBetween}, over the tombstones left by deletions.
+     */
+    List<TaskTombstone> findDeletedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit);
+
+    /**
+     * Drops tombstones of deletions before {@code cutoff} and returns how many were removed.
+     */
+    long purgeTombstonesBefore(LocalDateTime cutoff);
+
+    /**
+     * The time from which every deletion is known to have left a tombstone, unless purged since.
+     */
+    LocalDateTime tombstonesKeptSince();
+
+    /**
+     * Saves every task in as few round trips as the store allows. The result list has one entry
+     * per input task, in input order, carrying either the saved task or the error for that item.
+     * <p>
+     * Tasks without an id are inserted. A task with an id replaces the title, description and completion of
+     * the stored task only while that task is still at the task's version; otherwise the item fails with
+     * {@link TaskBatchItemResult#stale}, so a batch built from an earlier read never brings back a deleted
+     * task or overwrites a concurrent change.
+     */
+    List<TaskBatchItemResult> saveAll(List<Task> tasks);
+
+    /**
+     * Stores every task exactly as given, id, timestamps and version included, replacing any task with
+     * the same id, in as few round trips as the store allows. Meant for writing back state that was
+     * already computed and handed to callers, such as a write-behind flush.
+     */
+    void putAll(Collection<Task> tasks);
+
+    List<Task> findAllById(Collection<String> ids);
+
+    /**
+     * Deletes the tasks with the given ids in as few round trips as the store allows and returns the tasks
+     * that were actually removed, in no particular order. Ids that matched nothing leave no tombstone.
+     */
+    List<Task> deleteAllById(Collection<String> ids);
     void deleteById(String id);
+
+    /**
+     * Atomically applies the title and description of {@code task} to the stored task with the same id.
+     * Returns the updated task, or empty when no task has that id.
+     */
+    Optional<Task> updateIfExists(Task task);
+
+    /**
+     * Atomically transitions a pending task to completed. Returns the updated task, or empty when
+     * no pending task has that id (it does not exist or is already completed).
+     */
+    Optional<Task> markCompleted(String id);
+
+    /**
+     * As {@link #markCompleted(String)}, but only while the task is still at {@code expectedVersion}.
+     * Returns empty when it does not exist, is already completed or has moved to another version.
+     */
+    Optional<Task> markCompleted(String id, long expectedVersion);
+
+    /**
+     * Atomically transitions every pending task among {@code ids} to completed, in as few round trips as
+     * the store allows. Returns the tasks this call completed, in no particular order; ids missing from the
+     * result did not exist or were already completed.
+     */
+    List<Task> markAllCompleted(Collection<String> ids);
+
+    /**
+     * Atomically deletes the task with the given id and returns it, or empty when nothing matched.
+     */
+    Optional<Task> findAndDeleteById(String id);
 }
 
@@ -0,0 +1,31 @@
+package com.example.taskmanagement.domain.port.out;
+
+import com.example.taskmanagement.domain.model.Task;
+
+import java.util.List;
+
+/**
+ * Full-text index over task titles and descriptions. Implementations are kept current by the write
+ * path; {@link #index} replaces whatever was indexed for the same id.
+ * <p>
+ * Writes reach the index after the store, in no particular order, so versioned changes are ordered by
+ * version: a task at or below the version last indexed or removed for its id is ignored.
+ */
+public interface TaskSearchIndex {
+    void index(Task task);
+
+    /**
+     * Removes the task with {@code id}, which was at {@code version} when it was deleted, or null when
+     * that isn't known.
+     */
+    void remove(String id, Long version);
+
+    default void remove(String id) {
+        remove(id, null);
+    }
+
+    /**
+     * Returns the ids of at most {@code limit} tasks matching any term of {@code query}, most relevant first.
+     */
+    List<String> search(String query, int limit);
+}
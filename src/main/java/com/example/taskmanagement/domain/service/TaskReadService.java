@@ -0,0 +1,26 @@
+package com.example.taskmanagement.domain.service;
+
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.port.in.TaskReadUseCase;
+import com.example.taskmanagement.domain.port.out.TaskReadRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.OutputStream;
+
+@Service
+@RequiredArgsConstructor
+public class TaskReadService implements TaskReadUseCase {
+
+    private final TaskReadRepository taskReadRepository;
+
+    @Override
+    public long writeTasks(TaskQuery query, TaskListFormat format, TaskEncoding encoding, OutputStream out) {
+        if (query != null) {
+            TaskRules.checkQuery(query);
+        }
+        return taskReadRepository.writeTasks(query, format, encoding, out);
+    }
+}
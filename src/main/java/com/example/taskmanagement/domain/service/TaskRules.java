@@ -0,0 +1,39 @@
+package com.example.taskmanagement.domain.service;
+
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.exception.InvalidRequestException;
+import com.example.taskmanagement.exception.TaskNotFoundException;
+import com.example.taskmanagement.exception.TaskVersionConflictException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain rules shared by the task services so they can't drift apart.
+ */
+final class TaskRules {
+
+    private TaskRules() {
+    }
+
+    static TaskNotFoundException notFound(String id) {
+        return new TaskNotFoundException("Task not found with id: " + id);
+    }
+
+    static TaskVersionConflictException versionConflict(String id, long expectedVersion) {
+        return new TaskVersionConflictException("Task " + id + " is no longer at version " + expectedVersion);
+    }
+
+    static void checkQuery(TaskQuery query) {
+        checkRange("created", query.getCreatedFrom(), query.getCreatedTo());
+        checkRange("updated", query.getUpdatedFrom(), query.getUpdatedTo());
+        if (query.getLimit() != null && query.getLimit() < 1) {
+            throw new InvalidRequestException("Limit must be at least 1");
+        }
+    }
+
+    private static void checkRange(String field, LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidRequestException("Range start must be before range end for " + field + " time");
+        }
+    }
+}
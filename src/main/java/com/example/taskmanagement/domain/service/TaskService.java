@@ -1,24 +1,66 @@
 package com.example.taskmanagement.domain.service;
 
 import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskChange;
+import com.example.taskmanagement.domain.model.TaskChangeSet;
+import com.example.taskmanagement.domain.model.TaskEvent;
+import com.example.taskmanagement.domain.model.TaskPage;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.model.TaskTombstone;
 import com.example.taskmanagement.domain.port.in.TaskUseCase;
+import com.example.taskmanagement.domain.port.out.TaskEventPublisher;
 import com.example.taskmanagement.domain.port.out.TaskRepository;
-import com.example.taskmanagement.exception.TaskNotFoundException;
+import com.example.taskmanagement.domain.port.out.TaskSearchIndex;
+import com.example.taskmanagement.exception.InvalidRequestException;
+import com.example.taskmanagement.exception.WatermarkExpiredException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService implements TaskUseCase {
 
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 10_000;
+    public static final Duration TOMBSTONE_RETENTION = Duration.ofDays(30);
+    // Changes younger than this are left for the next sync, so a write still in flight with an
+    // earlier timestamp can't land behind a watermark that was already handed out
+    public static final Duration CHANGE_SETTLE_TIME = Duration.ofSeconds(1);
+
+    private static final Comparator<TaskChange> CHANGE_ORDER =
+            Comparator.comparing(TaskChange::getChangedAt).thenComparing(TaskChange::getId);
+
     private final TaskRepository taskRepository;
+    private final TaskSearchIndex searchIndex;
+    private final TaskEventPublisher eventPublisher;
+    private final TaskStatsCounter stats = new TaskStatsCounter();
 
     @Override
     public Task createTask(Task task) {
-        return taskRepository.save(task);
+        Task created = taskRepository.save(task);
+        stats.created(created.isCompleted());
+        eventPublisher.publish(TaskEvent.of(TaskEvent.Type.CREATED, created));
+        return created;
     }
 
     @Override
@@ -32,27 +74,308 @@ public class TaskService implements TaskUseCase {
     }
 
     @Override
-    public Task updateTask(Task task) {
-        if (!taskRepository.findById(task.getId()).isPresent()) {
-            throw new TaskNotFoundException("Task not found with id: " + task.getId());
+    public List<Task> findTasks(TaskQuery query) {
+        TaskRules.checkQuery(query);
+        return taskRepository.findByQuery(query);
+    }
+
+    @Override
+    public List<Task> searchTasks(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("Search query must not be blank");
         }
-        return taskRepository.save(task);
+        if (limit < 1) {
+            throw new InvalidRequestException("Limit must be at least 1");
+        }
+        List<String> ids = searchIndex.search(query, Math.min(limit, MAX_PAGE_SIZE));
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // The store returns tasks in its own order; put them back in rank order
+        Map<String, Task> found = findExisting(ids);
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     @Override
-    public void deleteTask(String id) {
-        if (!taskRepository.findById(id).isPresent()) {
-            throw new TaskNotFoundException("Task not found with id: " + id);
+    public TaskStats getTaskStats() {
+        return stats.snapshot();
+    }
+
+    @Override
+    public TaskStats reconcileTaskStats() {
+        return stats.reconcile(taskRepository::countTasks);
+    }
+
+    @Override
+    public TaskChangeSet getChangesSince(String watermark, int limit) {
+        if (limit < 1) {
+            throw new InvalidRequestException("Limit must be at least 1");
+        }
+        int size = Math.min(limit, MAX_PAGE_SIZE);
+        Watermark since = decodeWatermark(watermark);
+        LocalDateTime now = LocalDateTime.now();
+        if (since != null) {
+            LocalDateTime horizon = now.minus(TOMBSTONE_RETENTION);
+            LocalDateTime keptSince = taskRepository.tombstonesKeptSince();
+            if (keptSince.isAfter(horizon)) {
+                horizon = keptSince;
+            }
+            if (since.at().isBefore(horizon)) {
+                throw new WatermarkExpiredException("Watermark is older than the retained deletion history, resync required");
+            }
+        }
+        LocalDateTime after = since == null ? null : since.at();
+        String afterId = since == null ? null : since.id();
+        LocalDateTime before = now.minus(CHANGE_SETTLE_TIME);
+
+        // Both sources are ordered by (time, id); fetching one extra from each is enough to merge a full
+        // page and to tell whether more changes follow
+        List<TaskChange> changes = new ArrayList<>(2 * size + 2);
+        for (Task task : taskRepository.findUpdatedBetween(after, afterId, before, size + 1)) {
+            changes.add(new TaskChange(task.getId(), false, task, task.getUpdatedAt()));
         }
-        taskRepository.deleteById(id);
+        for (TaskTombstone tombstone : taskRepository.findDeletedBetween(after, afterId, before, size + 1)) {
+            changes.add(new TaskChange(tombstone.getId(), true, null, tombstone.getDeletedAt()));
+        }
+        changes.sort(CHANGE_ORDER);
+        if (changes.size() > size) {
+            List<TaskChange> page = new ArrayList<>(changes.subList(0, size));
+            TaskChange last = page.get(size - 1);
+            return new TaskChangeSet(page, encodeWatermark(last.getChangedAt(), last.getId()), true);
+        }
+        // Everything before the settle boundary has been seen, so the next sync can start there even if
+        // nothing changed; this keeps idle clients from drifting past the tombstone retention
+        return new TaskChangeSet(changes, encodeWatermark(before, null), false);
+    }
+
+    @Override
+    public long purgeExpiredTombstones() {
+        return taskRepository.purgeTombstonesBefore(LocalDateTime.now().minus(TOMBSTONE_RETENTION));
+    }
+
+    @Override
+    public TaskPage getTaskPage(String cursor, int size) {
+        if (size < 1) {
+            throw new InvalidRequestException("Page size must be at least 1");
+        }
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        // Fetch one extra task so we know whether another page follows without a count query
+        List<Task> tasks = taskRepository.findPageAfter(decodeCursor(cursor), pageSize + 1);
+        if (tasks.size() <= pageSize) {
+            return new TaskPage(tasks, null);
+        }
+        List<Task> page = tasks.subList(0, pageSize);
+        return new TaskPage(page, encodeCursor(page.get(pageSize - 1).getId()));
+    }
+
+    @Override
+    public Stream<Task> exportTasks() {
+        return taskRepository.streamAll();
+    }
+
+    @Override
+    public Task updateTask(Task task) {
+        // A versioned write misses both when the task is gone and when it has moved on; tell them apart
+        Task updated = taskRepository.updateIfExists(task)
+                .orElseThrow(() -> task.getVersion() != null && taskRepository.findById(task.getId()).isPresent()
+                        ? TaskRules.versionConflict(task.getId(), task.getVersion())
+                        : TaskRules.notFound(task.getId()));
+        eventPublisher.publish(TaskEvent.of(TaskEvent.Type.UPDATED, updated));
+        return updated;
+    }
+
+    @Override
+    public void deleteTask(String id) {
+        Task deleted = taskRepository.findAndDeleteById(id).orElseThrow(() -> TaskRules.notFound(id));
+        stats.deleted(deleted.isCompleted());
+        eventPublisher.publish(TaskEvent.of(TaskEvent.Type.DELETED, deleted));
     }
 
     @Override
     public Task markTaskAsCompleted(String id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + id));
-        task.setCompleted(true);
-        return taskRepository.save(task);
+        // The write only matches pending tasks; a miss means the task is already completed or doesn't exist
+        Optional<Task> completed = taskRepository.markCompleted(id);
+        completed.ifPresent(task -> {
+            stats.completed();
+            eventPublisher.publish(TaskEvent.of(TaskEvent.Type.COMPLETED, task));
+        });
+        return completed
+                .or(() -> taskRepository.findById(id))
+                .orElseThrow(() -> TaskRules.notFound(id));
+    }
+
+    @Override
+    public Task markTaskAsCompleted(String id, long expectedVersion) {
+        // The version is part of the write's condition, so nothing can land between the check and the write
+        Optional<Task> completed = taskRepository.markCompleted(id, expectedVersion);
+        if (completed.isPresent()) {
+            stats.completed();
+            eventPublisher.publish(TaskEvent.of(TaskEvent.Type.COMPLETED, completed.get()));
+            return completed.get();
+        }
+        // A miss reads once to tell a missing task from one that moved on; completing again at the same
+        // version is a no-op, as it is without a version
+        Task current = taskRepository.findById(id).orElseThrow(() -> TaskRules.notFound(id));
+        if (current.isCompleted() && current.getVersion() != null && current.getVersion() == expectedVersion) {
+            return current;
+        }
+        throw TaskRules.versionConflict(id, expectedVersion);
     }
-}
 
+    @Override
+    public List<TaskBatchItemResult> createTasks(List<Task> tasks) {
+        checkBatchSize(tasks.size());
+        List<TaskBatchItemResult> results = taskRepository.saveAll(tasks);
+        for (TaskBatchItemResult result : results) {
+            if (result.isSuccess()) {
+                stats.created(result.getTask().isCompleted());
+                eventPublisher.publish(TaskEvent.of(TaskEvent.Type.CREATED, result.getTask()));
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public List<TaskBatchItemResult> updateTasks(List<Task> tasks) {
+        checkBatchSize(tasks.size());
+        Map<String, Task> existing = findExisting(tasks.stream().map(Task::getId).collect(Collectors.toList()));
+        List<TaskBatchItemResult> results = new ArrayList<>(Collections.nCopies(tasks.size(), null));
+        List<Task> toSave = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            Task current = existing.get(task.getId());
+            if (current == null) {
+                results.set(i, TaskBatchItemResult.failure(i, task.getId(), "Task not found with id: " + task.getId()));
+                continue;
+            }
+            toSave.add(new Task(current.getId(), task.getTitle(), task.getDescription(),
+                    current.isCompleted(), current.getCreatedAt(), current.getUpdatedAt(), current.getVersion()));
+            positions.add(i);
+        }
+        saveInto(results, toSave, positions);
+        publishSaved(TaskEvent.Type.UPDATED, results, positions);
+        return results;
+    }
+
+    @Override
+    public List<TaskBatchItemResult> markTasksAsCompleted(List<String> ids) {
+        checkBatchSize(ids.size());
+        // Like the single complete, the write only matches pending tasks, so no version is needed and a
+        // concurrent write can't make an item fail; stats and events follow what this call completed
+        Map<String, Task> completed = new HashMap<>();
+        for (Task task : taskRepository.markAllCompleted(new LinkedHashSet<>(ids))) {
+            completed.put(task.getId(), task);
+            stats.completed();
+            eventPublisher.publish(TaskEvent.of(TaskEvent.Type.COMPLETED, task));
+        }
+        // A miss means the task is already completed or doesn't exist
+        List<String> misses = ids.stream().filter(id -> !completed.containsKey(id)).distinct().toList();
+        Map<String, Task> existing = misses.isEmpty() ? Map.of() : findExisting(misses);
+        List<TaskBatchItemResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Task task = completed.getOrDefault(ids.get(i), existing.get(ids.get(i)));
+            results.add(task != null
+                    ? TaskBatchItemResult.success(i, task)
+                    : TaskBatchItemResult.failure(i, ids.get(i), "Task not found with id: " + ids.get(i)));
+        }
+        return results;
+    }
+
+    @Override
+    public List<TaskBatchItemResult> deleteTasks(List<String> ids) {
+        checkBatchSize(ids.size());
+        // Stats and events follow the tasks the store reports as removed, not the ids asked for
+        Map<String, Task> removed = new HashMap<>();
+        for (Task task : taskRepository.deleteAllById(new LinkedHashSet<>(ids))) {
+            removed.put(task.getId(), task);
+            stats.deleted(task.isCompleted());
+            eventPublisher.publish(TaskEvent.of(TaskEvent.Type.DELETED, task));
+        }
+        List<TaskBatchItemResult> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Task deleted = removed.get(ids.get(i));
+            results.add(deleted != null
+                    ? TaskBatchItemResult.success(i, deleted)
+                    : TaskBatchItemResult.failure(i, ids.get(i), "Task not found with id: " + ids.get(i)));
+        }
+        return results;
+    }
+
+    private void checkBatchSize(int size) {
+        if (size > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("Batch size must not exceed " + MAX_BATCH_SIZE + " items");
+        }
+    }
+
+    private Map<String, Task> findExisting(List<String> ids) {
+        // One $in lookup for the whole batch instead of a findById per item
+        return taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity(), (first, second) -> first));
+    }
+
+    private void saveInto(List<TaskBatchItemResult> results, List<Task> toSave, List<Integer> positions) {
+        if (toSave.isEmpty()) {
+            return;
+        }
+        List<TaskBatchItemResult> saved = taskRepository.saveAll(toSave);
+        for (int j = 0; j < saved.size(); j++) {
+            TaskBatchItemResult result = saved.get(j);
+            int index = positions.get(j);
+            result.setIndex(index);
+            results.set(index, result);
+        }
+    }
+
+    private void publishSaved(TaskEvent.Type type, List<TaskBatchItemResult> results, List<Integer> positions) {
+        for (int position : positions) {
+            TaskBatchItemResult result = results.get(position);
+            if (result.isSuccess()) {
+                eventPublisher.publish(TaskEvent.of(type, result.getTask()));
+            }
+        }
+    }
+
+    private String encodeCursor(String lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(lastId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String encodeWatermark(LocalDateTime at, String id) {
+        String raw = at + "|" + (id == null ? "" : id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Watermark decodeWatermark(String watermark) {
+        if (watermark == null || watermark.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(watermark), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new InvalidRequestException("Invalid watermark: " + watermark);
+            }
+            String id = raw.substring(separator + 1);
+            return new Watermark(LocalDateTime.parse(raw.substring(0, separator)), id.isEmpty() ? null : id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid watermark: " + watermark);
+        }
+    }
+
+    private record Watermark(LocalDateTime at, String id) {
+    }
+
+    private String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.taskmanagement.domain.service;
+
+import com.example.taskmanagement.domain.model.TaskStats;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Task counts maintained from write outcomes so reads never touch the store. Each count is a base taken
+ * from the last reconciliation plus a striped {@link LongAdder} of the changes since, so concurrent writers
+ * don't contend on one cache line.
+ */
+final class TaskStatsCounter {
+
+    private final LongAdder totalDelta = new LongAdder();
+    private final LongAdder completedDelta = new LongAdder();
+    private volatile TaskStats base = new TaskStats(0, 0);
+
+    void created(boolean completed) {
+        totalDelta.increment();
+        if (completed) {
+            completedDelta.increment();
+        }
+    }
+
+    void completed() {
+        completedDelta.increment();
+    }
+
+    void deleted(boolean completed) {
+        totalDelta.decrement();
+        if (completed) {
+            completedDelta.decrement();
+        }
+    }
+
+    TaskStats snapshot() {
+        TaskStats current = base;
+        return new TaskStats(current.getTotal() + totalDelta.sum(), current.getCompleted() + completedDelta.sum());
+    }
+
+    /**
+     * Replaces the counts with {@code exactCounts}, keeping changes recorded while the count ran. Writes that
+     * race with the count may be counted twice or not at all; the next reconciliation corrects them.
+     */
+    synchronized TaskStats reconcile(Supplier<TaskStats> exactCounts) {
+        long totalBefore = totalDelta.sum();
+        long completedBefore = completedDelta.sum();
+        TaskStats exact = exactCounts.get();
+        base = new TaskStats(exact.getTotal() - totalBefore, exact.getCompleted() - completedBefore);
+        return snapshot();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.taskmanagement.exception;
+
+import java.time.Duration;
+
+public class TaskOverloadedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TaskOverloadedException(String message, Duration retryAfter) {
+        // Thrown to shed load, so skip the stack trace
+        super(message, null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.taskmanagement.exception;
+
+public class TaskVersionConflictException extends RuntimeException {
+    public TaskVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.taskmanagement.exception;
+
+public class WatermarkExpiredException extends RuntimeException {
+    public WatermarkExpiredException(String message) {
+        super(message);
+    }
+}
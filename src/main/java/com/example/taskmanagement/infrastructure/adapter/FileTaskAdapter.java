@@ -0,0 +1,385 @@
+package com.example.taskmanagement.infrastructure.adapter;
+
+import com.example.taskmanagement.config.TaskFileStoreProperties;
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.model.TaskTombstone;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import com.example.taskmanagement.infrastructure.file.TaskRecordCodec;
+import com.example.taskmanagement.infrastructure.file.TaskWriteAheadLog;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * File-backed {@link TaskRepository} for single-node deployments. Tasks live in an in-memory index;
+ * every mutation is appended to a memory-mapped write-ahead log before it is acknowledged, and the
+ * log is periodically compacted into a snapshot. Startup loads the snapshot and replays the log.
+ * <p>
+ * The index is built with a journal that appends each change to the log before the index applies it, so a
+ * change the log refused is neither acknowledged nor visible to readers.
+ * <p>
+ * Compaction rotates the log under a brief exclusive lock, then writes the snapshot while writes
+ * continue into the new log. Records carry full task state, so replaying the new log over a snapshot
+ * taken while it was being written still converges to the right state.
+ */
+@Slf4j
+@Component
+@Profile("file")
+@Qualifier("taskStore")
+public class FileTaskAdapter implements TaskRepository, DisposableBean {
+
+    static final String LOG_FILE = "tasks.wal";
+    static final String COMPACTING_LOG_FILE = "tasks.wal.compacting";
+    static final String SNAPSHOT_FILE = "tasks.snapshot";
+
+    private static final int SNAPSHOT_MAGIC = 0x54534b53;
+    private static final int SNAPSHOT_END = -1;
+
+    private final TaskFileStoreProperties properties;
+    private final Path logPath;
+    private final Path compactingLogPath;
+    private final Path snapshotPath;
+    private final InMemoryTaskAdapter index = new InMemoryTaskAdapter(Clock.systemDefaultZone(), new LogJournal());
+    private final ReentrantReadWriteLock rotationLock = new ReentrantReadWriteLock();
+    private final ReentrantLock[] stripes = new ReentrantLock[64];
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-snapshot-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile TaskWriteAheadLog currentLog;
+
+    public FileTaskAdapter(TaskFileStoreProperties properties) throws IOException {
+        this.properties = properties;
+        Path directory = properties.getDirectory();
+        this.logPath = directory.resolve(LOG_FILE);
+        this.compactingLogPath = directory.resolve(COMPACTING_LOG_FILE);
+        this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    @Override
+    public Task save(Task task) {
+        Task toSave = task.getId() != null ? task : task.toBuilder().id(new ObjectId().toHexString()).build();
+        return mutate(toSave.getId(), () -> index.save(toSave));
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        return index.findById(id);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return index.findAll();
+    }
+
+    @Override
+    public List<Task> findPageAfter(String afterId, int limit) {
+        return index.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Stream<Task> streamAll() {
+        return index.streamAll();
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery query) {
+        return index.findByQuery(query);
+    }
+
+    @Override
+    public TaskStats countTasks() {
+        return index.countTasks();
+    }
+
+    @Override
+    public List<Task> findUpdatedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return index.findUpdatedBetween(after, afterId, before, limit);
+    }
+
+    @Override
+    public List<TaskTombstone> findDeletedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return index.findDeletedBetween(after, afterId, before, limit);
+    }
+
+    @Override
+    public long purgeTombstonesBefore(LocalDateTime cutoff) {
+        return index.purgeTombstonesBefore(cutoff);
+    }
+
+    @Override
+    public LocalDateTime tombstonesKeptSince() {
+        // Tombstones live only in the in-memory index, so deletions before this start are unknown
+        return index.tombstonesKeptSince();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        findAndDeleteById(id);
+    }
+
+    @Override
+    public Optional<Task> updateIfExists(Task task) {
+        return mutate(task.getId(), () -> index.updateIfExists(task));
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id) {
+        return mutate(id, () -> index.markCompleted(id));
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id, long expectedVersion) {
+        return mutate(id, () -> index.markCompleted(id, expectedVersion));
+    }
+
+    @Override
+    public List<Task> markAllCompleted(Collection<String> ids) {
+        return ids.stream().distinct().map(this::markCompleted).flatMap(Optional::stream).toList();
+    }
+
+    @Override
+    public Optional<Task> findAndDeleteById(String id) {
+        return mutate(id, () -> index.findAndDeleteById(id));
+    }
+
+    @Override
+    public List<TaskBatchItemResult> saveAll(List<Task> tasks) {
+        List<TaskBatchItemResult> results = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            int index = i;
+            results.add(task.getId() == null
+                    ? TaskBatchItemResult.success(i, save(task))
+                    : mutate(task.getId(), () -> this.index.replaceIfCurrent(task))
+                            .map(saved -> TaskBatchItemResult.success(index, saved))
+                            .orElseGet(() -> TaskBatchItemResult.stale(index, task.getId())));
+        }
+        return results;
+    }
+
+    @Override
+    public void putAll(Collection<Task> tasks) {
+        for (Task task : tasks) {
+            mutate(task.getId(), () -> {
+                // restore bypasses the journal, so the record is logged here, still ahead of the index
+                append(currentLog, TaskRecordCodec.encodePut(task));
+                index.restore(task);
+                return task;
+            });
+        }
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<String> ids) {
+        return index.findAllById(ids);
+    }
+
+    @Override
+    public List<Task> deleteAllById(Collection<String> ids) {
+        return ids.stream().distinct().map(this::findAndDeleteById).flatMap(Optional::stream).toList();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        compactor.shutdown();
+        compactor.awaitTermination(30, TimeUnit.SECONDS);
+        rotationLock.writeLock().lock();
+        try {
+            currentLog.close();
+        } finally {
+            rotationLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Runs {@code mutation} against the index with the id's stripe held and the current log pinned, so the
+     * log order of records for one id always matches the order they were applied in. With synchronous writes
+     * the caller only returns once the group commit covering its record has fsynced.
+     */
+    private <T> T mutate(String id, Supplier<T> mutation) {
+        TaskWriteAheadLog wal;
+        T result;
+        long end;
+        rotationLock.readLock().lock();
+        try {
+            wal = currentLog;
+            ReentrantLock stripe = stripes[(id.hashCode() & 0x7fffffff) % stripes.length];
+            stripe.lock();
+            try {
+                result = mutation.get();
+            } finally {
+                stripe.unlock();
+            }
+            end = wal.size();
+        } finally {
+            rotationLock.readLock().unlock();
+        }
+        if (properties.isSyncWrites()) {
+            wal.awaitDurable(end);
+        }
+        if (end > properties.getCompactionThreshold() && compacting.compareAndSet(false, true)) {
+            compactor.execute(this::compact);
+        }
+        return result;
+    }
+
+    private void append(TaskWriteAheadLog wal, byte[] record) {
+        try {
+            wal.append(record);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to the task log", e);
+        }
+    }
+
+    private void recover() throws IOException {
+        long started = System.nanoTime();
+        if (Files.exists(snapshotPath)) {
+            loadSnapshot();
+        }
+        if (Files.exists(compactingLogPath)) {
+            // A previous compaction died before its snapshot was durable; its log is still authoritative
+            TaskWriteAheadLog.open(compactingLogPath, 0, properties.getFsyncInterval(), this::replay).close();
+        }
+        currentLog = TaskWriteAheadLog.open(logPath, properties.getInitialLogSize(), properties.getFsyncInterval(), this::replay);
+        if (Files.exists(compactingLogPath)) {
+            writeSnapshot();
+            Files.delete(compactingLogPath);
+        }
+        log.info("Recovered task store from {} in {} ms", properties.getDirectory(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private void replay(ByteBuffer payload) {
+        TaskRecordCodec.TaskRecord record = TaskRecordCodec.decode(payload);
+        if (record.op() == TaskRecordCodec.PUT) {
+            index.restore(record.task());
+        } else {
+            index.restoreDeletion(record.id());
+        }
+    }
+
+    private void compact() {
+        try {
+            if (!Files.exists(compactingLogPath)) {
+                rotationLock.writeLock().lock();
+                try {
+                    currentLog.close();
+                    Files.move(logPath, compactingLogPath, StandardCopyOption.ATOMIC_MOVE);
+                    currentLog = TaskWriteAheadLog.open(logPath, properties.getInitialLogSize(), properties.getFsyncInterval(),
+                            payload -> { });
+                } finally {
+                    rotationLock.writeLock().unlock();
+                }
+            }
+            writeSnapshot();
+            Files.delete(compactingLogPath);
+        } catch (IOException e) {
+            log.error("Task log compaction failed; will retry on the next trigger", e);
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    private void writeSnapshot() throws IOException {
+        Path temporary = snapshotPath.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        CRC32 crc = new CRC32();
+        try (FileOutputStream file = new FileOutputStream(temporary.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16));
+             Stream<Task> tasks = index.streamAll()) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                byte[] record = TaskRecordCodec.encodePut(iterator.next());
+                crc.reset();
+                crc.update(record);
+                out.writeInt(record.length);
+                out.writeInt((int) crc.getValue());
+                out.write(record);
+            }
+            out.writeInt(SNAPSHOT_END);
+            out.flush();
+            file.getChannel().force(true);
+        }
+        Files.move(temporary, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void loadSnapshot() throws IOException {
+        CRC32 crc = new CRC32();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath), 1 << 16))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Not a task snapshot: " + snapshotPath);
+            }
+            int length;
+            while ((length = in.readInt()) != SNAPSHOT_END) {
+                int checksum = in.readInt();
+                byte[] record = new byte[length];
+                in.readFully(record);
+                crc.reset();
+                crc.update(record);
+                if ((int) crc.getValue() != checksum) {
+                    throw new IOException("Corrupt record in task snapshot: " + snapshotPath);
+                }
+                replay(ByteBuffer.wrap(record));
+            }
+        }
+    }
+
+    /**
+     * Called by the index inside {@link #mutate}, so the current log can't be rotated away underneath it.
+     */
+    private final class LogJournal implements InMemoryTaskAdapter.Journal {
+
+        @Override
+        public void put(Task task) {
+            append(currentLog, TaskRecordCodec.encodePut(task));
+        }
+
+        @Override
+        public void delete(String id) {
+            append(currentLog, TaskRecordCodec.encodeDelete(id));
+        }
+    }
+}
@@ -0,0 +1,480 @@
+package com.example.taskmanagement.infrastructure.adapter;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.model.TaskTombstone;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-process {@link TaskRepository} for edge deployments, load tests and Mongo-free integration tests.
+ * Reads are lock-free; writes to the same id are serialized on one of a fixed set of lock stripes so the
+ * primary map and the secondary indexes (id order, completion, createdAt, updatedAt) change together.
+ * Deletions leave tombstones, kept for the adapter's lifetime unless purged. An optional {@link Journal} sees
+ * every change just before it is applied.
+ */
+@Component
+@Profile("in-memory")
+@Qualifier("taskStore")
+public class InMemoryTaskAdapter implements TaskRepository {
+
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private final Clock clock;
+    private final ConcurrentHashMap<String, StoredTask> tasks = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<String> idIndex = new ConcurrentSkipListSet<>();
+    private final Set<String> completedIndex = ConcurrentHashMap.newKeySet();
+    private final ConcurrentSkipListSet<TimeKey> createdAtIndex = new ConcurrentSkipListSet<>();
+    private final ConcurrentSkipListSet<TimeKey> updatedAtIndex = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<String, Long> tombstones = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<TimeKey> deletedAtIndex = new ConcurrentSkipListSet<>();
+    private final ReentrantLock[] stripes;
+    private final LocalDateTime startedAt;
+    private final Journal journal;
+
+    public InMemoryTaskAdapter() {
+        this(Clock.systemDefaultZone());
+    }
+
+    InMemoryTaskAdapter(Clock clock) {
+        this(clock, Journal.NONE);
+    }
+
+    InMemoryTaskAdapter(Clock clock, Journal journal) {
+        this.clock = clock;
+        this.journal = journal;
+        this.startedAt = LocalDateTime.now(clock);
+        int stripeCount = Integer.highestOneBit(Math.max(16, Runtime.getRuntime().availableProcessors() * 4) - 1) << 1;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public Task save(Task task) {
+        String id = task.getId() != null ? task.getId() : new ObjectId().toHexString();
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime createdAt = task.getCreatedAt() != null ? task.getCreatedAt() : now;
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            StoredTask previous = tasks.get(id);
+            StoredTask stored = new StoredTask(id, task.getTitle(), task.getDescription(), task.isCompleted(),
+                    toNanos(createdAt), toNanos(now), previous == null ? 0 : previous.version + 1);
+            Task saved = stored.toTask();
+            journal.put(saved);
+            put(stored);
+            return saved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        return Optional.ofNullable(tasks.get(id)).map(StoredTask::toTask);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        try (Stream<Task> all = streamAll()) {
+            return all.collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public List<Task> findPageAfter(String afterId, int limit) {
+        Set<String> ids = afterId == null ? idIndex : idIndex.tailSet(afterId, false);
+        return ids.stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .map(StoredTask::toTask)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Task> streamAll() {
+        return idIndex.stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .map(StoredTask::toTask);
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery query) {
+        boolean byCreatedAt = query.getSortBy() == TaskQuery.SortField.CREATED_AT;
+        // Walk the index of the sort field, narrowed to its range, and filter the rest per task
+        NavigableSet<TimeKey> keys = byCreatedAt
+                ? range(createdAtIndex, query.getCreatedFrom(), query.getCreatedTo())
+                : range(updatedAtIndex, query.getUpdatedFrom(), query.getUpdatedTo());
+        if (query.isDescending()) {
+            keys = keys.descendingSet();
+        }
+        long createdFrom = boundOrDefault(query.getCreatedFrom(), Long.MIN_VALUE);
+        long createdTo = boundOrDefault(query.getCreatedTo(), Long.MAX_VALUE);
+        long updatedFrom = boundOrDefault(query.getUpdatedFrom(), Long.MIN_VALUE);
+        long updatedTo = boundOrDefault(query.getUpdatedTo(), Long.MAX_VALUE);
+        Stream<StoredTask> matches = keys.stream()
+                .map(key -> {
+                    StoredTask stored = tasks.get(key.id());
+                    // A concurrent write may have moved the task to another key; it is seen there instead
+                    long indexed = stored == null ? 0 : byCreatedAt ? stored.createdAt : stored.updatedAt;
+                    return stored != null && indexed == key.at() ? stored : null;
+                })
+                .filter(Objects::nonNull)
+                .filter(stored -> query.getCompleted() == null || stored.completed == query.getCompleted())
+                .filter(stored -> stored.createdAt >= createdFrom && stored.createdAt < createdTo)
+                .filter(stored -> stored.updatedAt >= updatedFrom && stored.updatedAt < updatedTo);
+        if (query.getLimit() != null) {
+            matches = matches.limit(query.getLimit());
+        }
+        return matches.map(StoredTask::toTask).collect(Collectors.toList());
+    }
+
+    @Override
+    public TaskStats countTasks() {
+        return new TaskStats(tasks.size(), completedIndex.size());
+    }
+
+    @Override
+    public List<Task> findUpdatedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return between(updatedAtIndex, after, afterId, before).stream()
+                .map(key -> {
+                    StoredTask stored = tasks.get(key.id());
+                    return stored != null && stored.updatedAt == key.at() ? stored : null;
+                })
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .map(StoredTask::toTask)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TaskTombstone> findDeletedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return between(deletedAtIndex, after, afterId, before).stream()
+                .filter(key -> Long.valueOf(key.at()).equals(tombstones.get(key.id())))
+                .limit(limit)
+                .map(key -> new TaskTombstone(key.id(), fromNanos(key.at())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long purgeTombstonesBefore(LocalDateTime cutoff) {
+        long purged = 0;
+        for (TimeKey key : deletedAtIndex.headSet(new TimeKey(toNanos(cutoff), ""))) {
+            ReentrantLock lock = lockFor(key.id());
+            lock.lock();
+            try {
+                if (tombstones.remove(key.id(), key.at())) {
+                    purged++;
+                }
+                deletedAtIndex.remove(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return purged;
+    }
+
+    @Override
+    public LocalDateTime tombstonesKeptSince() {
+        return startedAt;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        remove(id);
+    }
+
+    @Override
+    public Optional<Task> updateIfExists(Task task) {
+        return modify(task.getId(), current -> task.getVersion() != null && task.getVersion() != current.version
+                ? null
+                : new StoredTask(current.id, task.getTitle(), task.getDescription(), current.completed,
+                        current.createdAt, toNanos(LocalDateTime.now(clock)), current.version + 1));
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id) {
+        return modify(id, current -> current.completed ? null : new StoredTask(current.id, current.title,
+                current.description, true, current.createdAt, toNanos(LocalDateTime.now(clock)), current.version + 1));
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id, long expectedVersion) {
+        return modify(id, current -> current.completed || current.version != expectedVersion ? null
+                : new StoredTask(current.id, current.title, current.description, true, current.createdAt,
+                        toNanos(LocalDateTime.now(clock)), current.version + 1));
+    }
+
+    @Override
+    public List<Task> markAllCompleted(Collection<String> ids) {
+        return ids.stream().distinct().map(this::markCompleted).flatMap(Optional::stream).toList();
+    }
+
+    @Override
+    public Optional<Task> findAndDeleteById(String id) {
+        return Optional.ofNullable(remove(id)).map(StoredTask::toTask);
+    }
+
+    @Override
+    public List<TaskBatchItemResult> saveAll(List<Task> tasks) {
+        List<TaskBatchItemResult> results = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            int index = i;
+            results.add(task.getId() == null
+                    ? TaskBatchItemResult.success(i, save(task))
+                    : replaceIfCurrent(task)
+                            .map(saved -> TaskBatchItemResult.success(index, saved))
+                            .orElseGet(() -> TaskBatchItemResult.stale(index, task.getId())));
+        }
+        return results;
+    }
+
+    /**
+     * Applies the title, description and completion of {@code task} if the stored task is still at the
+     * task's version, as {@link #saveAll} does for updates.
+     */
+    Optional<Task> replaceIfCurrent(Task task) {
+        return modify(task.getId(), current -> task.getVersion() == null || task.getVersion() != current.version
+                ? null
+                : new StoredTask(current.id, task.getTitle(), task.getDescription(), task.isCompleted(),
+                        current.createdAt, toNanos(LocalDateTime.now(clock)), current.version + 1));
+    }
+
+    @Override
+    public void putAll(Collection<Task> tasks) {
+        tasks.forEach(this::restore);
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<String> ids) {
+        return ids.stream()
+                .distinct()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .map(StoredTask::toTask)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Task> deleteAllById(Collection<String> ids) {
+        return ids.stream().distinct().map(this::remove).filter(Objects::nonNull).map(StoredTask::toTask).toList();
+    }
+
+    /**
+     * Stores {@code task} exactly as given, without assigning an id or stamping timestamps. Used to
+     * rebuild the store from a durable copy.
+     */
+    void restore(Task task) {
+        StoredTask stored = new StoredTask(task.getId(), task.getTitle(), task.getDescription(), task.isCompleted(),
+                toNanos(task.getCreatedAt()), toNanos(task.getUpdatedAt()),
+                task.getVersion() == null ? 0 : task.getVersion());
+        ReentrantLock lock = lockFor(task.getId());
+        lock.lock();
+        try {
+            put(stored);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes {@code id} without passing the deletion to the journal, the counterpart of {@link #restore}.
+     */
+    void restoreDeletion(String id) {
+        remove(id, Journal.NONE);
+    }
+
+    /**
+     * Applies {@code change} to the stored task under its stripe lock. The function may return null to
+     * leave the task untouched, in which case the result is empty.
+     */
+    private Optional<Task> modify(String id, UnaryOperator<StoredTask> change) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            StoredTask current = tasks.get(id);
+            if (current == null) {
+                return Optional.empty();
+            }
+            StoredTask updated = change.apply(current);
+            if (updated == null) {
+                return Optional.empty();
+            }
+            Task task = updated.toTask();
+            journal.put(task);
+            put(updated);
+            return Optional.of(task);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(StoredTask stored) {
+        StoredTask previous = tasks.put(stored.id, stored);
+        if (previous != null) {
+            createdAtIndex.remove(new TimeKey(previous.createdAt, previous.id));
+            updatedAtIndex.remove(new TimeKey(previous.updatedAt, previous.id));
+        } else {
+            idIndex.add(stored.id);
+        }
+        createdAtIndex.add(new TimeKey(stored.createdAt, stored.id));
+        updatedAtIndex.add(new TimeKey(stored.updatedAt, stored.id));
+        if (stored.completed) {
+            completedIndex.add(stored.id);
+        } else {
+            completedIndex.remove(stored.id);
+        }
+    }
+
+    private StoredTask remove(String id) {
+        return remove(id, journal);
+    }
+
+    private StoredTask remove(String id, Journal deletions) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            if (!tasks.containsKey(id)) {
+                return null;
+            }
+            deletions.delete(id);
+            StoredTask removed = tasks.remove(id);
+            if (removed != null) {
+                idIndex.remove(id);
+                completedIndex.remove(id);
+                createdAtIndex.remove(new TimeKey(removed.createdAt, id));
+                updatedAtIndex.remove(new TimeKey(removed.updatedAt, id));
+                long deletedAt = toNanos(LocalDateTime.now(clock));
+                Long previous = tombstones.put(id, deletedAt);
+                if (previous != null) {
+                    deletedAtIndex.remove(new TimeKey(previous, id));
+                }
+                deletedAtIndex.add(new TimeKey(deletedAt, id));
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static NavigableSet<TimeKey> range(ConcurrentSkipListSet<TimeKey> index, LocalDateTime from,
+                                               LocalDateTime to) {
+        // The empty id sorts before every real id, so these keys bound whole timestamps
+        if (from != null && to != null) {
+            return index.subSet(new TimeKey(toNanos(from), ""), true, new TimeKey(toNanos(to), ""), false);
+        }
+        if (from != null) {
+            return index.tailSet(new TimeKey(toNanos(from), ""), true);
+        }
+        if (to != null) {
+            return index.headSet(new TimeKey(toNanos(to), ""), false);
+        }
+        return index;
+    }
+
+    private static NavigableSet<TimeKey> between(ConcurrentSkipListSet<TimeKey> index, LocalDateTime after,
+                                                 String afterId, LocalDateTime before) {
+        TimeKey end = new TimeKey(toNanos(before), "");
+        if (after == null) {
+            return index.headSet(end, false);
+        }
+        TimeKey start = new TimeKey(toNanos(after), afterId == null ? "" : afterId);
+        return start.compareTo(end) < 0 ? index.subSet(start, afterId == null, end, false) : new TreeSet<>();
+    }
+
+    private static long boundOrDefault(LocalDateTime bound, long defaultValue) {
+        return bound == null ? defaultValue : toNanos(bound);
+    }
+
+    private ReentrantLock lockFor(String id) {
+        int hash = id.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static long toNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_TIMESTAMP;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+
+    private static LocalDateTime fromNanos(long nanos) {
+        if (nanos == NO_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    /**
+     * Receives each change under the task's stripe lock before the store applies it. When the journal throws,
+     * the change is not applied and the exception reaches the caller.
+     */
+    interface Journal {
+
+        Journal NONE = new Journal() {
+            @Override
+            public void put(Task task) {
+            }
+
+            @Override
+            public void delete(String id) {
+            }
+        };
+
+        void put(Task task);
+
+        void delete(String id);
+    }
+
+    /**
+     * Immutable, compact form of a task: timestamps are kept as epoch nanos instead of
+     * {@link LocalDateTime} object graphs.
+     */
+    private record StoredTask(String id, String title, String description, boolean completed,
+                              long createdAt, long updatedAt, long version) {
+
+        private Task toTask() {
+            return new Task(id, title, description, completed, fromNanos(createdAt), fromNanos(updatedAt), version);
+        }
+    }
+
+    private record TimeKey(long at, String id) implements Comparable<TimeKey> {
+        private static final Comparator<TimeKey> ORDER =
+                Comparator.comparingLong(TimeKey::at).thenComparing(TimeKey::id);
+
+        @Override
+        public int compareTo(TimeKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.taskmanagement.infrastructure.adapter;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.model.TaskTombstone;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Adds a fixed blocking delay to every call, standing in for a slow database in load tests.
+ * The delay is a plain sleep, so it parks a virtual thread instead of pinning a carrier.
+ */
+public class LatencyInjectingTaskRepository implements TaskRepository {
+
+    private final TaskRepository delegate;
+    private final Duration latency;
+
+    public LatencyInjectingTaskRepository(TaskRepository delegate, Duration latency) {
+        this.delegate = delegate;
+        this.latency = latency;
+    }
+
+    @Override
+    public Task save(Task task) {
+        pause();
+        return delegate.save(task);
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        pause();
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        pause();
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Task> findPageAfter(String afterId, int limit) {
+        pause();
+        return delegate.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Stream<Task> streamAll() {
+        pause();
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery query) {
+        pause();
+        return delegate.findByQuery(query);
+    }
+
+    @Override
+    public TaskStats countTasks() {
+        pause();
+        return delegate.countTasks();
+    }
+
+    @Override
+    public List<Task> findUpdatedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        pause();
+        return delegate.findUpdatedBetween(after, afterId, before, limit);
+    }
+
+    @Override
+    public List<TaskTombstone> findDeletedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        pause();
+        return delegate.findDeletedBetween(after, afterId, before, limit);
+    }
+
+    @Override
+    public long purgeTombstonesBefore(LocalDateTime cutoff) {
+        pause();
+        return delegate.purgeTombstonesBefore(cutoff);
+    }
+
+    @Override
+    public LocalDateTime tombstonesKeptSince() {
+        return delegate.tombstonesKeptSince();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        pause();
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public Optional<Task> updateIfExists(Task task) {
+        pause();
+        return delegate.updateIfExists(task);
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id) {
+        pause();
+        return delegate.markCompleted(id);
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id, long expectedVersion) {
+        pause();
+        return delegate.markCompleted(id, expectedVersion);
+    }
+
+    @Override
+    public List<Task> markAllCompleted(Collection<String> ids) {
+        pause();
+        return delegate.markAllCompleted(ids);
+    }
+
+    @Override
+    public Optional<Task> findAndDeleteById(String id) {
+        pause();
+        return delegate.findAndDeleteById(id);
+    }
+
+    @Override
+    public List<TaskBatchItemResult> saveAll(List<Task> tasks) {
+        pause();
+        return delegate.saveAll(tasks);
+    }
+
+    @Override
+    public void putAll(Collection<Task> tasks) {
+        pause();
+        delegate.putAll(tasks);
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<String> ids) {
+        pause();
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<Task> deleteAllById(Collection<String> ids) {
+        pause();
+        return delegate.deleteAllById(ids);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while simulating repository latency", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.taskmanagement.infrastructure.adapter;
+
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.port.out.TaskReadRepository;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import com.example.taskmanagement.infrastructure.entity.TaskEntity;
+import com.example.taskmanagement.infrastructure.json.BsonTaskTranscoder;
+import com.example.taskmanagement.infrastructure.json.TaskJsonWriter;
+import com.example.taskmanagement.infrastructure.replica.ReplicaRouter;
+import com.example.taskmanagement.infrastructure.writebehind.WriteBehindTaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Projections;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+
+/**
+ * Renders tasks from the raw BSON the driver returns: the filter and sort are mapped once per call the way
+ * {@link MongoTemplate} would map them, then each document is projected to the API fields and transcoded
+ * to JSON without a {@link TaskEntity}, a domain task or a DTO in between.
+ * <p>
+ * When {@link com.example.taskmanagement.config.TaskReplicaConfig} provides a {@code taskReplica}, lists are
+ * split off to it by the same {@link ReplicaRouter} as the repository's reads: a Mongo replica is rendered
+ * the same way from its own template, a simulated one through its repository.
+ */
+@Component
+@Profile("!in-memory & !file & !sharded")
+public class MongoTaskReadAdapter implements TaskReadRepository {
+
+    private static final String OPERATION = "writeTasks";
+    private static final Bson PROJECTION =
+            Projections.include("title", "description", "completed", "createdAt", "updatedAt");
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final QueryMapper queryMapper;
+    private final MongoPersistentEntity<?> taskEntity;
+    private final ObjectProvider<WriteBehindTaskRepository> writeBehind;
+    // Null when reads are not split off to a replica
+    private final TaskReadRepository replica;
+    private final ReplicaRouter router;
+
+    @Autowired
+    public MongoTaskReadAdapter(MongoTemplate mongoTemplate, ObjectMapper objectMapper,
+                                ObjectProvider<WriteBehindTaskRepository> writeBehind,
+                                @Qualifier("taskReplica") ObjectProvider<TaskRepository> replica,
+                                ObjectProvider<ReplicaRouter> router) {
+        this(mongoTemplate, objectMapper, writeBehind,
+                replicaReader(replica.getIfAvailable(), objectMapper, writeBehind), router.getIfAvailable());
+    }
+
+    MongoTaskReadAdapter(MongoTemplate mongoTemplate, ObjectMapper objectMapper,
+                         ObjectProvider<WriteBehindTaskRepository> writeBehind, TaskReadRepository replica,
+                         ReplicaRouter router) {
+        this.mongoTemplate = mongoTemplate;
+        this.writeBehind = writeBehind;
+        this.objectMapper = objectMapper;
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        this.taskEntity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(TaskEntity.class);
+        this.replica = replica;
+        this.router = replica == null ? null : router;
+    }
+
+    @Override
+    public long writeTasks(TaskQuery query, TaskListFormat format, TaskEncoding encoding, OutputStream out) {
+        if (router == null) {
+            return render(query, format, encoding, out);
+        }
+        return router.read(OPERATION, () -> render(query, format, encoding, out),
+                () -> replica.writeTasks(query, format, encoding, out));
+    }
+
+    private long render(TaskQuery query, TaskListFormat format, TaskEncoding encoding, OutputStream out) {
+        // Reads the collection directly, so queued writes have to land first
+        writeBehind.ifAvailable(WriteBehindTaskRepository::awaitQueuedWrites);
+        Query mongoQuery = query == null ? new Query() : TaskAdapter.toMongoQuery(query);
+        Document filter = queryMapper.getMappedObject(mongoQuery.getQueryObject(), taskEntity);
+        Document sort = queryMapper.getMappedSort(mongoQuery.getSortObject(), taskEntity);
+        try (TaskJsonWriter writer = TaskJsonWriter.create(objectMapper.getFactory(), out, format, encoding)) {
+            mongoTemplate.execute(TaskEntity.class, collection -> {
+                try (MongoCursor<RawBsonDocument> cursor = collection.withDocumentClass(RawBsonDocument.class)
+                        .find(filter)
+                        .projection(PROJECTION)
+                        .sort(sort)
+                        .limit(mongoQuery.getLimit())
+                        .iterator()) {
+                    while (cursor.hasNext()) {
+                        BsonTaskTranscoder.transcode(cursor.next(), writer);
+                    }
+                }
+                return null;
+            });
+            return writer.finish();
+        }
+    }
+
+    private static TaskReadRepository replicaReader(TaskRepository replica, ObjectMapper objectMapper,
+                                                    ObjectProvider<WriteBehindTaskRepository> writeBehind) {
+        if (replica instanceof TaskAdapter mongoReplica) {
+            return new MongoTaskReadAdapter(mongoReplica.mongoTemplate(), objectMapper, writeBehind,
+                    (TaskReadRepository) null, null);
+        }
+        return replica == null ? null : new RepositoryTaskReadAdapter(replica, objectMapper);
+    }
+}
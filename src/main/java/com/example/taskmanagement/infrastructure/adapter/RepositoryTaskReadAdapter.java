@@ -0,0 +1,38 @@
+package com.example.taskmanagement.infrastructure.adapter;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.port.out.TaskReadRepository;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import com.example.taskmanagement.infrastructure.json.TaskJsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * {@link TaskReadRepository} for the in-process stores, which already hold tasks as objects: reads go
+ * through the regular repository and only the DTO step is skipped.
+ */
+@Component
+@Profile("in-memory | file | sharded")
+@RequiredArgsConstructor
+public class RepositoryTaskReadAdapter implements TaskReadRepository {
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public long writeTasks(TaskQuery query, TaskListFormat format, TaskEncoding encoding, OutputStream out) {
+        try (TaskJsonWriter writer = TaskJsonWriter.create(objectMapper.getFactory(), out, format, encoding);
+             Stream<Task> tasks = query == null ? taskRepository.streamAll() : taskRepository.findByQuery(query).stream()) {
+            tasks.forEach(writer::writeTask);
+            return writer.finish();
+        }
+    }
+}
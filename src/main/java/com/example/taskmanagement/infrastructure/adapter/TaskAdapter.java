@@ -1,31 +1,72 @@
 package com.example.taskmanagement.infrastructure.adapter;
 
 import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.model.TaskTombstone;
 import com.example.taskmanagement.domain.port.out.TaskRepository;
 import com.example.taskmanagement.infrastructure.entity.TaskEntity;
-
+import com.example.taskmanagement.infrastructure.entity.TaskTombstoneEntity;
 import com.example.taskmanagement.infrastructure.repository.TaskInfraRepository;
+import com.mongodb.bulk.BulkWriteError;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
+@Profile("!in-memory & !file & !sharded")
+@Qualifier("taskStore")
 @RequiredArgsConstructor
 public class TaskAdapter implements TaskRepository {
 
+    private static final int BULK_CHUNK_SIZE = 1000;
+    // Written by markAllCompleted to find the tasks it changed; not part of the mapped entity
+    private static final String COMPLETION_ID = "completionId";
+
     private final TaskInfraRepository taskRepository;
+    private final MongoTemplate mongoTemplate;
+
+    MongoTemplate mongoTemplate() {
+        return mongoTemplate;
+    }
 
     @Override
     public Task save(Task task) {
         TaskEntity taskEntity = convertToEntity(task);
+        LocalDateTime now = LocalDateTime.now();
         if (taskEntity.getCreatedAt() == null) {
-            taskEntity.setCreatedAt(LocalDateTime.now());
+            taskEntity.setCreatedAt(now);
         }
-        taskEntity.setUpdatedAt(LocalDateTime.now());
+        taskEntity.setUpdatedAt(now);
         TaskEntity savedTaskEntity = taskRepository.save(taskEntity);
         return convertToDomainModel(savedTaskEntity);
     }
@@ -42,9 +83,325 @@ public class TaskAdapter implements TaskRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Task> findPageAfter(String afterId, int limit) {
+        // Range scan on _id: every page is an index seek, however deep the cursor is
+        Pageable pageable = PageRequest.of(0, limit);
+        List<TaskEntity> entities = afterId == null
+                ? taskRepository.findAllByOrderByIdAsc(pageable)
+                : taskRepository.findByIdGreaterThanOrderByIdAsc(afterId, pageable);
+        return entities.stream()
+                .map(this::convertToDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Task> streamAll() {
+        return taskRepository.streamAllBy().map(this::convertToDomainModel);
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery query) {
+        return mongoTemplate.find(toMongoQuery(query), TaskEntity.class).stream()
+                .map(this::convertToDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Translates {@code query} into the Mongo query both the mapped and the raw read paths run.
+     */
+    static Query toMongoQuery(TaskQuery query) {
+        Query mongoQuery = new Query();
+        if (query.getCompleted() != null) {
+            mongoQuery.addCriteria(Criteria.where("completed").is(query.getCompleted()));
+        }
+        addRange(mongoQuery, "createdAt", query.getCreatedFrom(), query.getCreatedTo());
+        addRange(mongoQuery, "updatedAt", query.getUpdatedFrom(), query.getUpdatedTo());
+        Sort.Direction direction = query.isDescending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        String sortField = query.getSortBy() == TaskQuery.SortField.CREATED_AT ? "createdAt" : "updatedAt";
+        mongoQuery.with(Sort.by(direction, sortField, "_id"));
+        if (query.getLimit() != null) {
+            mongoQuery.limit(query.getLimit());
+        }
+        return mongoQuery;
+    }
+
+    @Override
+    public TaskStats countTasks() {
+        // One pass grouped by status instead of a count query per status
+        Aggregation aggregation = Aggregation.newAggregation(Aggregation.group("completed").count().as("count"));
+        long total = 0;
+        long completed = 0;
+        for (Document group : mongoTemplate.aggregate(aggregation, TaskEntity.class, Document.class)) {
+            long count = ((Number) group.get("count")).longValue();
+            total += count;
+            if (Boolean.TRUE.equals(group.get("_id"))) {
+                completed += count;
+            }
+        }
+        return new TaskStats(total, completed);
+    }
+
+    @Override
+    public List<Task> findUpdatedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return mongoTemplate.find(changesQuery("updatedAt", after, afterId, before, limit), TaskEntity.class).stream()
+                .map(this::convertToDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TaskTombstone> findDeletedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return mongoTemplate.find(changesQuery("deletedAt", after, afterId, before, limit), TaskTombstoneEntity.class).stream()
+                .map(tombstone -> new TaskTombstone(tombstone.getId(), tombstone.getDeletedAt()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long purgeTombstonesBefore(LocalDateTime cutoff) {
+        return mongoTemplate.remove(Query.query(Criteria.where("deletedAt").lt(cutoff)), TaskTombstoneEntity.class)
+                .getDeletedCount();
+    }
+
+    @Override
+    public LocalDateTime tombstonesKeptSince() {
+        // Tombstones are persisted alongside the tasks, so only purging limits the history
+        return LocalDateTime.MIN;
+    }
+
     @Override
     public void deleteById(String id) {
         taskRepository.deleteById(id);
+        mongoTemplate.save(new TaskTombstoneEntity(id, LocalDateTime.now()));
+    }
+
+    @Override
+    public Optional<Task> updateIfExists(Task task) {
+        Update update = new Update()
+                .set("title", task.getTitle())
+                .set("description", task.getDescription())
+                .set("updatedAt", LocalDateTime.now());
+        Criteria criteria = Criteria.where("_id").is(task.getId());
+        if (task.getVersion() != null) {
+            criteria.and("version").is(task.getVersion());
+        }
+        return findAndModify(Query.query(criteria), update);
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id) {
+        Update update = new Update()
+                .set("completed", true)
+                .set("updatedAt", LocalDateTime.now());
+        return findAndModify(Query.query(Criteria.where("_id").is(id).and("completed").is(false)), update);
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id, long expectedVersion) {
+        Update update = new Update()
+                .set("completed", true)
+                .set("updatedAt", LocalDateTime.now());
+        return findAndModify(Query.query(Criteria.where("_id").is(id)
+                .and("version").is(expectedVersion)
+                .and("completed").is(false)), update);
+    }
+
+    @Override
+    public List<Task> markAllCompleted(Collection<String> ids) {
+        List<Task> completed = new ArrayList<>();
+        List<String> idList = new ArrayList<>(ids);
+        for (int start = 0; start < idList.size(); start += BULK_CHUNK_SIZE) {
+            List<String> chunk = idList.subList(start, Math.min(start + BULK_CHUNK_SIZE, idList.size()));
+            // updateMany only counts what it changed, so it stamps the tasks it completes with an id no other
+            // write uses and reads exactly those back
+            String completionId = new ObjectId().toHexString();
+            Update update = new Update()
+                    .set("completed", true)
+                    .set("updatedAt", LocalDateTime.now())
+                    .set(COMPLETION_ID, completionId)
+                    .inc("version", 1);
+            Criteria pending = Criteria.where("_id").in(chunk).and("completed").is(false);
+            if (mongoTemplate.updateMulti(Query.query(pending), update, TaskEntity.class).getModifiedCount() == 0) {
+                continue;
+            }
+            mongoTemplate.find(Query.query(Criteria.where("_id").in(chunk).and(COMPLETION_ID).is(completionId)),
+                            TaskEntity.class)
+                    .forEach(entity -> completed.add(convertToDomainModel(entity)));
+        }
+        return completed;
+    }
+
+    @Override
+    public Optional<Task> findAndDeleteById(String id) {
+        Optional<Task> deleted = Optional.ofNullable(
+                        mongoTemplate.findAndRemove(Query.query(Criteria.where("_id").is(id)), TaskEntity.class))
+                .map(this::convertToDomainModel);
+        deleted.ifPresent(task -> mongoTemplate.save(new TaskTombstoneEntity(id, LocalDateTime.now())));
+        return deleted;
+    }
+
+    @Override
+    public List<TaskBatchItemResult> saveAll(List<Task> tasks) {
+        List<TaskBatchItemResult> results = new ArrayList<>(tasks.size());
+        // At the precision Mongo stores, so returned tasks match what a later read sees
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        for (int start = 0; start < tasks.size(); start += BULK_CHUNK_SIZE) {
+            List<Task> chunk = tasks.subList(start, Math.min(start + BULK_CHUNK_SIZE, tasks.size()));
+            results.addAll(bulkSave(chunk, start, now));
+        }
+        return results;
+    }
+
+    @Override
+    public void putAll(Collection<Task> tasks) {
+        List<Task> taskList = new ArrayList<>(tasks);
+        for (int start = 0; start < taskList.size(); start += BULK_CHUNK_SIZE) {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskEntity.class);
+            for (Task task : taskList.subList(start, Math.min(start + BULK_CHUNK_SIZE, taskList.size()))) {
+                bulk.replaceOne(Query.query(Criteria.where("_id").is(task.getId())), convertToEntity(task),
+                        FindAndReplaceOptions.options().upsert());
+            }
+            bulk.execute();
+        }
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<String> ids) {
+        return taskRepository.findAllById(ids).stream()
+                .map(this::convertToDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Task> deleteAllById(Collection<String> ids) {
+        List<Task> deleted = new ArrayList<>();
+        List<String> idList = new ArrayList<>(ids);
+        for (int start = 0; start < idList.size(); start += BULK_CHUNK_SIZE) {
+            List<String> chunk = idList.subList(start, Math.min(start + BULK_CHUNK_SIZE, idList.size()));
+            // Reads the matching tasks, then removes exactly those by id, so the result is what was deleted
+            List<TaskEntity> removed = mongoTemplate.findAllAndRemove(
+                    Query.query(Criteria.where("_id").in(chunk)), TaskEntity.class);
+            if (!removed.isEmpty()) {
+                saveTombstones(removed.stream().map(TaskEntity::getId).toList());
+            }
+            removed.forEach(entity -> deleted.add(convertToDomainModel(entity)));
+        }
+        return deleted;
+    }
+
+    private void saveTombstones(List<String> ids) {
+        // Upserts rather than inserts: an id deleted before, recreated with the same id and deleted again
+        // already has a tombstone
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskTombstoneEntity.class);
+        LocalDateTime now = LocalDateTime.now();
+        for (String id : ids) {
+            bulk.upsert(Query.query(Criteria.where("_id").is(id)), new Update().set("deletedAt", now));
+        }
+        bulk.execute();
+    }
+
+    private Query changesQuery(String field, LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        // Keyset bounds on (field, _id), served by the matching compound index
+        Criteria criteria = Criteria.where(field).lt(before);
+        if (after != null && afterId == null) {
+            criteria.gte(after);
+        } else if (after != null) {
+            criteria.orOperator(
+                    Criteria.where(field).gt(after),
+                    Criteria.where(field).is(after).and("_id").gt(afterId));
+        }
+        return Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, field, "_id"))
+                .limit(limit);
+    }
+
+    private static void addRange(Query query, String field, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return;
+        }
+        Criteria criteria = Criteria.where(field);
+        if (from != null) {
+            criteria.gte(from);
+        }
+        if (to != null) {
+            criteria.lt(to);
+        }
+        query.addCriteria(criteria);
+    }
+
+    private Optional<Task> findAndModify(Query query, Update update) {
+        update.inc("version", 1);
+        TaskEntity updated = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), TaskEntity.class);
+        return Optional.ofNullable(updated).map(this::convertToDomainModel);
+    }
+
+    private List<TaskBatchItemResult> bulkSave(List<Task> chunk, int offset, LocalDateTime now) {
+        List<TaskBatchItemResult> results = new ArrayList<>(Collections.nCopies(chunk.size(), null));
+        List<TaskEntity> inserts = new ArrayList<>();
+        List<Integer> insertPositions = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Task task = chunk.get(i);
+            if (task.getId() == null) {
+                TaskEntity taskEntity = convertToEntity(task);
+                taskEntity.setId(new ObjectId().toHexString());
+                if (taskEntity.getCreatedAt() == null) {
+                    taskEntity.setCreatedAt(now);
+                }
+                taskEntity.setUpdatedAt(now);
+                // Bulk writes bypass @Version handling, so the version is set here
+                taskEntity.setVersion(0L);
+                inserts.add(taskEntity);
+                insertPositions.add(i);
+            } else {
+                results.set(i, updateIfCurrent(task, offset + i, now));
+            }
+        }
+        if (inserts.isEmpty()) {
+            return results;
+        }
+
+        // Unordered so one failing item doesn't stop the rest of the chunk
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskEntity.class);
+        bulk.insert(inserts);
+        Map<Integer, String> errors = new HashMap<>();
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                errors.put(error.getIndex(), error.getMessage());
+            }
+        }
+        for (int j = 0; j < inserts.size(); j++) {
+            int index = insertPositions.get(j);
+            TaskEntity taskEntity = inserts.get(j);
+            String error = errors.get(j);
+            results.set(index, error != null
+                    ? TaskBatchItemResult.failure(offset + index, taskEntity.getId(), error)
+                    : TaskBatchItemResult.success(offset + index, convertToDomainModel(taskEntity)));
+        }
+        return results;
+    }
+
+    /**
+     * Applies {@code task} only if the stored task is still at the version the caller read, so a batch built
+     * from an earlier read can neither bring back a deleted task nor overwrite a concurrent change. A bulk
+     * write only counts how many updates matched, so each one is its own conditional findAndModify and its
+     * result says whether that item applied.
+     */
+    private TaskBatchItemResult updateIfCurrent(Task task, int index, LocalDateTime now) {
+        Query current = Query.query(Criteria.where("_id").is(task.getId()).and("version").is(task.getVersion()));
+        Update update = new Update()
+                .set("title", task.getTitle())
+                .set("description", task.getDescription())
+                .set("completed", task.isCompleted())
+                .set("updatedAt", now);
+        try {
+            return findAndModify(current, update)
+                    .map(saved -> TaskBatchItemResult.success(index, saved))
+                    .orElseGet(() -> TaskBatchItemResult.stale(index, task.getId()));
+        } catch (DataAccessException e) {
+            return TaskBatchItemResult.failure(index, task.getId(), e.getMessage());
+        }
     }
 
     private TaskEntity convertToEntity(Task task) {
@@ -54,7 +411,8 @@ public class TaskAdapter implements TaskRepository {
                 task.getDescription(),
                 task.isCompleted(),
                 task.getCreatedAt(),
-                task.getUpdatedAt()
+                task.getUpdatedAt(),
+                task.getVersion()
         );
     }
 
@@ -65,7 +423,8 @@ public class TaskAdapter implements TaskRepository {
                 taskEntity.getDescription(),
                 taskEntity.isCompleted(),
                 taskEntity.getCreatedAt(),
-                taskEntity.getUpdatedAt()
+                taskEntity.getUpdatedAt(),
+                taskEntity.getVersion()
         );
     }
 }
@@ -0,0 +1,277 @@
+package com.example.taskmanagement.infrastructure.cache;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.model.TaskTombstone;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache for {@link TaskRepository#findById} that decorates any task store.
+ * Entries are bounded (Caffeine's W-TinyLFU eviction), expire after a fixed TTL and are refreshed or
+ * invalidated by every write that goes through this decorator. Tasks are mutable, so copies go in and out.
+ * <p>
+ * A miss is loaded outside any cache lock, so a slow store read holds up nobody else. Reads and writes are
+ * fenced by per-stripe write stamps instead: every write bumps the stamp of its task's stripe once it
+ * returns, a read only caches what it loaded if no write bumped the stamp meanwhile, and a write only caches
+ * its result if no other write did. Whatever is cached is also never replaced by an older version.
+ */
+public class CachingTaskRepository implements TaskRepository {
+
+    private static final int STAMP_STRIPES = 256;
+
+    private final TaskRepository delegate;
+    private final Cache<String, Task> cache;
+    private final AtomicLongArray writeStamps = new AtomicLongArray(STAMP_STRIPES);
+
+    public CachingTaskRepository(TaskRepository delegate, long maximumSize, Duration ttl) {
+        this(delegate, maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    CachingTaskRepository(TaskRepository delegate, long maximumSize, Duration ttl, Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public Cache<String, Task> nativeCache() {
+        return cache;
+    }
+
+    @Override
+    public Task save(Task task) {
+        Map<Integer, Long> before = stamps(task.getId() == null ? List.of() : List.of(task.getId()));
+        Task saved = delegate.save(task);
+        written(before, List.of(saved), List.of());
+        return saved;
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        Task cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+        int stripe = stripe(id);
+        long before = writeStamps.get(stripe);
+        Optional<Task> loaded = delegate.findById(id);
+        // A write that ran meanwhile may have changed or removed the task after it was read
+        loaded.ifPresent(task -> cache.asMap().compute(id, (key, current) ->
+                writeStamps.get(stripe) == before ? newer(current, copy(task)) : current));
+        return loaded;
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Task> findPageAfter(String afterId, int limit) {
+        return delegate.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Stream<Task> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery query) {
+        return delegate.findByQuery(query);
+    }
+
+    @Override
+    public TaskStats countTasks() {
+        return delegate.countTasks();
+    }
+
+    @Override
+    public List<Task> findUpdatedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return delegate.findUpdatedBetween(after, afterId, before, limit);
+    }
+
+    @Override
+    public List<TaskTombstone> findDeletedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return delegate.findDeletedBetween(after, afterId, before, limit);
+    }
+
+    @Override
+    public long purgeTombstonesBefore(LocalDateTime cutoff) {
+        return delegate.purgeTombstonesBefore(cutoff);
+    }
+
+    @Override
+    public LocalDateTime tombstonesKeptSince() {
+        return delegate.tombstonesKeptSince();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        Map<Integer, Long> before = stamps(List.of(id));
+        delegate.deleteById(id);
+        written(before, List.of(), List.of(id));
+    }
+
+    @Override
+    public Optional<Task> updateIfExists(Task task) {
+        Map<Integer, Long> before = stamps(List.of(task.getId()));
+        return written(before, task.getId(), delegate.updateIfExists(task));
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id) {
+        Map<Integer, Long> before = stamps(List.of(id));
+        return written(before, id, delegate.markCompleted(id));
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id, long expectedVersion) {
+        Map<Integer, Long> before = stamps(List.of(id));
+        return written(before, id, delegate.markCompleted(id, expectedVersion));
+    }
+
+    @Override
+    public List<Task> markAllCompleted(Collection<String> ids) {
+        Map<Integer, Long> before = stamps(ids);
+        List<Task> completed = delegate.markAllCompleted(ids);
+        // The rest were already completed or gone, so whatever is cached for them may be stale
+        Set<String> missed = new HashSet<>(ids);
+        completed.forEach(task -> missed.remove(task.getId()));
+        written(before, completed, missed);
+        return completed;
+    }
+
+    @Override
+    public Optional<Task> findAndDeleteById(String id) {
+        Map<Integer, Long> before = stamps(List.of(id));
+        Optional<Task> deleted = delegate.findAndDeleteById(id);
+        written(before, List.of(), List.of(id));
+        return deleted;
+    }
+
+    @Override
+    public List<TaskBatchItemResult> saveAll(List<Task> tasks) {
+        Map<Integer, Long> before = stamps(tasks.stream().map(Task::getId).filter(Objects::nonNull).toList());
+        List<TaskBatchItemResult> results = delegate.saveAll(tasks);
+        List<Task> saved = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        for (TaskBatchItemResult result : results) {
+            if (result.isSuccess()) {
+                saved.add(result.getTask());
+            } else if (result.getId() != null) {
+                failed.add(result.getId());
+            }
+        }
+        written(before, saved, failed);
+        return results;
+    }
+
+    @Override
+    public void putAll(Collection<Task> tasks) {
+        Map<Integer, Long> before = stamps(tasks.stream().map(Task::getId).toList());
+        delegate.putAll(tasks);
+        written(before, tasks, List.of());
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<String> ids) {
+        List<Task> found = new ArrayList<>(ids.size());
+        List<String> misses = new ArrayList<>();
+        for (String id : ids) {
+            Task cached = cache.getIfPresent(id);
+            if (cached != null) {
+                found.add(copy(cached));
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            // Not cached: a bulk load can't be fenced against concurrent invalidations the way findById is
+            found.addAll(delegate.findAllById(misses));
+        }
+        return found;
+    }
+
+    @Override
+    public List<Task> deleteAllById(Collection<String> ids) {
+        Map<Integer, Long> before = stamps(ids);
+        List<Task> deleted = delegate.deleteAllById(ids);
+        written(before, List.of(), ids);
+        return deleted;
+    }
+
+    private Optional<Task> written(Map<Integer, Long> before, String id, Optional<Task> written) {
+        written(before, written.stream().toList(), written.isPresent() ? List.of() : List.of(id));
+        return written;
+    }
+
+    /**
+     * Bumps the stamps of every stripe a write touched, then caches the tasks it left behind and drops the
+     * ones it missed. A task is only cached when no other write bumped its stripe since {@code before} was
+     * taken; their order is unknown then, so the entry is dropped instead.
+     */
+    private void written(Map<Integer, Long> before, Collection<Task> written, Collection<String> missed) {
+        Map<Integer, Long> expected = new HashMap<>(before);
+        written.forEach(task -> expected.putIfAbsent(stripe(task.getId()), writeStamps.get(stripe(task.getId()))));
+        Map<Integer, Long> after = new HashMap<>();
+        expected.forEach((stripe, stamp) -> after.put(stripe, writeStamps.incrementAndGet(stripe)));
+        for (Task task : written) {
+            int stripe = stripe(task.getId());
+            long stamp = after.get(stripe);
+            boolean alone = stamp == expected.get(stripe) + 1;
+            cache.asMap().compute(task.getId(), (key, current) -> alone && writeStamps.get(stripe) == stamp
+                    ? newer(current, copy(task))
+                    : null);
+        }
+        cache.invalidateAll(missed);
+    }
+
+    private Map<Integer, Long> stamps(Collection<String> ids) {
+        Map<Integer, Long> stamps = new HashMap<>();
+        ids.forEach(id -> stamps.putIfAbsent(stripe(id), writeStamps.get(stripe(id))));
+        return stamps;
+    }
+
+    private static int stripe(String id) {
+        return (id.hashCode() & Integer.MAX_VALUE) % STAMP_STRIPES;
+    }
+
+    private static Task newer(Task cached, Task candidate) {
+        if (cached == null || cached.getVersion() == null || candidate.getVersion() == null) {
+            return candidate;
+        }
+        return candidate.getVersion() >= cached.getVersion() ? candidate : cached;
+    }
+
+    private Task copy(Task task) {
+        return task.toBuilder().build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.taskmanagement.infrastructure.coalescing;
+
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.port.out.TaskReadRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-flight rendering for a {@link TaskReadRepository} that reads the store without going through
+ * {@link CoalescingTaskRepository}: while a list is being rendered, identical requests (same query, layout and
+ * encoding) wait for it and are sent the same bytes. Calls that joined another are counted in
+ * {@code task.repository.coalesced} under {@code writeTasks}.
+ * <p>
+ * Only {@link TaskListFormat#JSON_ARRAY} lists are shared, since sharing means holding the whole body in
+ * memory; streamed exports go straight to the delegate. Writes detach in-flight renders through
+ * {@link #detachAll()}, called by {@link CoalescingTaskRepository}, so a list requested after a write
+ * returns never shares a body rendered before it.
+ */
+public class CoalescingTaskReadRepository implements TaskReadRepository {
+
+    private static final String OPERATION = "writeTasks";
+
+    private final TaskReadRepository delegate;
+    private final Map<Render, CompletableFuture<Rendered>> renders = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    public CoalescingTaskReadRepository(TaskReadRepository delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.coalesced = Counter.builder("task.repository.coalesced")
+                .tag("operation", OPERATION)
+                .register(registry);
+    }
+
+    /**
+     * Number of calls that were sent another call's rendered list.
+     */
+    public double coalescedCount() {
+        return coalesced.count();
+    }
+
+    @Override
+    public long writeTasks(TaskQuery query, TaskListFormat format, TaskEncoding encoding, OutputStream out) {
+        if (format != TaskListFormat.JSON_ARRAY) {
+            return delegate.writeTasks(query, format, encoding, out);
+        }
+        // Queries are mutable, so the key is a snapshot
+        Render key = new Render(query == null ? null : query.toBuilder().build(), format, encoding);
+        CompletableFuture<Rendered> call = new CompletableFuture<>();
+        CompletableFuture<Rendered> existing = renders.putIfAbsent(key, call);
+        Rendered rendered;
+        if (existing != null) {
+            coalesced.increment();
+            rendered = join(existing);
+        } else {
+            try {
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                long count = delegate.writeTasks(query, format, encoding, body);
+                rendered = new Rendered(body.toByteArray(), count);
+                call.complete(rendered);
+            } catch (RuntimeException | Error e) {
+                call.completeExceptionally(e);
+                throw e;
+            } finally {
+                renders.remove(key, call);
+            }
+        }
+        try {
+            out.write(rendered.body());
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rendered.count();
+    }
+
+    /**
+     * Makes requests that arrive from now on render their own list instead of joining one in flight.
+     */
+    public void detachAll() {
+        renders.clear();
+    }
+
+    private static Rendered join(CompletableFuture<Rendered> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Render(TaskQuery query, TaskListFormat format, TaskEncoding encoding) {
+    }
+
+    private record Rendered(byte[] body, long count) {
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.taskmanagement.infrastructure.coalescing;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.model.TaskTombstone;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Single-flight reads for any task store: while a lookup is in flight, identical lookups wait for it and
+ * share its result instead of issuing their own. Calls that joined another are counted in
+ * {@code task.repository.coalesced}, tagged by operation.
+ * <p>
+ * Writes through this decorator detach in-flight reads they may have overtaken, so a read that starts
+ * after a write returns never shares a result loaded before it; the same goes for lists rendered by a
+ * {@link CoalescingTaskReadRepository} given to this decorator. Tasks are mutable, so every caller gets
+ * its own copy of the shared result.
+ */
+public class CoalescingTaskRepository implements TaskRepository {
+
+    private final TaskRepository delegate;
+    private final MeterRegistry registry;
+    private final Map<String, CompletableFuture<Optional<Task>>> lookups = new ConcurrentHashMap<>();
+    private final Map<Call, CompletableFuture<Object>> queries = new ConcurrentHashMap<>();
+    private final Map<String, Counter> coalesced = new ConcurrentHashMap<>();
+    private final CoalescingTaskReadRepository renderedLists;
+
+    public CoalescingTaskRepository(TaskRepository delegate, MeterRegistry registry) {
+        this(delegate, registry, null);
+    }
+
+    /**
+     * @param renderedLists coalesced list renders to detach on every write, or null when there are none
+     */
+    public CoalescingTaskRepository(TaskRepository delegate, MeterRegistry registry,
+                                    CoalescingTaskReadRepository renderedLists) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.renderedLists = renderedLists;
+    }
+
+    /**
+     * Number of calls to {@code operation} that shared another call's result.
+     */
+    public double coalescedCount(String operation) {
+        return coalesced(operation).count();
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        return coalesce(lookups, id, "findById", () -> delegate.findById(id), task -> task.map(this::copy));
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return query(new Call("findAll", null), delegate::findAll);
+    }
+
+    @Override
+    public List<Task> findPageAfter(String afterId, int limit) {
+        return query(new Call("findPageAfter", List.of(String.valueOf(afterId), limit)),
+                () -> delegate.findPageAfter(afterId, limit));
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery query) {
+        // Queries are mutable, so the key is a snapshot
+        return query(new Call("findByQuery", query.toBuilder().build()), () -> delegate.findByQuery(query));
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<String> ids) {
+        return query(new Call("findAllById", List.copyOf(ids)), () -> delegate.findAllById(ids));
+    }
+
+    @Override
+    public TaskStats countTasks() {
+        return delegate.countTasks();
+    }
+
+    @Override
+    public Stream<Task> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<Task> findUpdatedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return delegate.findUpdatedBetween(after, afterId, before, limit);
+    }
+
+    @Override
+    public List<TaskTombstone> findDeletedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return delegate.findDeletedBetween(after, afterId, before, limit);
+    }
+
+    @Override
+    public long purgeTombstonesBefore(LocalDateTime cutoff) {
+        return delegate.purgeTombstonesBefore(cutoff);
+    }
+
+    @Override
+    public LocalDateTime tombstonesKeptSince() {
+        return delegate.tombstonesKeptSince();
+    }
+
+    @Override
+    public Task save(Task task) {
+        try {
+            return delegate.save(task);
+        } finally {
+            detach(task.getId());
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        try {
+            delegate.deleteById(id);
+        } finally {
+            detach(id);
+        }
+    }
+
+    @Override
+    public Optional<Task> updateIfExists(Task task) {
+        try {
+            return delegate.updateIfExists(task);
+        } finally {
+            detach(task.getId());
+        }
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id) {
+        try {
+            return delegate.markCompleted(id);
+        } finally {
+            detach(id);
+        }
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id, long expectedVersion) {
+        try {
+            return delegate.markCompleted(id, expectedVersion);
+        } finally {
+            detach(id);
+        }
+    }
+
+    @Override
+    public List<Task> markAllCompleted(Collection<String> ids) {
+        try {
+            return delegate.markAllCompleted(ids);
+        } finally {
+            detachAll();
+        }
+    }
+
+    @Override
+    public Optional<Task> findAndDeleteById(String id) {
+        try {
+            return delegate.findAndDeleteById(id);
+        } finally {
+            detach(id);
+        }
+    }
+
+    @Override
+    public List<TaskBatchItemResult> saveAll(List<Task> tasks) {
+        try {
+            return delegate.saveAll(tasks);
+        } finally {
+            detachAll();
+        }
+    }
+
+    @Override
+    public void putAll(Collection<Task> tasks) {
+        try {
+            delegate.putAll(tasks);
+        } finally {
+            detachAll();
+        }
+    }
+
+    @Override
+    public List<Task> deleteAllById(Collection<String> ids) {
+        try {
+            return delegate.deleteAllById(ids);
+        } finally {
+            detachAll();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Task> query(Call call, Supplier<List<Task>> load) {
+        return (List<Task>) coalesce(queries, call, call.operation(), load::get, tasks -> copyAll((List<Task>) tasks));
+    }
+
+    private <K, T> T coalesce(Map<K, CompletableFuture<T>> inFlight, K key, String operation,
+                              Supplier<T> load, UnaryOperator<T> copy) {
+        CompletableFuture<T> call = new CompletableFuture<>();
+        CompletableFuture<T> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced(operation).increment();
+            return copy.apply(join(existing));
+        }
+        try {
+            T result = load.get();
+            call.complete(result);
+            // The loaded result stays with the callers that joined; this caller gets a copy like they do
+            return copy.apply(result);
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void detach(String id) {
+        if (id != null) {
+            lookups.remove(id);
+        }
+        detachLists();
+    }
+
+    private void detachAll() {
+        lookups.clear();
+        detachLists();
+    }
+
+    private void detachLists() {
+        queries.clear();
+        if (renderedLists != null) {
+            renderedLists.detachAll();
+        }
+    }
+
+    private Counter coalesced(String operation) {
+        return coalesced.computeIfAbsent(operation, op -> Counter.builder("task.repository.coalesced")
+                .tag("operation", op)
+                .register(registry));
+    }
+
+    private List<Task> copyAll(List<Task> tasks) {
+        List<Task> copies = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            copies.add(copy(task));
+        }
+        return copies;
+    }
+
+    private Task copy(Task task) {
+        return task.toBuilder().build();
+    }
+
+    private record Call(String operation, Object argument) {
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.taskmanagement.infrastructure.entity;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -8,7 +11,17 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * The indexes follow equality, sort, range order with {@code _id} as the tie-breaker, so filtered listings
+ * are served by an index scan in either direction without an in-memory sort.
+ */
 @Document(collection = "tasks")
+@CompoundIndexes({
+        @CompoundIndex(name = "completed_updatedAt_id", def = "{'completed': 1, 'updatedAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "completed_createdAt_id", def = "{'completed': 1, 'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "updatedAt_id", def = "{'updatedAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "createdAt_id", def = "{'createdAt': 1, '_id': 1}")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,5 +33,11 @@ public class TaskEntity {
     private boolean completed;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
-}
+    @Version
+    private Long version;
 
+    public TaskEntity(String id, String title, String description, boolean completed,
+                      LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, description, completed, createdAt, updatedAt, null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.taskmanagement.infrastructure.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "task_tombstones")
+@CompoundIndex(name = "deletedAt_id", def = "{'deletedAt': 1, '_id': 1}")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstoneEntity {
+    @Id
+    private String id;
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,113 @@
+package com.example.taskmanagement.infrastructure.file;
+
+import com.example.taskmanagement.domain.model.Task;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binary encoding of the records written to the task log and snapshot. A PUT carries the full task
+ * state, a DELETE only the id, so replaying records in order is idempotent. PUTs written before tasks
+ * were versioned are still read, with version 0.
+ */
+public final class TaskRecordCodec {
+
+    public static final byte PUT = 1;
+    public static final byte DELETE = 2;
+    public static final byte PUT_VERSIONED = 3;
+
+    private static final int NULL_STRING = -1;
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    private TaskRecordCodec() {
+    }
+
+    public static byte[] encodePut(Task task) {
+        byte[] id = bytes(task.getId());
+        byte[] title = bytes(task.getTitle());
+        byte[] description = bytes(task.getDescription());
+        ByteBuffer buffer = ByteBuffer.allocate(1 + sizeOf(id) + sizeOf(title) + sizeOf(description) + 1 + 24);
+        buffer.put(PUT_VERSIONED);
+        putString(buffer, id);
+        putString(buffer, title);
+        putString(buffer, description);
+        buffer.put((byte) (task.isCompleted() ? 1 : 0));
+        buffer.putLong(toNanos(task.getCreatedAt()));
+        buffer.putLong(toNanos(task.getUpdatedAt()));
+        buffer.putLong(task.getVersion() == null ? 0 : task.getVersion());
+        return buffer.array();
+    }
+
+    public static byte[] encodeDelete(String id) {
+        byte[] idBytes = bytes(id);
+        ByteBuffer buffer = ByteBuffer.allocate(1 + sizeOf(idBytes));
+        buffer.put(DELETE);
+        putString(buffer, idBytes);
+        return buffer.array();
+    }
+
+    public static TaskRecord decode(ByteBuffer payload) {
+        byte op = payload.get();
+        String id = getString(payload);
+        if (op == DELETE) {
+            return new TaskRecord(op, id, null);
+        }
+        if (op != PUT && op != PUT_VERSIONED) {
+            throw new IllegalStateException("Unknown task log record type: " + op);
+        }
+        String title = getString(payload);
+        String description = getString(payload);
+        boolean completed = payload.get() == 1;
+        LocalDateTime createdAt = fromNanos(payload.getLong());
+        LocalDateTime updatedAt = fromNanos(payload.getLong());
+        long version = op == PUT_VERSIONED ? payload.getLong() : 0;
+        return new TaskRecord(PUT, id, new Task(id, title, description, completed, createdAt, updatedAt, version));
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int sizeOf(byte[] value) {
+        return 4 + (value == null ? 0 : value.length);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(NULL_STRING);
+            return;
+        }
+        buffer.putInt(value.length);
+        buffer.put(value);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static long toNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NULL_TIMESTAMP;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+
+    private static LocalDateTime fromNanos(long nanos) {
+        if (nanos == NULL_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    public record TaskRecord(byte op, String id, Task task) {
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.taskmanagement.infrastructure.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, memory-mapped log of task records. Each record is framed as
+ * {@code [int length][int crc32][payload]}; a zero length marks the end of the log, and a record whose
+ * checksum doesn't match is treated as a torn write and ends recovery.
+ * <p>
+ * Appends only copy bytes into the mapping. A background committer fsyncs the mapping as soon as
+ * there is unsynced data (or at least every {@code fsyncInterval}), so every writer that appended
+ * during one fsync is made durable by the next one (group commit).
+ * <p>
+ * Java 21 has no supported way to unmap a {@link MappedByteBuffer}, and the committer may still be forcing
+ * a mapping when it is replaced, so a mapping the log has outgrown, or the one left by {@link #close},
+ * stays mapped until the buffer is garbage collected. Mappings double as they grow, so each log holds at
+ * most about twice its final size in address space, plus whatever logs compaction has rotated away in the
+ * meantime.
+ */
+public class TaskWriteAheadLog implements Closeable {
+
+    private static final int HEADER_SIZE = 8;
+    private static final int MAX_MAPPED_SIZE = 1 << 30;
+
+    private final FileChannel channel;
+    private final long fsyncIntervalMillis;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Object durabilityMonitor = new Object();
+    private final Thread committer;
+
+    private volatile MappedByteBuffer buffer;
+    private int position;
+    private long written;
+    private long durable;
+    private boolean stopping;
+    private boolean closed;
+
+    private TaskWriteAheadLog(FileChannel channel, MappedByteBuffer buffer, int position, Duration fsyncInterval) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.position = position;
+        this.written = position;
+        this.durable = position;
+        this.fsyncIntervalMillis = Math.max(1, fsyncInterval.toMillis());
+        this.committer = new Thread(this::commitLoop, "task-wal-committer");
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    /**
+     * Opens (or creates) the log at {@code path}, handing every intact record to {@code replay} in order.
+     */
+    public static TaskWriteAheadLog open(Path path, int initialSize, Duration fsyncInterval,
+                                         Consumer<ByteBuffer> replay) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        int size = (int) Math.min(MAX_MAPPED_SIZE, Math.max(initialSize, channel.size()));
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        int position = recover(buffer, replay);
+        return new TaskWriteAheadLog(channel, buffer, position, fsyncInterval);
+    }
+
+    /**
+     * Appends one record and returns the log offset just past it, to be passed to {@link #awaitDurable}.
+     */
+    public long append(byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        appendLock.lock();
+        try {
+            synchronized (durabilityMonitor) {
+                if (stopping) {
+                    throw new IOException("Task log is closed");
+                }
+            }
+            ensureCapacity(HEADER_SIZE + payload.length);
+            MappedByteBuffer target = buffer;
+            target.putInt(position + 4, (int) crc.getValue());
+            target.put(position + HEADER_SIZE, payload);
+            // Length goes last: a record is only visible to recovery once it is complete
+            target.putInt(position, payload.length);
+            position += HEADER_SIZE + payload.length;
+            synchronized (durabilityMonitor) {
+                written = position;
+                durabilityMonitor.notifyAll();
+            }
+            return position;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until every record up to {@code offset} has been fsynced.
+     */
+    public void awaitDurable(long offset) {
+        synchronized (durabilityMonitor) {
+            while (durable < offset) {
+                if (closed) {
+                    throw new IllegalStateException("Task log closed before the write became durable");
+                }
+                try {
+                    durabilityMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the task log to sync", e);
+                }
+            }
+        }
+    }
+
+    public long size() {
+        synchronized (durabilityMonitor) {
+            return written;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            synchronized (durabilityMonitor) {
+                if (stopping) {
+                    return;
+                }
+                stopping = true;
+                durabilityMonitor.notifyAll();
+            }
+            try {
+                committer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            buffer.force();
+            synchronized (durabilityMonitor) {
+                // Everything appended so far is durable, so writers still waiting on this log can return
+                durable = written;
+                closed = true;
+                durabilityMonitor.notifyAll();
+            }
+            channel.close();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void commitLoop() {
+        while (true) {
+            long target;
+            synchronized (durabilityMonitor) {
+                if (stopping) {
+                    return;
+                }
+                if (written == durable) {
+                    try {
+                        durabilityMonitor.wait(fsyncIntervalMillis);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                target = written;
+                if (stopping || target == durable) {
+                    continue;
+                }
+            }
+            buffer.force();
+            synchronized (durabilityMonitor) {
+                durable = Math.max(durable, target);
+                durabilityMonitor.notifyAll();
+            }
+        }
+    }
+
+    private void ensureCapacity(int recordSize) throws IOException {
+        MappedByteBuffer current = buffer;
+        // Keep room for the next record's zero length marker
+        long required = (long) position + recordSize + HEADER_SIZE;
+        if (required <= current.capacity()) {
+            return;
+        }
+        if (required > MAX_MAPPED_SIZE) {
+            throw new IOException("Task log is full; compaction is not keeping up");
+        }
+        long newSize = current.capacity();
+        while (newSize < required) {
+            newSize *= 2;
+        }
+        current.force();
+        // The old mapping is left to the garbage collector; see the class comment
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.min(newSize, MAX_MAPPED_SIZE));
+    }
+
+    private static int recover(MappedByteBuffer buffer, Consumer<ByteBuffer> replay) {
+        int position = 0;
+        int capacity = buffer.capacity();
+        CRC32 crc = new CRC32();
+        while (position + HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(position);
+            // In long: a corrupt length near Integer.MAX_VALUE would otherwise wrap past the bounds check
+            if (length <= 0 || (long) position + HEADER_SIZE + length > capacity) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice(position + HEADER_SIZE, length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                break;
+            }
+            replay.accept(payload);
+            position += HEADER_SIZE + length;
+        }
+        zeroTail(buffer, position);
+        return position;
+    }
+
+    /**
+     * Clears whatever follows the last intact record so bytes left by a torn write can never be
+     * mistaken for records once new appends land in front of them.
+     */
+    private static void zeroTail(MappedByteBuffer buffer, int from) {
+        byte[] zeros = new byte[64 * 1024];
+        int capacity = buffer.capacity();
+        int dirtyEnd = from;
+        for (int i = from; i < capacity; i++) {
+            if (buffer.get(i) != 0) {
+                dirtyEnd = i + 1;
+            }
+        }
+        for (int i = from; i < dirtyEnd; i += zeros.length) {
+            buffer.put(i, zeros, 0, Math.min(zeros.length, dirtyEnd - i));
+        }
+        if (dirtyEnd > from) {
+            buffer.force();
+        }
+    }
+}
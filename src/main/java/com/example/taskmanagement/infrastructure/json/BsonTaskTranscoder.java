@@ -0,0 +1,56 @@
+package com.example.taskmanagement.infrastructure.json;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Reads a stored task document straight off its BSON bytes and hands the fields to a {@link TaskJsonWriter},
+ * skipping the entity and domain objects of the mapped read path. Dates are converted the way Spring Data
+ * reads them into {@link LocalDateTime}, in the system time zone.
+ */
+public final class BsonTaskTranscoder {
+
+    private BsonTaskTranscoder() {
+    }
+
+    public static void transcode(RawBsonDocument document, TaskJsonWriter writer) {
+        String id = null;
+        String title = null;
+        String description = null;
+        boolean completed = false;
+        LocalDateTime createdAt = null;
+        LocalDateTime updatedAt = null;
+        try (BsonBinaryReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                String name = reader.readName();
+                if (reader.getCurrentBsonType() == BsonType.NULL) {
+                    reader.readNull();
+                    continue;
+                }
+                switch (name) {
+                    case "_id" -> id = reader.getCurrentBsonType() == BsonType.OBJECT_ID
+                            ? reader.readObjectId().toHexString()
+                            : reader.readString();
+                    case "title" -> title = reader.readString();
+                    case "description" -> description = reader.readString();
+                    case "completed" -> completed = reader.readBoolean();
+                    case "createdAt" -> createdAt = toLocalDateTime(reader.readDateTime());
+                    case "updatedAt" -> updatedAt = toLocalDateTime(reader.readDateTime());
+                    default -> reader.skipValue();
+                }
+            }
+            reader.readEndDocument();
+        }
+        writer.writeTask(id, title, description, completed, createdAt, updatedAt);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
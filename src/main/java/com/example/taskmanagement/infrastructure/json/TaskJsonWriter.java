@@ -0,0 +1,179 @@
+package com.example.taskmanagement.infrastructure.json;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneRules;
+
+/**
+ * Writes tasks field by field in the JSON shape of {@code TaskDTO}, with timestamps in the ISO-8601 form
+ * Jackson uses for {@link LocalDateTime}, so rendered lists match what the mapped read path returns. The
+ * first task is flushed right away so clients see bytes before a long scan completes.
+ * <p>
+ * The same shape can be written as CBOR or Smile and with epoch-millisecond timestamps; in the binary
+ * formats the {@link TaskListFormat#NDJSON} layout is a plain sequence of root values without newlines.
+ */
+public final class TaskJsonWriter implements Closeable {
+
+    private static final int FLUSH_INTERVAL = 256;
+    private static final CBORFactory CBOR_FACTORY = new CBORFactory();
+    private static final SmileFactory SMILE_FACTORY = new SmileFactory();
+
+    private final JsonGenerator generator;
+    private final TaskListFormat format;
+    private final boolean newlines;
+    private final ZoneRules epochMillisZone;
+    private final char[] dateTime = new char[29];
+    private long written;
+
+    public TaskJsonWriter(JsonFactory jsonFactory, OutputStream out, TaskListFormat format) {
+        this(jsonFactory, out, format, false);
+    }
+
+    /**
+     * Writes with {@code jsonFactory}, which decides the data format, and epoch-millisecond timestamps when
+     * {@code epochMillis} is set.
+     */
+    public TaskJsonWriter(JsonFactory jsonFactory, OutputStream out, TaskListFormat format, boolean epochMillis) {
+        try {
+            this.generator = jsonFactory.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.format = format;
+            this.newlines = format == TaskListFormat.NDJSON && JsonFactory.FORMAT_NAME_JSON.equals(jsonFactory.getFormatName());
+            this.epochMillisZone = epochMillis ? ZoneId.systemDefault().getRules() : null;
+            if (format == TaskListFormat.JSON_ARRAY) {
+                generator.writeStartArray();
+            } else if (newlines) {
+                // Records are separated explicitly; without this Jackson also puts a space before each root
+                // value, so every line after the first would start with one
+                generator.setRootValueSeparator(null);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Opens a writer for {@code encoding}; JSON is written with {@code jsonFactory}, so it keeps the
+     * application's Jackson settings.
+     */
+    public static TaskJsonWriter create(JsonFactory jsonFactory, OutputStream out, TaskListFormat format,
+                                        TaskEncoding encoding) {
+        JsonFactory factory = switch (encoding.getFormat()) {
+            case JSON -> jsonFactory;
+            case CBOR -> CBOR_FACTORY;
+            case SMILE -> SMILE_FACTORY;
+        };
+        return new TaskJsonWriter(factory, out, format, encoding.isEpochMillis());
+    }
+
+    public void writeTask(Task task) {
+        writeTask(task.getId(), task.getTitle(), task.getDescription(), task.isCompleted(),
+                task.getCreatedAt(), task.getUpdatedAt());
+    }
+
+    public void writeTask(String id, String title, String description, boolean completed,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("id", id);
+            generator.writeStringField("title", title);
+            generator.writeStringField("description", description);
+            generator.writeBooleanField("completed", completed);
+            writeDateTime("createdAt", createdAt);
+            writeDateTime("updatedAt", updatedAt);
+            generator.writeEndObject();
+            if (newlines) {
+                generator.writeRaw('\n');
+            }
+            if (++written == 1 || written % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Completes the list, flushes it and returns how many tasks were written.
+     */
+    public long finish() {
+        try {
+            if (format == TaskListFormat.JSON_ARRAY) {
+                generator.writeEndArray();
+            }
+            generator.flush();
+            return written;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            generator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeDateTime(String field, LocalDateTime value) throws IOException {
+        generator.writeFieldName(field);
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        if (epochMillisZone != null) {
+            generator.writeNumber(TaskTimestamps.toEpochMillis(value, epochMillisZone));
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+        // Same output as ISO_LOCAL_DATE_TIME without its per-call allocations: seconds always present,
+        // the fraction only when non-zero and without trailing zeros
+        char[] chars = dateTime;
+        putDigits(chars, 0, year, 4);
+        chars[4] = '-';
+        putDigits(chars, 5, value.getMonthValue(), 2);
+        chars[7] = '-';
+        putDigits(chars, 8, value.getDayOfMonth(), 2);
+        chars[10] = 'T';
+        putDigits(chars, 11, value.getHour(), 2);
+        chars[13] = ':';
+        putDigits(chars, 14, value.getMinute(), 2);
+        chars[16] = ':';
+        putDigits(chars, 17, value.getSecond(), 2);
+        int length = 19;
+        if (value.getNano() > 0) {
+            chars[19] = '.';
+            putDigits(chars, 20, value.getNano(), 9);
+            length = 29;
+            while (chars[length - 1] == '0') {
+                length--;
+            }
+        }
+        generator.writeString(chars, 0, length);
+    }
+
+    private static void putDigits(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.taskmanagement.infrastructure.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+
+/**
+ * Optional epoch-millisecond timestamps. Clients ask for them with a media type parameter, for example
+ * {@code Accept: application/cbor;timestamps=epoch-millis}. Task times are local date-times in the system
+ * time zone, the same zone Spring Data uses when storing them, so they are converted in that zone.
+ */
+public final class TaskTimestamps {
+
+    public static final String PARAMETER = "timestamps";
+    public static final String EPOCH_MILLIS = "epoch-millis";
+
+    private static final String EPOCH_MILLIS_ATTRIBUTE = TaskTimestamps.class.getName() + ".epochMillis";
+
+    private TaskTimestamps() {
+    }
+
+    public static boolean epochMillisRequested(MediaType mediaType) {
+        return mediaType != null && EPOCH_MILLIS.equalsIgnoreCase(mediaType.getParameter(PARAMETER));
+    }
+
+    /**
+     * Switches {@code writer} to epoch milliseconds when {@code mediaType} asks for them. Only takes effect on
+     * mappers with {@link #module()} registered.
+     */
+    public static ObjectWriter customize(ObjectWriter writer, MediaType mediaType) {
+        return epochMillisRequested(mediaType) ? writer.withAttribute(EPOCH_MILLIS_ATTRIBUTE, Boolean.TRUE) : writer;
+    }
+
+    /**
+     * Serializes {@link LocalDateTime} as Jackson's java.time support does, unless the writer was switched
+     * to epoch milliseconds by {@link #customize}.
+     */
+    public static Module module() {
+        return new SimpleModule("TaskTimestamps").addSerializer(LocalDateTime.class, new Serializer());
+    }
+
+    static long toEpochMillis(LocalDateTime value, ZoneRules rules) {
+        // Offset lookup instead of atZone, so fixed-offset zones don't allocate a ZonedDateTime per value
+        return value.toEpochSecond(rules.getOffset(value)) * 1000 + value.getNano() / 1_000_000;
+    }
+
+    private static final class Serializer extends StdSerializer<LocalDateTime> {
+
+        private Serializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            if (Boolean.TRUE.equals(provider.getAttribute(EPOCH_MILLIS_ATTRIBUTE))) {
+                generator.writeNumber(toEpochMillis(value, ZoneId.systemDefault().getRules()));
+            } else {
+                LocalDateTimeSerializer.INSTANCE.serialize(value, generator, provider);
+            }
+        }
+    }
+}
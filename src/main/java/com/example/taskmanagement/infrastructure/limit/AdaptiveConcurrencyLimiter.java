@@ -0,0 +1,92 @@
+package com.example.taskmanagement.infrastructure.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency, after the gradient algorithm of Netflix's
+ * concurrency-limits. A slowly moving average of latency stands in for the no-load latency; when recent
+ * latency rises above it by more than {@code tolerance}, the limit shrinks in proportion, and while latency
+ * holds steady it grows by a queue allowance of roughly its square root. Requests beyond the limit are
+ * refused rather than queued, so the ones admitted keep their latency.
+ * <p>
+ * Samples taken while less than half the limit is in use say nothing about the limit and don't raise it.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+    // Guarded by this
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long samples;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * Takes a slot if one is free under the current limit. Every successful call must be paired with
+     * {@link #release}.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Frees a slot taken by {@link #tryAcquire} and feeds how long it was held into the limit.
+     */
+    public void release(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+        update(Math.max(rttNanos, 1), current);
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtRelease) {
+        samples++;
+        double window = Math.min(samples, LONG_WINDOW);
+        longRttNanos += (rttNanos - longRttNanos) / window;
+        // After a sustained shift in latency the average lags behind; let it catch up faster
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+        if (inFlightAtRelease < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit,
+                estimatedLimit * (1 - smoothing) + newLimit * smoothing));
+        limit = (int) estimatedLimit;
+    }
+}
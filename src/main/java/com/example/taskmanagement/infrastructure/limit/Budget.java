@@ -0,0 +1,48 @@
+package com.example.taskmanagement.infrastructure.limit;
+
+import com.example.taskmanagement.exception.TaskOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * One named concurrency budget, shared by every use case that draws on it. Calls over the limit fail with
+ * {@link TaskOverloadedException}; the meters are registered once per name, so budgets built over the same
+ * limiter report together.
+ */
+final class Budget {
+
+    private final String name;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Duration retryAfter;
+    private final Counter rejected;
+
+    Budget(String name, AdaptiveConcurrencyLimiter limiter, Duration retryAfter, MeterRegistry registry) {
+        this.name = name;
+        this.limiter = limiter;
+        this.retryAfter = retryAfter;
+        this.rejected = Counter.builder("task.limit.rejected").tag("budget", name).register(registry);
+        Gauge.builder("task.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                .tag("budget", name)
+                .register(registry);
+        Gauge.builder("task.limit.in-flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .tag("budget", name)
+                .register(registry);
+    }
+
+    <T> T limit(Supplier<T> call) {
+        if (!limiter.tryAcquire()) {
+            rejected.increment();
+            throw new TaskOverloadedException("Too many concurrent " + name + "s, retry later", retryAfter);
+        }
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+}
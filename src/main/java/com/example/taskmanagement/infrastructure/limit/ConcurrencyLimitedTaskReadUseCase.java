@@ -0,0 +1,35 @@
+package com.example.taskmanagement.infrastructure.limit;
+
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.port.in.TaskReadUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.OutputStream;
+import java.time.Duration;
+
+/**
+ * Sheds rendered task lists against the read budget of {@link ConcurrencyLimitedTaskUseCase}; pass it the
+ * same limiter so list and single-task reads share one limit. Streamed exports are not limited, for the same
+ * reason as there.
+ */
+public class ConcurrencyLimitedTaskReadUseCase implements TaskReadUseCase {
+
+    private final TaskReadUseCase delegate;
+    private final Budget reads;
+
+    public ConcurrencyLimitedTaskReadUseCase(TaskReadUseCase delegate, AdaptiveConcurrencyLimiter readLimiter,
+                                             Duration retryAfter, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.reads = new Budget("read", readLimiter, retryAfter, registry);
+    }
+
+    @Override
+    public long writeTasks(TaskQuery query, TaskListFormat format, TaskEncoding encoding, OutputStream out) {
+        if (format == TaskListFormat.NDJSON) {
+            return delegate.writeTasks(query, format, encoding, out);
+        }
+        return reads.limit(() -> delegate.writeTasks(query, format, encoding, out));
+    }
+}
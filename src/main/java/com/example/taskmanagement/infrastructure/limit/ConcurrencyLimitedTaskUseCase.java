@@ -0,0 +1,141 @@
+package com.example.taskmanagement.infrastructure.limit;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskChangeSet;
+import com.example.taskmanagement.domain.model.TaskPage;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.port.in.TaskUseCase;
+import com.example.taskmanagement.exception.TaskOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Sheds load in front of the domain: reads and writes each get an {@link AdaptiveConcurrencyLimiter}, and
+ * a call over its budget fails straight away with {@link TaskOverloadedException} instead of waiting on a
+ * store that is already slow. Separate budgets keep a burst of slow writes from starving reads and the
+ * other way round.
+ * <p>
+ * Scheduled maintenance and exports are not limited: the former must not be shed by client traffic, and
+ * an export holds its slot for as long as the client takes to download it, which says nothing about store
+ * latency. Rendered task lists draw on the same read limiter through {@link ConcurrencyLimitedTaskReadUseCase}.
+ * Limits, in-flight calls and rejections are published as {@code task.limit},
+ * {@code task.limit.in-flight} and {@code task.limit.rejected}, tagged by budget.
+ */
+public class ConcurrencyLimitedTaskUseCase implements TaskUseCase {
+
+    private final TaskUseCase delegate;
+    private final Budget reads;
+    private final Budget writes;
+
+    public ConcurrencyLimitedTaskUseCase(TaskUseCase delegate, AdaptiveConcurrencyLimiter readLimiter,
+                                         AdaptiveConcurrencyLimiter writeLimiter, Duration retryAfter,
+                                         MeterRegistry registry) {
+        this.delegate = delegate;
+        this.reads = new Budget("read", readLimiter, retryAfter, registry);
+        this.writes = new Budget("write", writeLimiter, retryAfter, registry);
+    }
+
+    @Override
+    public Task createTask(Task task) {
+        return writes.limit(() -> delegate.createTask(task));
+    }
+
+    @Override
+    public Optional<Task> getTaskById(String id) {
+        return reads.limit(() -> delegate.getTaskById(id));
+    }
+
+    @Override
+    public List<Task> getAllTasks() {
+        return reads.limit(delegate::getAllTasks);
+    }
+
+    @Override
+    public List<Task> findTasks(TaskQuery query) {
+        return reads.limit(() -> delegate.findTasks(query));
+    }
+
+    @Override
+    public List<Task> searchTasks(String query, int limit) {
+        return reads.limit(() -> delegate.searchTasks(query, limit));
+    }
+
+    @Override
+    public TaskStats getTaskStats() {
+        return reads.limit(delegate::getTaskStats);
+    }
+
+    @Override
+    public TaskStats reconcileTaskStats() {
+        return delegate.reconcileTaskStats();
+    }
+
+    @Override
+    public TaskChangeSet getChangesSince(String watermark, int limit) {
+        return reads.limit(() -> delegate.getChangesSince(watermark, limit));
+    }
+
+    @Override
+    public long purgeExpiredTombstones() {
+        return delegate.purgeExpiredTombstones();
+    }
+
+    @Override
+    public TaskPage getTaskPage(String cursor, int size) {
+        return reads.limit(() -> delegate.getTaskPage(cursor, size));
+    }
+
+    @Override
+    public Stream<Task> exportTasks() {
+        return delegate.exportTasks();
+    }
+
+    @Override
+    public Task updateTask(Task task) {
+        return writes.limit(() -> delegate.updateTask(task));
+    }
+
+    @Override
+    public void deleteTask(String id) {
+        writes.limit(() -> {
+            delegate.deleteTask(id);
+            return null;
+        });
+    }
+
+    @Override
+    public Task markTaskAsCompleted(String id) {
+        return writes.limit(() -> delegate.markTaskAsCompleted(id));
+    }
+
+    @Override
+    public Task markTaskAsCompleted(String id, long expectedVersion) {
+        return writes.limit(() -> delegate.markTaskAsCompleted(id, expectedVersion));
+    }
+
+    @Override
+    public List<TaskBatchItemResult> createTasks(List<Task> tasks) {
+        return writes.limit(() -> delegate.createTasks(tasks));
+    }
+
+    @Override
+    public List<TaskBatchItemResult> updateTasks(List<Task> tasks) {
+        return writes.limit(() -> delegate.updateTasks(tasks));
+    }
+
+    @Override
+    public List<TaskBatchItemResult> markTasksAsCompleted(List<String> ids) {
+        return writes.limit(() -> delegate.markTasksAsCompleted(ids));
+    }
+
+    @Override
+    public List<TaskBatchItemResult> deleteTasks(List<String> ids) {
+        return writes.limit(() -> delegate.deleteTasks(ids));
+    }
+}
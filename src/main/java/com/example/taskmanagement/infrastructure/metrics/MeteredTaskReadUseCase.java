@@ -0,0 +1,31 @@
+package com.example.taskmanagement.infrastructure.metrics;
+
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.port.in.TaskReadUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.OutputStream;
+
+/**
+ * Records latency, errors and rendered list sizes for the read-side use case under the same
+ * {@code task.usecase} meters as {@link MeteredTaskUseCase}.
+ */
+public class MeteredTaskReadUseCase implements TaskReadUseCase {
+
+    private final TaskReadUseCase delegate;
+    private final OperationMetrics metrics;
+
+    public MeteredTaskReadUseCase(TaskReadUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new OperationMetrics(registry, "task.usecase");
+    }
+
+    @Override
+    public long writeTasks(TaskQuery query, TaskListFormat format, TaskEncoding encoding, OutputStream out) {
+        long written = metrics.record("writeTasks", () -> delegate.writeTasks(query, format, encoding, out));
+        metrics.recordResultSize("writeTasks", (int) Math.min(written, Integer.MAX_VALUE));
+        return written;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.taskmanagement.infrastructure.metrics;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.model.TaskTombstone;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Records latency ({@code task.repository}), errors ({@code task.repository.errors}) and list sizes
+ * ({@code task.repository.results}) for every persistence call, tagged by operation.
+ */
+public class MeteredTaskRepository implements TaskRepository {
+
+    private final TaskRepository delegate;
+    private final OperationMetrics metrics;
+
+    public MeteredTaskRepository(TaskRepository delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new OperationMetrics(registry, "task.repository");
+    }
+
+    @Override
+    public Task save(Task task) {
+        return metrics.record("save", () -> delegate.save(task));
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        return metrics.record("findById", () -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Task> findAll() {
+        List<Task> tasks = metrics.record("findAll", delegate::findAll);
+        metrics.recordResultSize("findAll", tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public List<Task> findPageAfter(String afterId, int limit) {
+        List<Task> tasks = metrics.record("findPageAfter", () -> delegate.findPageAfter(afterId, limit));
+        metrics.recordResultSize("findPageAfter", tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public Stream<Task> streamAll() {
+        // Only covers opening the cursor; the stream is consumed after this returns
+        return metrics.record("streamAll", delegate::streamAll);
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery query) {
+        List<Task> tasks = metrics.record("findByQuery", () -> delegate.findByQuery(query));
+        metrics.recordResultSize("findByQuery", tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public TaskStats countTasks() {
+        return metrics.record("countTasks", delegate::countTasks);
+    }
+
+    @Override
+    public List<Task> findUpdatedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        List<Task> tasks = metrics.record("findUpdatedBetween", () -> delegate.findUpdatedBetween(after, afterId, before, limit));
+        metrics.recordResultSize("findUpdatedBetween", tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public List<TaskTombstone> findDeletedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        List<TaskTombstone> tombstones = metrics.record("findDeletedBetween",
+                () -> delegate.findDeletedBetween(after, afterId, before, limit));
+        metrics.recordResultSize("findDeletedBetween", tombstones.size());
+        return tombstones;
+    }
+
+    @Override
+    public long purgeTombstonesBefore(LocalDateTime cutoff) {
+        return metrics.record("purgeTombstonesBefore", () -> delegate.purgeTombstonesBefore(cutoff));
+    }
+
+    @Override
+    public LocalDateTime tombstonesKeptSince() {
+        return delegate.tombstonesKeptSince();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        metrics.run("deleteById", () -> delegate.deleteById(id));
+    }
+
+    @Override
+    public Optional<Task> updateIfExists(Task task) {
+        return metrics.record("updateIfExists", () -> delegate.updateIfExists(task));
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id) {
+        return metrics.record("markCompleted", () -> delegate.markCompleted(id));
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id, long expectedVersion) {
+        return metrics.record("markCompleted", () -> delegate.markCompleted(id, expectedVersion));
+    }
+
+    @Override
+    public List<Task> markAllCompleted(Collection<String> ids) {
+        return metrics.record("markAllCompleted", () -> delegate.markAllCompleted(ids));
+    }
+
+    @Override
+    public Optional<Task> findAndDeleteById(String id) {
+        return metrics.record("findAndDeleteById", () -> delegate.findAndDeleteById(id));
+    }
+
+    @Override
+    public List<TaskBatchItemResult> saveAll(List<Task> tasks) {
+        return metrics.record("saveAll", () -> delegate.saveAll(tasks));
+    }
+
+    @Override
+    public void putAll(Collection<Task> tasks) {
+        metrics.run("putAll", () -> delegate.putAll(tasks));
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<String> ids) {
+        List<Task> tasks = metrics.record("findAllById", () -> delegate.findAllById(ids));
+        metrics.recordResultSize("findAllById", tasks.size());
+        return tasks;
+    }
+
+    @Override
+    public List<Task> deleteAllById(Collection<String> ids) {
+        return metrics.record("deleteAllById", () -> delegate.deleteAllById(ids));
+    }
+}
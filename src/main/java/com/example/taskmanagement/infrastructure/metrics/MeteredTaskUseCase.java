@@ -0,0 +1,125 @@
+package com.example.taskmanagement.infrastructure.metrics;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskChangeSet;
+import com.example.taskmanagement.domain.model.TaskPage;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.port.in.TaskUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Records latency ({@code task.usecase}) and errors ({@code task.usecase.errors}) for every use case,
+ * tagged by operation. Compared with {@code task.repository} this shows how much of a request's time
+ * is spent in the domain versus in persistence.
+ */
+public class MeteredTaskUseCase implements TaskUseCase {
+
+    private final TaskUseCase delegate;
+    private final OperationMetrics metrics;
+
+    public MeteredTaskUseCase(TaskUseCase delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.metrics = new OperationMetrics(registry, "task.usecase");
+    }
+
+    @Override
+    public Task createTask(Task task) {
+        return metrics.record("createTask", () -> delegate.createTask(task));
+    }
+
+    @Override
+    public Optional<Task> getTaskById(String id) {
+        return metrics.record("getTaskById", () -> delegate.getTaskById(id));
+    }
+
+    @Override
+    public List<Task> getAllTasks() {
+        return metrics.record("getAllTasks", delegate::getAllTasks);
+    }
+
+    @Override
+    public List<Task> findTasks(TaskQuery query) {
+        return metrics.record("findTasks", () -> delegate.findTasks(query));
+    }
+
+    @Override
+    public List<Task> searchTasks(String query, int limit) {
+        return metrics.record("searchTasks", () -> delegate.searchTasks(query, limit));
+    }
+
+    @Override
+    public TaskStats getTaskStats() {
+        return metrics.record("getTaskStats", delegate::getTaskStats);
+    }
+
+    @Override
+    public TaskStats reconcileTaskStats() {
+        return metrics.record("reconcileTaskStats", delegate::reconcileTaskStats);
+    }
+
+    @Override
+    public TaskChangeSet getChangesSince(String watermark, int limit) {
+        return metrics.record("getChangesSince", () -> delegate.getChangesSince(watermark, limit));
+    }
+
+    @Override
+    public long purgeExpiredTombstones() {
+        return metrics.record("purgeExpiredTombstones", delegate::purgeExpiredTombstones);
+    }
+
+    @Override
+    public TaskPage getTaskPage(String cursor, int size) {
+        return metrics.record("getTaskPage", () -> delegate.getTaskPage(cursor, size));
+    }
+
+    @Override
+    public Stream<Task> exportTasks() {
+        return metrics.record("exportTasks", delegate::exportTasks);
+    }
+
+    @Override
+    public Task updateTask(Task task) {
+        return metrics.record("updateTask", () -> delegate.updateTask(task));
+    }
+
+    @Override
+    public void deleteTask(String id) {
+        metrics.run("deleteTask", () -> delegate.deleteTask(id));
+    }
+
+    @Override
+    public Task markTaskAsCompleted(String id) {
+        return metrics.record("markTaskAsCompleted", () -> delegate.markTaskAsCompleted(id));
+    }
+
+    @Override
+    public Task markTaskAsCompleted(String id, long expectedVersion) {
+        return metrics.record("markTaskAsCompleted", () -> delegate.markTaskAsCompleted(id, expectedVersion));
+    }
+
+    @Override
+    public List<TaskBatchItemResult> createTasks(List<Task> tasks) {
+        return metrics.record("createTasks", () -> delegate.createTasks(tasks));
+    }
+
+    @Override
+    public List<TaskBatchItemResult> updateTasks(List<Task> tasks) {
+        return metrics.record("updateTasks", () -> delegate.updateTasks(tasks));
+    }
+
+    @Override
+    public List<TaskBatchItemResult> markTasksAsCompleted(List<String> ids) {
+        return metrics.record("markTasksAsCompleted", () -> delegate.markTasksAsCompleted(ids));
+    }
+
+    @Override
+    public List<TaskBatchItemResult> deleteTasks(List<String> ids) {
+        return metrics.record("deleteTasks", () -> delegate.deleteTasks(ids));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.taskmanagement.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Per-operation timers, error counters and result-size summaries sharing one metric name prefix,
+ * e.g. {@code task.usecase} and {@code task.usecase.errors}. Meters are registered once and reused.
+ */
+class OperationMetrics {
+
+    private final MeterRegistry registry;
+    private final String name;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> resultSizes = new ConcurrentHashMap<>();
+
+    OperationMetrics(MeterRegistry registry, String name) {
+        this.registry = registry;
+        this.name = name;
+    }
+
+    <T> T record(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            Counter.builder(name + ".errors")
+                    .tag("operation", operation)
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(registry)
+                    .increment();
+            throw e;
+        } finally {
+            sample.stop(timers.computeIfAbsent(operation, op -> Timer.builder(name)
+                    .tag("operation", op)
+                    .publishPercentileHistogram()
+                    .register(registry)));
+        }
+    }
+
+    void run(String operation, Runnable call) {
+        record(operation, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    void recordResultSize(String operation, int size) {
+        resultSizes.computeIfAbsent(operation, op -> DistributionSummary.builder(name + ".results")
+                .tag("operation", op)
+                .baseUnit("tasks")
+                .publishPercentileHistogram()
+                .register(registry)).record(size);
+    }
+}
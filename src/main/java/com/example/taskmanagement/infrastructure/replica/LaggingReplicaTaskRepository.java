@@ -0,0 +1,224 @@
+package com.example.taskmanagement.infrastructure.replica;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.model.TaskTombstone;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import com.example.taskmanagement.infrastructure.adapter.InMemoryTaskAdapter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Read-only stand-in for a replica: an in-memory copy of a primary store that applies the primary's change
+ * feed ({@link TaskRepository#findUpdatedBetween}, {@link TaskRepository#findDeletedBetween}) only once
+ * changes are {@code lag} old, the way an asynchronous secondary trails its primary. {@link #lag()} reports
+ * how far behind the copy actually is.
+ */
+@Slf4j
+public class LaggingReplicaTaskRepository implements TaskRepository, AutoCloseable {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+    private final TaskRepository primary;
+    private final Duration lag;
+    private final Clock clock;
+    private final InMemoryTaskAdapter copy = new InMemoryTaskAdapter();
+    private final ScheduledExecutorService replicator = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name("task-replica").daemon().unstarted(runnable));
+
+    // Positions in the primary's change feed, guarded by this
+    private LocalDateTime updatedAfter;
+    private String updatedAfterId;
+    private LocalDateTime deletedAfter;
+    private String deletedAfterId;
+    private volatile LocalDateTime appliedUntil;
+
+    public LaggingReplicaTaskRepository(TaskRepository primary, Duration lag) {
+        this(primary, lag, Clock.systemDefaultZone());
+    }
+
+    LaggingReplicaTaskRepository(TaskRepository primary, Duration lag, Clock clock) {
+        this.primary = primary;
+        this.lag = lag;
+        this.clock = clock;
+    }
+
+    /**
+     * Copies the primary as it was {@code lag} ago, then keeps applying its changes in the background.
+     */
+    public void start() {
+        replicate();
+        replicator.scheduleWithFixedDelay(() -> {
+            try {
+                replicate();
+            } catch (RuntimeException e) {
+                log.warn("Replicating task changes failed, retrying", e);
+            }
+        }, POLL_INTERVAL.toMillis(), POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Applies every change made on the primary more than {@code lag} ago that has not been applied yet.
+     */
+    public synchronized void replicate() {
+        LocalDateTime until = LocalDateTime.now(clock).minus(lag);
+        List<Task> updated;
+        do {
+            updated = primary.findUpdatedBetween(updatedAfter, updatedAfterId, until, BATCH_SIZE);
+            if (!updated.isEmpty()) {
+                copy.putAll(updated);
+                Task last = updated.get(updated.size() - 1);
+                updatedAfter = last.getUpdatedAt();
+                updatedAfterId = last.getId();
+            }
+        } while (updated.size() == BATCH_SIZE);
+        // After the updates, so a task created and deleted within one pass ends up deleted
+        List<TaskTombstone> deleted;
+        do {
+            deleted = primary.findDeletedBetween(deletedAfter, deletedAfterId, until, BATCH_SIZE);
+            if (!deleted.isEmpty()) {
+                copy.deleteAllById(deleted.stream().map(TaskTombstone::getId).toList());
+                TaskTombstone last = deleted.get(deleted.size() - 1);
+                deletedAfter = last.getDeletedAt();
+                deletedAfterId = last.getId();
+            }
+        } while (deleted.size() == BATCH_SIZE);
+        appliedUntil = until;
+    }
+
+    /**
+     * How old the newest change this copy is guaranteed to have is; unbounded before the first pass.
+     */
+    public Duration lag() {
+        LocalDateTime applied = appliedUntil;
+        return applied == null ? ChronoUnit.FOREVER.getDuration() : Duration.between(applied, LocalDateTime.now(clock));
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        return copy.findById(id);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return copy.findAll();
+    }
+
+    @Override
+    public List<Task> findPageAfter(String afterId, int limit) {
+        return copy.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Stream<Task> streamAll() {
+        return copy.streamAll();
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery query) {
+        return copy.findByQuery(query);
+    }
+
+    @Override
+    public TaskStats countTasks() {
+        return copy.countTasks();
+    }
+
+    @Override
+    public List<Task> findUpdatedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return copy.findUpdatedBetween(after, afterId, before, limit);
+    }
+
+    @Override
+    public List<TaskTombstone> findDeletedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return copy.findDeletedBetween(after, afterId, before, limit);
+    }
+
+    @Override
+    public LocalDateTime tombstonesKeptSince() {
+        return copy.tombstonesKeptSince();
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<String> ids) {
+        return copy.findAllById(ids);
+    }
+
+    @Override
+    public Task save(Task task) {
+        throw readOnly();
+    }
+
+    @Override
+    public long purgeTombstonesBefore(LocalDateTime cutoff) {
+        throw readOnly();
+    }
+
+    @Override
+    public List<TaskBatchItemResult> saveAll(List<Task> tasks) {
+        throw readOnly();
+    }
+
+    @Override
+    public void putAll(Collection<Task> tasks) {
+        throw readOnly();
+    }
+
+    @Override
+    public List<Task> deleteAllById(Collection<String> ids) {
+        throw readOnly();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        throw readOnly();
+    }
+
+    @Override
+    public Optional<Task> updateIfExists(Task task) {
+        throw readOnly();
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id) {
+        throw readOnly();
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id, long expectedVersion) {
+        throw readOnly();
+    }
+
+    @Override
+    public List<Task> markAllCompleted(Collection<String> ids) {
+        throw readOnly();
+    }
+
+    @Override
+    public Optional<Task> findAndDeleteById(String id) {
+        throw readOnly();
+    }
+
+    @Override
+    public void close() {
+        replicator.shutdownNow();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Replicas are read-only, write to the primary");
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.taskmanagement.infrastructure.replica;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Remembers which clients changed tasks recently, so their reads can be sent to the primary until the
+ * replicas have had time to catch up. The client handling the current request is bound to the thread by
+ * {@link ReadYourWritesFilter}; work without a bound client, such as scheduled jobs, is never sticky.
+ * <p>
+ * Reads made while a change is in progress always go to the primary, whoever the client is: a write path
+ * that checks existence or versions against a replica would reject tasks created within the lag window.
+ */
+public class ReadYourWrites {
+
+    private final ThreadLocal<String> currentClient = new ThreadLocal<>();
+    private final ThreadLocal<Boolean> writing = new ThreadLocal<>();
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(Duration window) {
+        this(window, Ticker.systemTicker());
+    }
+
+    ReadYourWrites(Duration window, Ticker ticker) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .ticker(ticker)
+                .build();
+    }
+
+    public void bindClient(String clientId) {
+        currentClient.set(clientId);
+    }
+
+    public void clearClient() {
+        currentClient.remove();
+    }
+
+    /**
+     * Runs a change so that every read it makes goes to the primary, then starts or extends the current
+     * client's window of primary reads. Failed changes count too, since they may have been applied before
+     * failing.
+     */
+    public <T> T write(Supplier<T> change) {
+        boolean outermost = writing.get() == null;
+        writing.set(Boolean.TRUE);
+        try {
+            return change.get();
+        } finally {
+            if (outermost) {
+                writing.remove();
+            }
+            recordWrite();
+        }
+    }
+
+    /**
+     * Starts or extends the current client's window of primary reads.
+     */
+    public void recordWrite() {
+        String clientId = currentClient.get();
+        if (clientId != null) {
+            recentWriters.put(clientId, Boolean.TRUE);
+        }
+    }
+
+    public boolean requiresPrimary() {
+        if (writing.get() != null) {
+            return true;
+        }
+        String clientId = currentClient.get();
+        return clientId != null && recentWriters.getIfPresent(clientId) != null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.taskmanagement.infrastructure.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds the client making the request to {@link ReadYourWrites}. Clients identify themselves with the
+ * {@value #CLIENT_ID_HEADER} header; without it the remote address stands in, which at worst sends
+ * clients sharing an address to the primary together.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private final ReadYourWrites readYourWrites;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        readYourWrites.bindClient(clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            readYourWrites.clearClient();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.taskmanagement.infrastructure.replica;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskChangeSet;
+import com.example.taskmanagement.domain.model.TaskPage;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.port.in.TaskUseCase;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Runs every task change made through the use cases through {@link ReadYourWrites#write}, so the reads it
+ * makes on the way and the reads of the client that made it for a while after go to the primary.
+ */
+public class ReadYourWritesTaskUseCase implements TaskUseCase {
+
+    private final TaskUseCase delegate;
+    private final ReadYourWrites readYourWrites;
+
+    public ReadYourWritesTaskUseCase(TaskUseCase delegate, ReadYourWrites readYourWrites) {
+        this.delegate = delegate;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Task createTask(Task task) {
+        return write(() -> delegate.createTask(task));
+    }
+
+    @Override
+    public Optional<Task> getTaskById(String id) {
+        return delegate.getTaskById(id);
+    }
+
+    @Override
+    public List<Task> getAllTasks() {
+        return delegate.getAllTasks();
+    }
+
+    @Override
+    public List<Task> findTasks(TaskQuery query) {
+        return delegate.findTasks(query);
+    }
+
+    @Override
+    public List<Task> searchTasks(String query, int limit) {
+        return delegate.searchTasks(query, limit);
+    }
+
+    @Override
+    public TaskStats getTaskStats() {
+        return delegate.getTaskStats();
+    }
+
+    @Override
+    public TaskStats reconcileTaskStats() {
+        return delegate.reconcileTaskStats();
+    }
+
+    @Override
+    public TaskChangeSet getChangesSince(String watermark, int limit) {
+        return delegate.getChangesSince(watermark, limit);
+    }
+
+    @Override
+    public long purgeExpiredTombstones() {
+        return delegate.purgeExpiredTombstones();
+    }
+
+    @Override
+    public TaskPage getTaskPage(String cursor, int size) {
+        return delegate.getTaskPage(cursor, size);
+    }
+
+    @Override
+    public Stream<Task> exportTasks() {
+        return delegate.exportTasks();
+    }
+
+    @Override
+    public Task updateTask(Task task) {
+        return write(() -> delegate.updateTask(task));
+    }
+
+    @Override
+    public void deleteTask(String id) {
+        write(() -> {
+            delegate.deleteTask(id);
+            return null;
+        });
+    }
+
+    @Override
+    public Task markTaskAsCompleted(String id) {
+        return write(() -> delegate.markTaskAsCompleted(id));
+    }
+
+    @Override
+    public Task markTaskAsCompleted(String id, long expectedVersion) {
+        return write(() -> delegate.markTaskAsCompleted(id, expectedVersion));
+    }
+
+    @Override
+    public List<TaskBatchItemResult> createTasks(List<Task> tasks) {
+        return write(() -> delegate.createTasks(tasks));
+    }
+
+    @Override
+    public List<TaskBatchItemResult> updateTasks(List<Task> tasks) {
+        return write(() -> delegate.updateTasks(tasks));
+    }
+
+    @Override
+    public List<TaskBatchItemResult> markTasksAsCompleted(List<String> ids) {
+        return write(() -> delegate.markTasksAsCompleted(ids));
+    }
+
+    @Override
+    public List<TaskBatchItemResult> deleteTasks(List<String> ids) {
+        return write(() -> delegate.deleteTasks(ids));
+    }
+
+    private <T> T write(Supplier<T> call) {
+        return readYourWrites.write(call);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.taskmanagement.infrastructure.replica;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Decides whether a read may go to a replica and times it on the route taken. A read goes to the primary
+ * while the current client is within its {@link ReadYourWrites} window, or while the replica is further
+ * behind than {@code maxStaleness}. Latency of every call is recorded in {@code task.repository.route},
+ * tagged by route and operation.
+ * <p>
+ * Shared by every reader that can split off to a replica, so they all route a client the same way.
+ */
+public class ReplicaRouter {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final ReadYourWrites readYourWrites;
+    private final Duration maxStaleness;
+    private final Supplier<Duration> replicaLag;
+    private final MeterRegistry registry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public ReplicaRouter(ReadYourWrites readYourWrites, Duration maxStaleness, Supplier<Duration> replicaLag,
+                         MeterRegistry registry) {
+        this.readYourWrites = readYourWrites;
+        this.maxStaleness = maxStaleness;
+        this.replicaLag = replicaLag;
+        this.registry = registry;
+    }
+
+    public <T> T read(String operation, Supplier<T> onPrimary, Supplier<T> onReplica) {
+        boolean fresh = !readYourWrites.requiresPrimary() && replicaLag.get().compareTo(maxStaleness) <= 0;
+        return fresh ? timed(REPLICA, operation, onReplica) : onPrimary(operation, onPrimary);
+    }
+
+    public <T> T onPrimary(String operation, Supplier<T> call) {
+        return timed(PRIMARY, operation, call);
+    }
+
+    private <T> T timed(String route, String operation, Supplier<T> call) {
+        return timers.computeIfAbsent(route + ":" + operation, key -> Timer.builder("task.repository.route")
+                .tag("route", route)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry)).record(call);
+    }
+}
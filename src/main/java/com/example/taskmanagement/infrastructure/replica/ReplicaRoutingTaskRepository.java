@@ -0,0 +1,155 @@
+package com.example.taskmanagement.infrastructure.replica;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.model.TaskTombstone;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Read/write splitting: task reads go to a replica when the {@link ReplicaRouter} allows it, everything else
+ * to the primary.
+ * <p>
+ * The change feed, counts and tombstone bookkeeping always use the primary. Sync clients advance their
+ * watermark past whatever they were shown, so serving the feed from a lagging replica would make them skip
+ * changes for good.
+ */
+public class ReplicaRoutingTaskRepository implements TaskRepository {
+
+    private final TaskRepository primary;
+    private final TaskRepository replica;
+    private final ReplicaRouter router;
+
+    public ReplicaRoutingTaskRepository(TaskRepository primary, TaskRepository replica, ReplicaRouter router) {
+        this.primary = primary;
+        this.replica = replica;
+        this.router = router;
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        return read("findById", store -> store.findById(id));
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return read("findAll", TaskRepository::findAll);
+    }
+
+    @Override
+    public List<Task> findPageAfter(String afterId, int limit) {
+        return read("findPageAfter", store -> store.findPageAfter(afterId, limit));
+    }
+
+    @Override
+    public Stream<Task> streamAll() {
+        return read("streamAll", TaskRepository::streamAll);
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery query) {
+        return read("findByQuery", store -> store.findByQuery(query));
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<String> ids) {
+        return read("findAllById", store -> store.findAllById(ids));
+    }
+
+    @Override
+    public TaskStats countTasks() {
+        return onPrimary("countTasks", TaskRepository::countTasks);
+    }
+
+    @Override
+    public List<Task> findUpdatedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return onPrimary("findUpdatedBetween", store -> store.findUpdatedBetween(after, afterId, before, limit));
+    }
+
+    @Override
+    public List<TaskTombstone> findDeletedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return onPrimary("findDeletedBetween", store -> store.findDeletedBetween(after, afterId, before, limit));
+    }
+
+    @Override
+    public long purgeTombstonesBefore(LocalDateTime cutoff) {
+        return onPrimary("purgeTombstonesBefore", store -> store.purgeTombstonesBefore(cutoff));
+    }
+
+    @Override
+    public LocalDateTime tombstonesKeptSince() {
+        return onPrimary("tombstonesKeptSince", TaskRepository::tombstonesKeptSince);
+    }
+
+    @Override
+    public Task save(Task task) {
+        return onPrimary("save", store -> store.save(task));
+    }
+
+    @Override
+    public List<TaskBatchItemResult> saveAll(List<Task> tasks) {
+        return onPrimary("saveAll", store -> store.saveAll(tasks));
+    }
+
+    @Override
+    public void putAll(Collection<Task> tasks) {
+        onPrimary("putAll", store -> {
+            store.putAll(tasks);
+            return null;
+        });
+    }
+
+    @Override
+    public List<Task> deleteAllById(Collection<String> ids) {
+        return onPrimary("deleteAllById", store -> store.deleteAllById(ids));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        onPrimary("deleteById", store -> {
+            store.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Task> updateIfExists(Task task) {
+        return onPrimary("updateIfExists", store -> store.updateIfExists(task));
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id) {
+        return onPrimary("markCompleted", store -> store.markCompleted(id));
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id, long expectedVersion) {
+        return onPrimary("markCompleted", store -> store.markCompleted(id, expectedVersion));
+    }
+
+    @Override
+    public List<Task> markAllCompleted(Collection<String> ids) {
+        return onPrimary("markAllCompleted", store -> store.markAllCompleted(ids));
+    }
+
+    @Override
+    public Optional<Task> findAndDeleteById(String id) {
+        return onPrimary("findAndDeleteById", store -> store.findAndDeleteById(id));
+    }
+
+    private <T> T read(String operation, Function<TaskRepository, T> call) {
+        return router.read(operation, () -> call.apply(primary), () -> call.apply(replica));
+    }
+
+    private <T> T onPrimary(String operation, Function<TaskRepository, T> call) {
+        return router.onPrimary(operation, () -> call.apply(primary));
+    }
+}
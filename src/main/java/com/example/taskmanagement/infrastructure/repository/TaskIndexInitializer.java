@@ -0,0 +1,50 @@
+package com.example.taskmanagement.infrastructure.repository;
+
+import com.example.taskmanagement.infrastructure.entity.TaskEntity;
+import com.example.taskmanagement.infrastructure.entity.TaskTombstoneEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the indexes declared on {@link TaskEntity} and {@link TaskTombstoneEntity} once the application
+ * is up. Spring Data's automatic index creation stays off so that index builds are an explicit, logged step;
+ * creating an index that already exists is a no-op.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory & !file & !sharded")
+@RequiredArgsConstructor
+public class TaskIndexInitializer {
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        createIndexes(TaskEntity.class);
+        createIndexes(TaskTombstoneEntity.class);
+    }
+
+    private void createIndexes(Class<?> entityType) {
+        IndexOperations indexOperations = mongoTemplate.indexOps(entityType);
+        IndexResolver resolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        try {
+            resolver.resolveIndexFor(entityType).forEach(index -> {
+                String name = indexOperations.ensureIndex(index);
+                log.info("Ensured index {} on {}", name, mongoTemplate.getCollectionName(entityType));
+            });
+        } catch (DataAccessException e) {
+            log.warn("Could not create indexes on {}, range queries will scan the collection",
+                    mongoTemplate.getCollectionName(entityType), e);
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package com.example.taskmanagement.infrastructure.repository;
 
 import com.example.taskmanagement.infrastructure.entity.TaskEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface TaskInfraRepository extends MongoRepository<TaskEntity, String> {
+    List<TaskEntity> findAllByOrderByIdAsc(Pageable pageable);
+    List<TaskEntity> findByIdGreaterThanOrderByIdAsc(String id, Pageable pageable);
+    Stream<TaskEntity> streamAllBy();
 }
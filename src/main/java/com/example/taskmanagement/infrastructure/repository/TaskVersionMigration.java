@@ -0,0 +1,40 @@
+package com.example.taskmanagement.infrastructure.repository;
+
+import com.example.taskmanagement.infrastructure.entity.TaskEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gives tasks stored before {@link TaskEntity} was versioned a starting version of 0, so they get an ETag
+ * and can be updated conditionally. Matches nothing once every task has been migrated.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory & !file & !sharded")
+@RequiredArgsConstructor
+public class TaskVersionMigration {
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            long migrated = mongoTemplate.updateMulti(Query.query(Criteria.where("version").exists(false)),
+                    new Update().set("version", 0L), TaskEntity.class).getModifiedCount();
+            if (migrated > 0) {
+                log.info("Set initial version on {} tasks", migrated);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not set initial task versions, unversioned tasks can't be updated conditionally", e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.taskmanagement.infrastructure.search;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.model.TaskTombstone;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import com.example.taskmanagement.domain.port.out.TaskSearchIndex;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Keeps a {@link TaskSearchIndex} in step with every write that goes through this decorator. The index
+ * is updated after the store, so a search may briefly miss a write that is still in flight; search
+ * results are always loaded back from the store. Concurrent writes may reach the index in either order,
+ * which it sorts out by version.
+ */
+public class IndexingTaskRepository implements TaskRepository {
+
+    private final TaskRepository delegate;
+    private final TaskSearchIndex searchIndex;
+
+    public IndexingTaskRepository(TaskRepository delegate, TaskSearchIndex searchIndex) {
+        this.delegate = delegate;
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public Task save(Task task) {
+        Task saved = delegate.save(task);
+        searchIndex.index(saved);
+        return saved;
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Task> findPageAfter(String afterId, int limit) {
+        return delegate.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Stream<Task> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery query) {
+        return delegate.findByQuery(query);
+    }
+
+    @Override
+    public TaskStats countTasks() {
+        return delegate.countTasks();
+    }
+
+    @Override
+    public List<Task> findUpdatedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return delegate.findUpdatedBetween(after, afterId, before, limit);
+    }
+
+    @Override
+    public List<TaskTombstone> findDeletedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return delegate.findDeletedBetween(after, afterId, before, limit);
+    }
+
+    @Override
+    public long purgeTombstonesBefore(LocalDateTime cutoff) {
+        return delegate.purgeTombstonesBefore(cutoff);
+    }
+
+    @Override
+    public LocalDateTime tombstonesKeptSince() {
+        return delegate.tombstonesKeptSince();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delegate.deleteById(id);
+        searchIndex.remove(id);
+    }
+
+    @Override
+    public Optional<Task> updateIfExists(Task task) {
+        Optional<Task> updated = delegate.updateIfExists(task);
+        updated.ifPresent(searchIndex::index);
+        return updated;
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id) {
+        // Completion doesn't change any indexed text
+        return delegate.markCompleted(id);
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id, long expectedVersion) {
+        return delegate.markCompleted(id, expectedVersion);
+    }
+
+    @Override
+    public List<Task> markAllCompleted(Collection<String> ids) {
+        return delegate.markAllCompleted(ids);
+    }
+
+    @Override
+    public Optional<Task> findAndDeleteById(String id) {
+        Optional<Task> deleted = delegate.findAndDeleteById(id);
+        deleted.ifPresent(task -> searchIndex.remove(id, task.getVersion()));
+        return deleted;
+    }
+
+    @Override
+    public List<TaskBatchItemResult> saveAll(List<Task> tasks) {
+        List<TaskBatchItemResult> results = delegate.saveAll(tasks);
+        for (TaskBatchItemResult result : results) {
+            if (result.isSuccess()) {
+                searchIndex.index(result.getTask());
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public void putAll(Collection<Task> tasks) {
+        delegate.putAll(tasks);
+        tasks.forEach(searchIndex::index);
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<String> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<Task> deleteAllById(Collection<String> ids) {
+        List<Task> deleted = delegate.deleteAllById(ids);
+        deleted.forEach(task -> searchIndex.remove(task.getId(), task.getVersion()));
+        return deleted;
+    }
+}
@@ -0,0 +1,427 @@
+package com.example.taskmanagement.infrastructure.search;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.port.out.TaskSearchIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-process inverted index ranked with BM25. Every indexed version of a task gets a new, ever-increasing
+ * document number, so postings lists (parallel {@code int} arrays of document number and term frequency)
+ * stay sorted by appending and queries merge them document-at-a-time into a bounded top-K heap.
+ * Replaced and removed documents are only marked dead; their postings are compacted away once dead
+ * documents outnumber live ones, and each list counts its live documents so BM25 never weighs a term by
+ * postings that are dead. Title terms count {@value #TITLE_WEIGHT} times.
+ * <p>
+ * The last version indexed or removed is kept per id, so a write that arrives after a newer one is
+ * ignored; for removed tasks that is a removal marker. Markers are dropped at compaction, by which time
+ * any write that raced the removal has long reached the index.
+ */
+public class InvertedTaskSearchIndex implements TaskSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int MAX_TOKEN_LENGTH = 64;
+    private static final int MIN_DEAD_DOCS_FOR_COMPACTION = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<String, Integer> docNumbers = new HashMap<>();
+    private final Map<String, Long> versions = new HashMap<>();
+    private String[] taskIds = new String[1024];
+    private int[] docLengths = new int[1024];
+    private Postings[][] docPostings = new Postings[1024][];
+    private int docCount;
+    private int liveDocs;
+    private int deadDocs;
+    private long liveLength;
+    // Changes made while a rebuild reads the store, replayed onto the new index before it replaces this one
+    private List<Consumer<InvertedTaskSearchIndex>> changesDuringRebuild;
+
+    /**
+     * Replaces the whole index with {@code tasks}. The new index is built aside, so searches and writes carry
+     * on meanwhile; changes made during the rebuild are applied to it before it takes over, in case
+     * {@code tasks} was read before they were.
+     */
+    public synchronized void rebuild(Stream<Task> tasks) {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        InvertedTaskSearchIndex rebuilt = new InvertedTaskSearchIndex();
+        try {
+            tasks.forEach(rebuilt::indexLocked);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+            changesDuringRebuild = null;
+            postings.clear();
+            postings.putAll(rebuilt.postings);
+            docNumbers.clear();
+            docNumbers.putAll(rebuilt.docNumbers);
+            // Keeps the markers of tasks removed before the rebuild, for writes that raced the removal
+            rebuilt.versions.forEach((id, version) -> versions.merge(id, version, Math::max));
+            taskIds = rebuilt.taskIds;
+            docLengths = rebuilt.docLengths;
+            docPostings = rebuilt.docPostings;
+            docCount = rebuilt.docCount;
+            liveDocs = rebuilt.liveDocs;
+            deadDocs = rebuilt.deadDocs;
+            liveLength = rebuilt.liveLength;
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Task task) {
+        lock.writeLock().lock();
+        try {
+            indexLocked(task);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(rebuilt -> rebuilt.indexLocked(task));
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(String id, Long version) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id, version);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(rebuilt -> rebuilt.removeLocked(id, version));
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<String> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>();
+        tokenize(query, terms::add);
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return List.of();
+            }
+            List<Postings> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list != null) {
+                    lists.add(list);
+                }
+            }
+            return topK(lists, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<String> topK(List<Postings> lists, int limit) {
+        int n = lists.size();
+        float[] idf = new float[n];
+        for (int i = 0; i < n; i++) {
+            int df = lists.get(i).live;
+            idf[i] = (float) Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+        }
+        float averageLength = (float) liveLength / liveDocs;
+        int[] cursors = new int[n];
+        TopK best = new TopK(limit);
+        while (true) {
+            int doc = Integer.MAX_VALUE;
+            for (int i = 0; i < n; i++) {
+                Postings list = lists.get(i);
+                if (cursors[i] < list.size && list.docs[cursors[i]] < doc) {
+                    doc = list.docs[cursors[i]];
+                }
+            }
+            if (doc == Integer.MAX_VALUE) {
+                break;
+            }
+            boolean live = taskIds[doc] != null;
+            float lengthNorm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+            float score = 0;
+            for (int i = 0; i < n; i++) {
+                Postings list = lists.get(i);
+                if (cursors[i] < list.size && list.docs[cursors[i]] == doc) {
+                    int tf = list.freqs[cursors[i]++];
+                    score += idf[i] * tf * (K1 + 1) / (tf + lengthNorm);
+                }
+            }
+            if (live) {
+                best.offer(doc, score);
+            }
+        }
+        int[] docs = best.sortedDocs();
+        List<String> ids = new ArrayList<>(docs.length);
+        for (int doc : docs) {
+            ids.add(taskIds[doc]);
+        }
+        return ids;
+    }
+
+    private void indexLocked(Task task) {
+        Long version = task.getVersion();
+        Long seen = versions.get(task.getId());
+        if (version != null && seen != null && version <= seen) {
+            return;
+        }
+        removeDocument(task.getId());
+        if (version != null) {
+            versions.put(task.getId(), version);
+        }
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(task.getTitle(), term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenize(task.getDescription(), term -> frequencies.merge(term, 1, Integer::sum));
+        if (frequencies.isEmpty()) {
+            return;
+        }
+        if (docCount == taskIds.length) {
+            taskIds = Arrays.copyOf(taskIds, docCount * 2);
+            docLengths = Arrays.copyOf(docLengths, docCount * 2);
+            docPostings = Arrays.copyOf(docPostings, docCount * 2);
+        }
+        int doc = docCount++;
+        int length = 0;
+        Postings[] lists = new Postings[frequencies.size()];
+        int term = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            Postings list = postings.computeIfAbsent(entry.getKey(), key -> new Postings());
+            list.add(doc, entry.getValue());
+            lists[term++] = list;
+            length += entry.getValue();
+        }
+        taskIds[doc] = task.getId();
+        docLengths[doc] = length;
+        docPostings[doc] = lists;
+        docNumbers.put(task.getId(), doc);
+        liveDocs++;
+        liveLength += length;
+    }
+
+    private void removeLocked(String id, Long version) {
+        Long seen = versions.get(id);
+        if (version != null && seen != null && version < seen) {
+            // A newer version of the task was indexed after the one this removal deleted
+            return;
+        }
+        if (version != null) {
+            versions.put(id, version);
+        }
+        removeDocument(id);
+    }
+
+    private void removeDocument(String id) {
+        Integer doc = docNumbers.remove(id);
+        if (doc == null) {
+            return;
+        }
+        for (Postings list : docPostings[doc]) {
+            list.live--;
+        }
+        docPostings[doc] = null;
+        taskIds[doc] = null;
+        liveDocs--;
+        deadDocs++;
+        liveLength -= docLengths[doc];
+    }
+
+    private void compactIfNeeded() {
+        if (deadDocs < MIN_DEAD_DOCS_FOR_COMPACTION || deadDocs <= liveDocs) {
+            return;
+        }
+        // Renumber live documents in their existing order so every postings list stays sorted
+        int[] renumbered = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (taskIds[doc] == null) {
+                renumbered[doc] = -1;
+                continue;
+            }
+            renumbered[doc] = next;
+            taskIds[next] = taskIds[doc];
+            docLengths[next] = docLengths[doc];
+            docPostings[next] = docPostings[doc];
+            docNumbers.put(taskIds[next], next);
+            next++;
+        }
+        Arrays.fill(taskIds, next, docCount, null);
+        Arrays.fill(docPostings, next, docCount, null);
+        versions.keySet().retainAll(docNumbers.keySet());
+        Iterator<Postings> lists = postings.values().iterator();
+        while (lists.hasNext()) {
+            if (lists.next().renumber(renumbered) == 0) {
+                lists.remove();
+            }
+        }
+        docCount = next;
+        deadDocs = 0;
+    }
+
+    static void tokenize(String text, Consumer<String> sink) {
+        if (text == null) {
+            return;
+        }
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (token.length() < MAX_TOKEN_LENGTH) {
+                    token.append(Character.toLowerCase(c));
+                }
+            } else if (!token.isEmpty()) {
+                sink.accept(token.toString());
+                token.setLength(0);
+            }
+        }
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+        private int live;
+
+        private void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+            live++;
+        }
+
+        private int renumber(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = renumbered[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return kept;
+        }
+    }
+
+    /**
+     * Bounded min-heap on score whose root is the weakest of the best results seen so far. Equal scores
+     * prefer the lower document number.
+     */
+    private static final class TopK {
+        private final int[] docs;
+        private final float[] scores;
+        private int size;
+
+        private TopK(int capacity) {
+            docs = new int[capacity];
+            scores = new float[capacity];
+        }
+
+        private void offer(int doc, float score) {
+            if (size < docs.length) {
+                docs[size] = doc;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (weaker(docs[0], scores[0], doc, score)) {
+                docs[0] = doc;
+                scores[0] = score;
+                siftDown(0, size);
+            }
+        }
+
+        private int[] sortedDocs() {
+            // Repeatedly move the weakest entry to the end, leaving the array strongest first
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+            return Arrays.copyOf(docs, size);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (!weaker(docs[i], scores[i], docs[parent], scores[parent])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i, int end) {
+            while (true) {
+                int weakest = i;
+                for (int child = 2 * i + 1; child <= 2 * i + 2 && child < end; child++) {
+                    if (weaker(docs[child], scores[child], docs[weakest], scores[weakest])) {
+                        weakest = child;
+                    }
+                }
+                if (weakest == i) {
+                    return;
+                }
+                swap(i, weakest);
+                i = weakest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int doc = docs[a];
+            docs[a] = docs[b];
+            docs[b] = doc;
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+        }
+
+        private static boolean weaker(int doc, float score, int otherDoc, float otherScore) {
+            return score < otherScore || (score == otherScore && doc > otherDoc);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.taskmanagement.infrastructure.search;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.stream.Stream;
+
+/**
+ * Periodically rebuilds the search index from the store. {@link IndexingTaskRepository} only sees writes made
+ * through this process, so tasks changed by other instances sharing the store, or directly in it, become
+ * searchable at the next rebuild.
+ */
+@Slf4j
+public class TaskSearchIndexRebuilder {
+
+    private final TaskRepository taskStore;
+    private final InvertedTaskSearchIndex searchIndex;
+
+    public TaskSearchIndexRebuilder(TaskRepository taskStore, InvertedTaskSearchIndex searchIndex) {
+        this.taskStore = taskStore;
+        this.searchIndex = searchIndex;
+    }
+
+    @Scheduled(initialDelayString = "${task.search.rebuild-interval:10m}",
+            fixedDelayString = "${task.search.rebuild-interval:10m}")
+    public void rebuild() {
+        try (Stream<Task> tasks = taskStore.streamAll()) {
+            searchIndex.rebuild(tasks);
+        }
+        log.debug("Rebuilt search index with {} tasks", searchIndex.size());
+    }
+}
@@ -0,0 +1,461 @@
+package com.example.taskmanagement.infrastructure.sharding;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.model.TaskTombstone;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Spreads tasks over several stores, each owning the ids that {@link ConsistentHashRing} maps to it. Calls
+ * about one id go to its owner; everything else is scattered to all shards in parallel on virtual threads
+ * and merged in the order the single-store call would have returned. Ids of new tasks are assigned here,
+ * since the owner can only be chosen once the id is known.
+ * <p>
+ * {@link #addShard} rebalances online. Routing switches to the new ring at once, remembering the old one;
+ * any call touching an id whose owner changed first moves that task across under a per-id lock, while
+ * {@code addShard} scans the old shards and moves the rest. A move copies the task to its new shard before
+ * deleting it from the old one, so a failure part-way leaves a duplicate that merged reads drop rather than
+ * a lost task, then re-stamps the copy's updatedAt past the tombstone the delete left, so sync clients see
+ * the deletion followed by the task again.
+ */
+@Slf4j
+public class ShardedTaskRepository implements TaskRepository, AutoCloseable {
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int REBALANCE_PAGE_SIZE = 500;
+    private static final Comparator<Task> ID_ORDER = Comparator.comparing(Task::getId);
+    private static final Comparator<Task> UPDATE_ORDER =
+            Comparator.comparing(Task::getUpdatedAt).thenComparing(Task::getId);
+    private static final Comparator<TaskTombstone> DELETE_ORDER =
+            Comparator.comparing(TaskTombstone::getDeletedAt).thenComparing(TaskTombstone::getId);
+
+    private final int virtualNodes;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+    private volatile Routing routing;
+
+    public ShardedTaskRepository(Map<String, TaskRepository> shards, int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+        Map<String, TaskRepository> copy = new LinkedHashMap<>(shards);
+        this.routing = new Routing(copy, new ConsistentHashRing(copy.keySet(), virtualNodes), null);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public List<String> shardNames() {
+        return routing.ring.shards();
+    }
+
+    /**
+     * Task counts per shard, in shard order.
+     */
+    public Map<String, TaskStats> shardStats() {
+        Routing current = routing;
+        List<TaskStats> stats = scatter(current.shards.values(), TaskRepository::countTasks);
+        Map<String, TaskStats> result = new LinkedHashMap<>();
+        int i = 0;
+        for (String name : current.shards.keySet()) {
+            result.put(name, stats.get(i++));
+        }
+        return result;
+    }
+
+    /**
+     * Adds {@code store} as shard {@code name} and moves over the tasks it now owns, returning how many were
+     * moved. The repository keeps serving throughout. Adding a shard that is already present finishes its
+     * rebalance, in case an earlier one was interrupted.
+     */
+    public synchronized long addShard(String name, TaskRepository store) {
+        Routing current = routing;
+        if (current.shards.containsKey(name)) {
+            return finishRebalance();
+        }
+        Map<String, TaskRepository> shards = new LinkedHashMap<>(current.shards);
+        shards.put(name, store);
+        switchTo(new Routing(shards, new ConsistentHashRing(shards.keySet(), virtualNodes), current.ring));
+        return finishRebalance();
+    }
+
+    private long finishRebalance() {
+        Routing migrating = routing;
+        if (migrating.previous == null) {
+            return 0;
+        }
+        long moved = 0;
+        for (String name : migrating.previous.shards()) {
+            TaskRepository shard = migrating.shards.get(name);
+            String afterId = null;
+            List<Task> page;
+            while (!(page = shard.findPageAfter(afterId, REBALANCE_PAGE_SIZE)).isEmpty()) {
+                for (Task task : page) {
+                    String owner = migrating.ring.shardFor(task.getId());
+                    if (!owner.equals(name) && move(task.getId(), shard, migrating.shards.get(owner))) {
+                        moved++;
+                    }
+                }
+                afterId = page.get(page.size() - 1).getId();
+            }
+            log.info("Rebalanced shard {}, {} tasks moved so far", name, moved);
+        }
+        routing = new Routing(migrating.shards, migrating.ring, null);
+        return moved;
+    }
+
+    @Override
+    public Task save(Task task) {
+        Task withId = task.getId() != null ? task : task.toBuilder().id(new ObjectId().toHexString()).build();
+        return onOwner(withId.getId(), shard -> shard.save(withId));
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        return onOwner(id, shard -> shard.findById(id));
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return routed(current -> distinct(concat(scatter(current.shards.values(), TaskRepository::findAll))));
+    }
+
+    @Override
+    public List<Task> findPageAfter(String afterId, int limit) {
+        // Every shard returns its first page after afterId, so the first tasks of the merge are the global page
+        return routed(current -> merge(scatter(current.shards.values(), shard -> shard.findPageAfter(afterId, limit)),
+                ID_ORDER, limit));
+    }
+
+    @Override
+    public Stream<Task> streamAll() {
+        // flatMap closes each shard's stream, and its cursor, once it has been consumed
+        return routing.shards.values().stream().flatMap(TaskRepository::streamAll);
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery query) {
+        Function<Task, LocalDateTime> sortField = query.getSortBy() == TaskQuery.SortField.CREATED_AT
+                ? Task::getCreatedAt : Task::getUpdatedAt;
+        Comparator<Task> order = Comparator.comparing(sortField).thenComparing(Task::getId);
+        int limit = query.getLimit() != null ? query.getLimit() : Integer.MAX_VALUE;
+        return routed(current -> merge(scatter(current.shards.values(), shard -> shard.findByQuery(query)),
+                query.isDescending() ? order.reversed() : order, limit));
+    }
+
+    @Override
+    public TaskStats countTasks() {
+        return routed(current -> {
+            TaskStats total = new TaskStats(0, 0);
+            for (TaskStats stats : scatter(current.shards.values(), TaskRepository::countTasks)) {
+                total.setTotal(total.getTotal() + stats.getTotal());
+                total.setCompleted(total.getCompleted() + stats.getCompleted());
+            }
+            return total;
+        });
+    }
+
+    @Override
+    public List<Task> findUpdatedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return routed(current -> merge(scatter(current.shards.values(),
+                shard -> shard.findUpdatedBetween(after, afterId, before, limit)), UPDATE_ORDER, limit));
+    }
+
+    @Override
+    public List<TaskTombstone> findDeletedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        return routed(current -> {
+            List<TaskTombstone> tombstones = concat(scatter(current.shards.values(),
+                    shard -> shard.findDeletedBetween(after, afterId, before, limit)));
+            tombstones.sort(DELETE_ORDER);
+            return tombstones.size() > limit ? new ArrayList<>(tombstones.subList(0, limit)) : tombstones;
+        });
+    }
+
+    @Override
+    public long purgeTombstonesBefore(LocalDateTime cutoff) {
+        return routed(current -> scatter(current.shards.values(), shard -> shard.purgeTombstonesBefore(cutoff))
+                .stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Override
+    public LocalDateTime tombstonesKeptSince() {
+        // Deletion history is only complete from the point every shard has kept it
+        return routed(current -> scatter(current.shards.values(), TaskRepository::tombstonesKeptSince).stream()
+                .max(Comparator.naturalOrder())
+                .orElseThrow());
+    }
+
+    @Override
+    public List<TaskBatchItemResult> saveAll(List<Task> tasks) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        return routed(current -> {
+            // New tasks need their id here to be routed, which would make them updates to a shard's saveAll, so
+            // they are stamped here and written as they are
+            List<Task> prepared = new ArrayList<>(tasks.size());
+            for (Task task : tasks) {
+                prepared.add(task.getId() != null ? task : task.toBuilder()
+                        .id(new ObjectId().toHexString())
+                        .createdAt(task.getCreatedAt() != null ? task.getCreatedAt() : now)
+                        .updatedAt(now)
+                        .version(0L)
+                        .build());
+            }
+            TaskBatchItemResult[] results = new TaskBatchItemResult[tasks.size()];
+            scatter(groupByOwner(current, prepared, Task::getId).entrySet(), group -> {
+                List<Integer> inserts = group.getValue().stream().filter(i -> tasks.get(i).getId() == null).toList();
+                List<Integer> updates = group.getValue().stream().filter(i -> tasks.get(i).getId() != null).toList();
+                if (!inserts.isEmpty()) {
+                    group.getKey().putAll(inserts.stream().map(prepared::get).toList());
+                    inserts.forEach(i -> results[i] = TaskBatchItemResult.success(i, prepared.get(i)));
+                }
+                if (!updates.isEmpty()) {
+                    List<Task> updated = updates.stream().map(prepared::get).toList();
+                    for (TaskBatchItemResult result : group.getKey().saveAll(updated)) {
+                        // Shards number items within their own sub-batch; map them back to the caller's positions
+                        result.setIndex(updates.get(result.getIndex()));
+                        results[result.getIndex()] = result;
+                    }
+                }
+                return null;
+            });
+            return List.of(results);
+        });
+    }
+
+    @Override
+    public void putAll(Collection<Task> tasks) {
+        routed(current -> {
+            List<Task> taskList = new ArrayList<>(tasks);
+            scatter(groupByOwner(current, taskList, Task::getId).entrySet(), group -> {
+                group.getKey().putAll(group.getValue().stream().map(taskList::get).toList());
+                return null;
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<String> ids) {
+        return routed(current -> {
+            List<String> idList = new ArrayList<>(ids);
+            return concat(scatter(groupByOwner(current, idList, Function.identity()).entrySet(),
+                    group -> group.getKey().findAllById(group.getValue().stream().map(idList::get).toList())));
+        });
+    }
+
+    @Override
+    public List<Task> deleteAllById(Collection<String> ids) {
+        return routed(current -> {
+            List<String> idList = new ArrayList<>(ids);
+            return concat(scatter(groupByOwner(current, idList, Function.identity()).entrySet(),
+                    group -> group.getKey().deleteAllById(group.getValue().stream().map(idList::get).toList())));
+        });
+    }
+
+    @Override
+    public void deleteById(String id) {
+        onOwner(id, shard -> {
+            shard.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Task> updateIfExists(Task task) {
+        return onOwner(task.getId(), shard -> shard.updateIfExists(task));
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id) {
+        return onOwner(id, shard -> shard.markCompleted(id));
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id, long expectedVersion) {
+        return onOwner(id, shard -> shard.markCompleted(id, expectedVersion));
+    }
+
+    @Override
+    public List<Task> markAllCompleted(Collection<String> ids) {
+        return routed(current -> {
+            List<String> idList = new ArrayList<>(ids);
+            return concat(scatter(groupByOwner(current, idList, Function.identity()).entrySet(),
+                    group -> group.getKey().markAllCompleted(group.getValue().stream().map(idList::get).toList())));
+        });
+    }
+
+    @Override
+    public Optional<Task> findAndDeleteById(String id) {
+        return onOwner(id, shard -> shard.findAndDeleteById(id));
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private <T> T onOwner(String id, Function<TaskRepository, T> call) {
+        return routed(current -> call.apply(owner(current, id)));
+    }
+
+    /**
+     * The shard owning {@code id}, after moving the task there if a rebalance changed its owner and it
+     * hasn't moved yet.
+     */
+    private TaskRepository owner(Routing current, String id) {
+        TaskRepository owner = current.shards.get(current.ring.shardFor(id));
+        if (current.previous != null) {
+            TaskRepository previousOwner = current.shards.get(current.previous.shardFor(id));
+            if (previousOwner != owner) {
+                move(id, previousOwner, owner);
+            }
+        }
+        return owner;
+    }
+
+    private boolean move(String id, TaskRepository from, TaskRepository to) {
+        ReentrantLock lock = stripes[Math.floorMod(id.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            Optional<Task> task = from.findById(id);
+            if (task.isEmpty()) {
+                return false;
+            }
+            // Copy before deleting: until the delete lands both shards hold the task, which distinct() tolerates
+            to.putAll(List.of(task.get()));
+            from.deleteById(id);
+            // The tombstone was stamped before deleteById returned; a millisecond on keeps the re-stamp after
+            // it even in stores that truncate to milliseconds
+            to.putAll(List.of(task.get().toBuilder()
+                    .updatedAt(LocalDateTime.now().plus(1, ChronoUnit.MILLIS))
+                    .build()));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> Map<TaskRepository, List<Integer>> groupByOwner(Routing current, List<T> items,
+                                                                 Function<T, String> id) {
+        Map<TaskRepository, List<Integer>> positions = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            positions.computeIfAbsent(owner(current, id.apply(items.get(i))), shard -> new ArrayList<>()).add(i);
+        }
+        return positions;
+    }
+
+    /**
+     * Runs {@code call} against the current routing, registered with it so that a rebalance can wait for
+     * calls still routed by the ring it replaces.
+     */
+    private <T> T routed(Function<Routing, T> call) {
+        Routing current;
+        while (true) {
+            current = routing;
+            current.active.increment();
+            if (current == routing) {
+                break;
+            }
+            current.active.decrement();
+        }
+        try {
+            return call.apply(current);
+        } finally {
+            current.active.decrement();
+        }
+    }
+
+    private void switchTo(Routing next) {
+        Routing previous = routing;
+        routing = next;
+        while (previous.active.sum() > 0) {
+            LockSupport.parkNanos(100_000);
+        }
+    }
+
+    private <S, T> List<T> scatter(Collection<S> targets, Function<S, T> call) {
+        if (targets.size() == 1) {
+            return List.of(call.apply(targets.iterator().next()));
+        }
+        List<Future<T>> futures = new ArrayList<>(targets.size());
+        for (S target : targets) {
+            futures.add(executor.submit(() -> call.apply(target)));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Shard call failed", e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for shards", e);
+        }
+        return results;
+    }
+
+    private static <T> List<T> concat(List<List<T>> lists) {
+        List<T> all = new ArrayList<>(lists.stream().mapToInt(List::size).sum());
+        lists.forEach(all::addAll);
+        return all;
+    }
+
+    private static List<Task> merge(List<List<Task>> lists, Comparator<Task> order, int limit) {
+        List<Task> merged = distinct(concat(lists));
+        merged.sort(order);
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    /**
+     * Drops the second copy of a task seen on both sides of a move.
+     */
+    private static List<Task> distinct(List<Task> tasks) {
+        Map<String, Task> byId = new LinkedHashMap<>(tasks.size() * 2);
+        for (Task task : tasks) {
+            byId.putIfAbsent(task.getId(), task);
+        }
+        return byId.size() == tasks.size() ? tasks : new ArrayList<>(byId.values());
+    }
+
+    private static final class Routing {
+
+        private final Map<String, TaskRepository> shards;
+        private final ConsistentHashRing ring;
+        // The ring being rebalanced away from, or null when no rebalance is running
+        private final ConsistentHashRing previous;
+        private final LongAdder active = new LongAdder();
+
+        private Routing(Map<String, TaskRepository> shards, ConsistentHashRing ring, ConsistentHashRing previous) {
+            this.shards = shards;
+            this.ring = ring;
+            this.previous = previous;
+        }
+    }
+}
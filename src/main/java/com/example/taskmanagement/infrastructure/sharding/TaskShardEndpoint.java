@@ -0,0 +1,44 @@
+package com.example.taskmanagement.infrastructure.sharding;
+
+import com.example.taskmanagement.domain.model.TaskStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operations endpoint for the sharded store: {@code GET /actuator/taskshards} lists task counts per shard,
+ * and {@code POST /actuator/taskshards} with {@code name} and {@code uri} adds a shard and rebalances onto
+ * it while the application keeps serving. The call returns once the rebalance is done.
+ */
+@Endpoint(id = "taskshards")
+@RequiredArgsConstructor
+public class TaskShardEndpoint {
+
+    private final ShardedTaskRepository repository;
+    private final TaskShardFactory shardFactory;
+
+    @ReadOperation
+    public Map<String, TaskStats> shards() {
+        return repository.shardStats();
+    }
+
+    @WriteOperation
+    public Map<String, Object> addShard(String name, @Nullable String uri) {
+        long start = System.nanoTime();
+        // An existing name resumes that shard's rebalance, which needs no new store
+        long moved = repository.addShard(name,
+                repository.shardNames().contains(name) ? null : shardFactory.create(name, uri));
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("shard", name);
+        result.put("movedTasks", moved);
+        result.put("durationMillis", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        result.put("shards", repository.shardStats());
+        return result;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.taskmanagement.infrastructure.sharding;
+
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import com.example.taskmanagement.infrastructure.adapter.InMemoryTaskAdapter;
+import com.example.taskmanagement.infrastructure.adapter.TaskAdapter;
+import com.example.taskmanagement.infrastructure.repository.TaskIndexInitializer;
+import com.example.taskmanagement.infrastructure.repository.TaskInfraRepository;
+import com.example.taskmanagement.infrastructure.repository.TaskVersionMigration;
+import com.mongodb.ConnectionString;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Creates the store behind one shard: a {@link TaskAdapter} on its own Mongo client and database, prepared
+ * the way the single-store application prepares its database at startup, or an {@link InMemoryTaskAdapter}
+ * when running with in-memory stand-ins. Closing the factory closes every client it opened.
+ */
+public class TaskShardFactory implements AutoCloseable {
+
+    private final boolean inMemory;
+    private final List<MongoClient> clients = new CopyOnWriteArrayList<>();
+
+    public TaskShardFactory(boolean inMemory) {
+        this.inMemory = inMemory;
+    }
+
+    public TaskRepository create(String name, String uri) {
+        if (inMemory) {
+            return new InMemoryTaskAdapter();
+        }
+        if (uri == null) {
+            throw new IllegalArgumentException("Shard " + name + " needs a Mongo URI");
+        }
+        ConnectionString connectionString = new ConnectionString(uri);
+        if (connectionString.getDatabase() == null) {
+            throw new IllegalArgumentException("Mongo URI of shard " + name + " must name a database");
+        }
+        MongoClient client = MongoClients.create(connectionString);
+        clients.add(client);
+        MongoTemplate mongoTemplate = new MongoTemplate(client, connectionString.getDatabase());
+        new TaskIndexInitializer(mongoTemplate).createIndexes();
+        new TaskVersionMigration(mongoTemplate).migrate();
+        TaskInfraRepository taskRepository = new MongoRepositoryFactory(mongoTemplate).getRepository(TaskInfraRepository.class);
+        return new TaskAdapter(taskRepository, mongoTemplate);
+    }
+
+    @Override
+    public void close() {
+        clients.forEach(MongoClient::close);
+    }
+}
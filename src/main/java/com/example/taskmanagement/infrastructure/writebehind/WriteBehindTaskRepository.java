@@ -0,0 +1,540 @@
+package com.example.taskmanagement.infrastructure.writebehind;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.model.TaskTombstone;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Write-behind decorator for hot mutations. Writes are applied to the latest known state of the task and
+ * queued per id, so repeated writes to the same task within a flush window collapse into one; a background
+ * committer writes the queue back with {@link TaskRepository#putAll} and {@link TaskRepository#deleteAllById}
+ * every flush interval, or sooner once a batch is full.
+ * <p>
+ * Lookups by id answer from the queue first, and every other read waits for the queued writes to be
+ * flushed, so callers always see their own writes. With {@link Durability#FLUSHED} a write is only
+ * acknowledged once the flush covering it has reached the store. Conditional writes are checked against
+ * the queued state, which assumes this decorator is the only writer to the store.
+ * <p>
+ * Instances are created by {@link #start}, which also starts the committer thread.
+ */
+@Slf4j
+public class WriteBehindTaskRepository implements TaskRepository, AutoCloseable {
+
+    public enum Durability {
+        /** Acknowledge as soon as the write is queued; a crash loses at most one flush interval of writes. */
+        ENQUEUED,
+        /**
+         * Acknowledge once the write has been flushed to the store, sharing the flush with concurrent writers.
+         * A failed flush fails the write, but the write stays queued like any other and is retried, so the
+         * failure means it isn't durable yet, not that it was dropped; it is visible to reads meanwhile.
+         */
+        FLUSHED
+    }
+
+    private final TaskRepository delegate;
+    private final long flushIntervalNanos;
+    private final int maxBatchSize;
+    private final Durability durability;
+    private final ConcurrentHashMap<String, Pending> pending = new ConcurrentHashMap<>();
+    private final Semaphore capacity;
+    private final ReentrantLock[] stripes = new ReentrantLock[64];
+    private Thread committer;
+
+    private volatile CompletableFuture<Void> nextFlush = new CompletableFuture<>();
+    private volatile boolean closed;
+
+    private WriteBehindTaskRepository(TaskRepository delegate, Duration flushInterval, int maxBatchSize,
+                                      int maxPending, Durability durability) {
+        this.delegate = delegate;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.durability = durability;
+        this.capacity = new Semaphore(maxPending);
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Creates a write-behind queue in front of {@code delegate} and starts its committer. The thread is only
+     * started once the queue is fully constructed, so it never sees a partly initialized instance.
+     */
+    public static WriteBehindTaskRepository start(TaskRepository delegate, Duration flushInterval, int maxBatchSize,
+                                                  int maxPending, Durability durability) {
+        WriteBehindTaskRepository writeBehind =
+                new WriteBehindTaskRepository(delegate, flushInterval, maxBatchSize, maxPending, durability);
+        writeBehind.committer = Thread.ofPlatform()
+                .name("task-write-behind")
+                .daemon()
+                .start(writeBehind::commitLoop);
+        return writeBehind;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Blocks until every write queued before the call has been flushed to the store.
+     */
+    public void awaitQueuedWrites() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        CompletableFuture<Void> flushed = nextFlush;
+        LockSupport.unpark(committer);
+        await(flushed);
+    }
+
+    @Override
+    public Task save(Task task) {
+        String id = task.getId() != null ? task.getId() : new ObjectId().toHexString();
+        // A new id can't have earlier state, so creates skip the lookup
+        return modify(id, task.getId() != null, current -> {
+            LocalDateTime now = LocalDateTime.now();
+            return task.toBuilder()
+                    .id(id)
+                    .createdAt(task.getCreatedAt() != null ? task.getCreatedAt() : now)
+                    .updatedAt(now)
+                    .version(nextVersion(current))
+                    .build();
+        }).orElseThrow();
+    }
+
+    @Override
+    public Optional<Task> findById(String id) {
+        Pending queued = pending.get(id);
+        if (queued != null) {
+            return Optional.ofNullable(queued.task).map(WriteBehindTaskRepository::copy);
+        }
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        awaitQueuedWrites();
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Task> findPageAfter(String afterId, int limit) {
+        awaitQueuedWrites();
+        return delegate.findPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Stream<Task> streamAll() {
+        awaitQueuedWrites();
+        return delegate.streamAll();
+    }
+
+    @Override
+    public List<Task> findByQuery(TaskQuery query) {
+        awaitQueuedWrites();
+        return delegate.findByQuery(query);
+    }
+
+    @Override
+    public TaskStats countTasks() {
+        awaitQueuedWrites();
+        return delegate.countTasks();
+    }
+
+    @Override
+    public List<Task> findUpdatedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        awaitQueuedWrites();
+        return delegate.findUpdatedBetween(after, afterId, before, limit);
+    }
+
+    @Override
+    public List<TaskTombstone> findDeletedBetween(LocalDateTime after, String afterId, LocalDateTime before, int limit) {
+        awaitQueuedWrites();
+        return delegate.findDeletedBetween(after, afterId, before, limit);
+    }
+
+    @Override
+    public long purgeTombstonesBefore(LocalDateTime cutoff) {
+        return delegate.purgeTombstonesBefore(cutoff);
+    }
+
+    @Override
+    public LocalDateTime tombstonesKeptSince() {
+        return delegate.tombstonesKeptSince();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        boolean added;
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            added = enqueue(id, null);
+        } finally {
+            lock.unlock();
+        }
+        settle(added ? 1 : 0);
+    }
+
+    @Override
+    public Optional<Task> updateIfExists(Task task) {
+        return modify(task.getId(), true, current -> current == null
+                || task.getVersion() != null && !task.getVersion().equals(current.getVersion())
+                ? null
+                : current.toBuilder()
+                        .title(task.getTitle())
+                        .description(task.getDescription())
+                        .updatedAt(LocalDateTime.now())
+                        .version(nextVersion(current))
+                        .build());
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id) {
+        return modify(id, true, current -> current == null || current.isCompleted()
+                ? null
+                : current.toBuilder()
+                        .completed(true)
+                        .updatedAt(LocalDateTime.now())
+                        .version(nextVersion(current))
+                        .build());
+    }
+
+    @Override
+    public Optional<Task> markCompleted(String id, long expectedVersion) {
+        return modify(id, true, current -> current == null || current.isCompleted()
+                || current.getVersion() == null || current.getVersion() != expectedVersion
+                ? null
+                : current.toBuilder()
+                        .completed(true)
+                        .updatedAt(LocalDateTime.now())
+                        .version(nextVersion(current))
+                        .build());
+    }
+
+    @Override
+    public List<Task> markAllCompleted(Collection<String> ids) {
+        return ids.stream().distinct().map(this::markCompleted).flatMap(Optional::stream).toList();
+    }
+
+    @Override
+    public Optional<Task> findAndDeleteById(String id) {
+        Task deleted;
+        boolean added;
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            deleted = latest(id);
+            if (deleted == null) {
+                return Optional.empty();
+            }
+            added = enqueue(id, null);
+        } finally {
+            lock.unlock();
+        }
+        settle(added ? 1 : 0);
+        return Optional.of(deleted);
+    }
+
+    @Override
+    public List<TaskBatchItemResult> saveAll(List<Task> tasks) {
+        List<TaskBatchItemResult> results = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            int index = i;
+            results.add(task.getId() == null
+                    ? TaskBatchItemResult.success(i, save(task))
+                    : replaceIfCurrent(task)
+                            .map(saved -> TaskBatchItemResult.success(index, saved))
+                            .orElseGet(() -> TaskBatchItemResult.stale(index, task.getId())));
+        }
+        return results;
+    }
+
+    @Override
+    public void putAll(Collection<Task> tasks) {
+        int added = 0;
+        for (Task task : tasks) {
+            ReentrantLock lock = lockFor(task.getId());
+            lock.lock();
+            try {
+                added += enqueue(task.getId(), task) ? 1 : 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+        settle(added);
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<String> ids) {
+        List<Task> found = new ArrayList<>(ids.size());
+        List<String> misses = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(ids)) {
+            Pending queued = pending.get(id);
+            if (queued == null) {
+                misses.add(id);
+            } else if (queued.task != null) {
+                found.add(copy(queued.task));
+            }
+        }
+        if (!misses.isEmpty()) {
+            found.addAll(delegate.findAllById(misses));
+        }
+        return found;
+    }
+
+    @Override
+    public List<Task> deleteAllById(Collection<String> ids) {
+        // One lookup for the ids not queued, so finding the deleted tasks doesn't cost a round trip per id
+        Set<String> unqueued = ids.stream().filter(id -> !pending.containsKey(id)).collect(Collectors.toSet());
+        Map<String, Task> stored = unqueued.isEmpty() ? Map.of() : delegate.findAllById(unqueued).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity(), (first, second) -> first));
+        List<Task> deleted = new ArrayList<>();
+        int added = 0;
+        for (String id : new LinkedHashSet<>(ids)) {
+            ReentrantLock lock = lockFor(id);
+            lock.lock();
+            try {
+                Task current;
+                if (pending.containsKey(id) || !unqueued.contains(id)) {
+                    // Queued, or flushed since the lookup above
+                    current = latest(id);
+                } else {
+                    current = stored.get(id);
+                }
+                if (current != null) {
+                    deleted.add(current);
+                    added += enqueue(id, null) ? 1 : 0;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        settle(added);
+        return deleted;
+    }
+
+    /**
+     * Stops the committer after a final flush of everything still queued. An interrupt doesn't cut this
+     * short, since the queued writes would be lost; it is restored once the queue is flushed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(committer);
+        boolean interrupted = false;
+        while (committer.isAlive()) {
+            try {
+                committer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        // Picks up a write that raced with shutdown past the closed check
+        flush();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Applies {@code change} to the latest state of the task with the id's stripe held and queues the result.
+     * The function receives null for a task that doesn't exist and may return null to leave it untouched.
+     */
+    private Optional<Task> replaceIfCurrent(Task task) {
+        return modify(task.getId(), true, current -> current == null
+                || task.getVersion() == null || !task.getVersion().equals(current.getVersion())
+                ? null
+                : current.toBuilder()
+                        .title(task.getTitle())
+                        .description(task.getDescription())
+                        .completed(task.isCompleted())
+                        .updatedAt(LocalDateTime.now())
+                        .version(nextVersion(current))
+                        .build());
+    }
+
+    private Optional<Task> modify(String id, boolean lookup, UnaryOperator<Task> change) {
+        Task updated;
+        boolean added;
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            updated = change.apply(lookup ? latest(id) : null);
+            if (updated == null) {
+                return Optional.empty();
+            }
+            added = enqueue(id, updated);
+        } finally {
+            lock.unlock();
+        }
+        settle(added ? 1 : 0);
+        return Optional.of(updated);
+    }
+
+    /**
+     * The queued state of the task if it has one, otherwise the stored task; null when it doesn't exist.
+     */
+    private Task latest(String id) {
+        Pending queued = pending.get(id);
+        if (queued != null) {
+            return queued.task == null ? null : copy(queued.task);
+        }
+        return delegate.findById(id).orElse(null);
+    }
+
+    /**
+     * Queues {@code task} as the next state for {@code id}, or its deletion when null. Must be called with the
+     * id's stripe held. Returns whether this took a new queue slot rather than replacing a queued write.
+     */
+    private boolean enqueue(String id, Task task) {
+        if (closed) {
+            throw new IllegalStateException("Write-behind queue is closed");
+        }
+        boolean added = pending.put(id, new Pending(task == null ? null : copy(task))) == null;
+        if (pending.size() >= maxBatchSize) {
+            LockSupport.unpark(committer);
+        }
+        return added;
+    }
+
+    /**
+     * Called after the stripe is released: takes a queue slot for each new write, blocking while the queue
+     * is full, then waits for the flush when writes are only acknowledged once durable.
+     */
+    private void settle(int added) {
+        if (added > 0 && !capacity.tryAcquire(added)) {
+            LockSupport.unpark(committer);
+            try {
+                capacity.acquire(added);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for write-behind queue space", e);
+            }
+        }
+        if (durability == Durability.FLUSHED) {
+            await(nextFlush);
+        }
+    }
+
+    private void await(CompletableFuture<Void> flushed) {
+        try {
+            flushed.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException(
+                    "Queued task writes could not be flushed to the store yet; they stay queued and are retried",
+                    e.getCause());
+        }
+    }
+
+    private void commitLoop() {
+        while (!closed) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            flush();
+        }
+        flush();
+    }
+
+    /**
+     * Writes everything queued back to the store in batches. Entries stay queued until their batch is
+     * stored, so reads never fall back to a store that hasn't seen them yet, and an entry replaced while
+     * its batch was in flight stays queued for the next flush. A failed batch stays queued and is retried.
+     */
+    private void flush() {
+        // Swap before reading the queue: whoever saw the old future queued their write before this point
+        CompletableFuture<Void> flushed = nextFlush;
+        nextFlush = new CompletableFuture<>();
+        if (pending.isEmpty()) {
+            flushed.complete(null);
+            return;
+        }
+        try {
+            List<Map.Entry<String, Pending>> batch = new ArrayList<>(Math.min(maxBatchSize, pending.size()));
+            for (Map.Entry<String, Pending> entry : pending.entrySet()) {
+                batch.add(Map.entry(entry.getKey(), entry.getValue()));
+                if (batch.size() == maxBatchSize) {
+                    writeBatch(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+            }
+            flushed.complete(null);
+        } catch (RuntimeException e) {
+            log.error("Write-behind flush failed; {} task writes stay queued for the next attempt", pending.size(), e);
+            flushed.completeExceptionally(e);
+        }
+    }
+
+    private void writeBatch(List<Map.Entry<String, Pending>> batch) {
+        List<Task> puts = new ArrayList<>(batch.size());
+        List<String> deletes = new ArrayList<>();
+        for (Map.Entry<String, Pending> entry : batch) {
+            if (entry.getValue().task != null) {
+                puts.add(entry.getValue().task);
+            } else {
+                deletes.add(entry.getKey());
+            }
+        }
+        if (!puts.isEmpty()) {
+            delegate.putAll(puts);
+        }
+        if (!deletes.isEmpty()) {
+            delegate.deleteAllById(deletes);
+        }
+        for (Map.Entry<String, Pending> entry : batch) {
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                capacity.release();
+            }
+        }
+    }
+
+    private ReentrantLock lockFor(String id) {
+        return stripes[(id.hashCode() & 0x7fffffff) % stripes.length];
+    }
+
+    private static long nextVersion(Task current) {
+        return current == null || current.getVersion() == null ? 0 : current.getVersion() + 1;
+    }
+
+    private static Task copy(Task task) {
+        return task.toBuilder().build();
+    }
+
+    /**
+     * A queued write; compared by identity so a flush only dequeues the exact write it stored.
+     */
+    private static final class Pending {
+        private final Task task;
+
+        private Pending(Task task) {
+            this.task = task;
+        }
+    }
+}
@@ -1,24 +1,62 @@
 package com.example.taskmanagement.application.controller;
 
 import com.example.taskmanagement.application.dto.TaskCreateDTO;
+import com.example.taskmanagement.config.TaskEncodingConfig;
 import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskChange;
+import com.example.taskmanagement.domain.model.TaskChangeSet;
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.example.taskmanagement.domain.model.TaskPage;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.port.in.TaskReadUseCase;
 import com.example.taskmanagement.domain.port.in.TaskUseCase;
+import com.example.taskmanagement.exception.GlobalExceptionHandler;
+import com.example.taskmanagement.exception.TaskOverloadedException;
+import com.example.taskmanagement.exception.TaskVersionConflictException;
+import com.example.taskmanagement.infrastructure.limit.AdaptiveConcurrencyLimiter;
+import com.example.taskmanagement.infrastructure.limit.ConcurrencyLimitedTaskReadUseCase;
+import com.example.taskmanagement.infrastructure.json.TaskJsonWriter;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -29,6 +67,12 @@ public class TaskControllerTest {
     @Mock
     private TaskUseCase taskUseCase;
 
+    @Mock
+    private TaskReadUseCase taskReadUseCase;
+
+    @Spy
+    private ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+
     @InjectMocks
     private TaskController taskController;
 
@@ -72,12 +116,44 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.completed").value(false));
     }
 
+    @Test
+    public void getTaskById_ShouldReturnServiceUnavailableWithRetryAfter_WhenOverloaded() throws Exception {
+        MockMvc adviceMockMvc = MockMvcBuilders.standaloneSetup(taskController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        when(taskUseCase.getTaskById("1")).thenThrow(new TaskOverloadedException("Too many concurrent reads, retry later",
+                Duration.ofMillis(1500)));
+
+        adviceMockMvc.perform(get("/api/tasks/1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.message").value("Too many concurrent reads, retry later"));
+    }
+
+    @Test
+    public void getAllTasks_ShouldReturnServiceUnavailable_WhenReadBudgetIsExhausted() throws Exception {
+        AdaptiveConcurrencyLimiter readLimiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 1.5, 0.2);
+        TaskController limitedController = new TaskController(taskUseCase,
+                new ConcurrencyLimitedTaskReadUseCase(taskReadUseCase, readLimiter, Duration.ofSeconds(1),
+                        new SimpleMeterRegistry()));
+        MockMvc limitedMockMvc = MockMvcBuilders.standaloneSetup(limitedController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        assertTrue(readLimiter.tryAcquire());
+
+        limitedMockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        verifyNoInteractions(taskReadUseCase);
+    }
+
     @Test
     public void getAllTasks_ShouldReturnListOfTasks() throws Exception {
         Task task1 = new Task("1", "Task 1", "Description 1", false, LocalDateTime.now(), LocalDateTime.now());
         Task task2 = new Task("2", "Task 2", "Description 2", true, LocalDateTime.now(), LocalDateTime.now());
 
-        when(taskUseCase.getAllTasks()).thenReturn(Arrays.asList(task1, task2));
+        when(taskReadUseCase.writeTasks(isNull(), eq(TaskListFormat.JSON_ARRAY), eq(TaskEncoding.JSON), any())).thenAnswer(render(task1, task2));
 
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isOk())
@@ -87,6 +163,56 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$[1].title").value("Task 2"));
     }
 
+    @Test
+    public void getAllTasks_ShouldQueryByFilters_WhenFiltersAreGiven() throws Exception {
+        Task task = new Task("1", "Task 1", "Description 1", true, LocalDateTime.now(), LocalDateTime.now());
+
+        when(taskReadUseCase.writeTasks(any(TaskQuery.class), eq(TaskListFormat.JSON_ARRAY), eq(TaskEncoding.JSON), any())).thenAnswer(render(task));
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("completed", "true")
+                        .param("updatedFrom", "2024-01-01T00:00:00")
+                        .param("sort", "createdAt")
+                        .param("direction", "asc")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("1"));
+
+        ArgumentCaptor<TaskQuery> captor = ArgumentCaptor.forClass(TaskQuery.class);
+        verify(taskReadUseCase).writeTasks(captor.capture(), eq(TaskListFormat.JSON_ARRAY), eq(TaskEncoding.JSON), any());
+        TaskQuery expected = TaskQuery.builder()
+                .completed(true)
+                .updatedFrom(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .sortBy(TaskQuery.SortField.CREATED_AT)
+                .descending(false)
+                .limit(20)
+                .build();
+        assertEquals(expected, captor.getValue());
+    }
+
+    @Test
+    public void searchTasks_ShouldReturnMatchingTasks() throws Exception {
+        Task task = new Task("1", "Buy milk", "From the corner shop", false, LocalDateTime.now(), LocalDateTime.now());
+
+        when(taskUseCase.searchTasks("milk", 5)).thenReturn(List.of(task));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "milk").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("1"))
+                .andExpect(jsonPath("$[0].title").value("Buy milk"));
+    }
+
+    @Test
+    public void getTaskStats_ShouldReturnCounts() throws Exception {
+        when(taskUseCase.getTaskStats()).thenReturn(new TaskStats(5, 2));
+
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.completed").value(2))
+                .andExpect(jsonPath("$.pending").value(3));
+    }
+
     @Test
     public void updateTask_ShouldReturnUpdatedTask() throws Exception {
         TaskCreateDTO taskUpdateDTO = new TaskCreateDTO("Updated Task", "Updated Description");
@@ -104,6 +230,53 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.completed").value(true));
     }
 
+    @Test
+    public void updateTask_ShouldPassIfMatchVersionAndReturnNewETag() throws Exception {
+        TaskCreateDTO taskUpdateDTO = new TaskCreateDTO("Updated Task", "Updated Description");
+        Task updatedTask = new Task("1", "Updated Task", "Updated Description", false, LocalDateTime.now(), LocalDateTime.now(), 4L);
+
+        when(taskUseCase.updateTask(any(Task.class))).thenReturn(updatedTask);
+
+        mockMvc.perform(put("/api/tasks/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(taskUpdateDTO)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+
+        ArgumentCaptor<Task> captor = ArgumentCaptor.forClass(Task.class);
+        verify(taskUseCase).updateTask(captor.capture());
+        assertEquals(3L, captor.getValue().getVersion());
+    }
+
+    @Test
+    public void getTaskById_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        Task task = new Task("1", "Test Task", "Test Description", false, LocalDateTime.now(), LocalDateTime.now(), 2L);
+
+        when(taskUseCase.getTaskById("1")).thenReturn(Optional.of(task));
+
+        mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "W/\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/tasks/1").header("If-None-Match", "\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value("1"));
+    }
+
+    @Test
+    public void getAllTasks_ShouldReturnNotModified_WhenListETagMatches() throws Exception {
+        Task task = new Task("1", "Test Task", "Test Description", false, LocalDateTime.now(), LocalDateTime.now(), 2L);
+
+        when(taskReadUseCase.writeTasks(isNull(), eq(TaskListFormat.JSON_ARRAY), eq(TaskEncoding.JSON), any())).thenAnswer(render(task));
+
+        String etag = mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     public void deleteTask_ShouldReturnNoContent() throws Exception {
         mockMvc.perform(delete("/api/tasks/1"))
@@ -123,5 +296,205 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.description").value("Test Description"))
                 .andExpect(jsonPath("$.completed").value(true));
     }
-}
 
+    @Test
+    public void getTaskPage_ShouldReturnItemsAndNextCursor() throws Exception {
+        Task task = new Task("1", "Task 1", "Description 1", false, LocalDateTime.now(), LocalDateTime.now());
+
+        when(taskUseCase.getTaskPage("abc", 1)).thenReturn(new TaskPage(List.of(task), "def"));
+
+        mockMvc.perform(get("/api/tasks/page").param("cursor", "abc").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value("1"))
+                .andExpect(jsonPath("$.next").value("def"));
+    }
+
+    @Test
+    public void getChanges_ShouldReturnChangesAndWatermark() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        Task task = new Task("1", "Task 1", "Description 1", false, now, now);
+        TaskChangeSet changeSet = new TaskChangeSet(
+                List.of(new TaskChange("1", false, task, now), new TaskChange("2", true, null, now)), "next", false);
+
+        when(taskUseCase.getChangesSince("abc", 500)).thenReturn(changeSet);
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].task.title").value("Task 1"))
+                .andExpect(jsonPath("$.changes[1].deleted").value(true))
+                .andExpect(jsonPath("$.changes[1].task").isEmpty())
+                .andExpect(jsonPath("$.watermark").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    public void exportTasks_ShouldStreamNdjson() throws Exception {
+        Task task1 = new Task("1", "Task 1", "Description 1", false, LocalDateTime.now(), LocalDateTime.now());
+        Task task2 = new Task("2", "Task 2", "Description 2", true, LocalDateTime.now(), LocalDateTime.now());
+
+        when(taskReadUseCase.writeTasks(isNull(), eq(TaskListFormat.NDJSON), eq(TaskEncoding.JSON), any())).thenAnswer(render(task1, task2));
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("1", jsonMapper.readTree(lines[0]).get("id").asText());
+        assertEquals("2", jsonMapper.readTree(lines[1]).get("id").asText());
+    }
+
+    @Test
+    public void createTasks_ShouldReturnPerItemResults() throws Exception {
+        List<TaskCreateDTO> taskCreateDTOs = List.of(new TaskCreateDTO("Task 1", "Description 1"), new TaskCreateDTO("Task 2", "Description 2"));
+        Task createdTask = new Task("1", "Task 1", "Description 1", false, LocalDateTime.now(), LocalDateTime.now());
+
+        when(taskUseCase.createTasks(anyList())).thenReturn(List.of(
+                TaskBatchItemResult.success(0, createdTask),
+                TaskBatchItemResult.failure(1, null, "write failed")));
+
+        mockMvc.perform(post("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(taskCreateDTOs)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[0].task.id").value("1"))
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].success").value(false))
+                .andExpect(jsonPath("$[1].error").value("write failed"));
+    }
+
+    @Test
+    public void getAllTasks_ShouldRenderCborWithEpochMillis_WhenAccepted() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 30, 15, 250_000_000);
+        Task task = new Task("1", "Task 1", "Description 1", false, createdAt, createdAt);
+        TaskEncoding cbor = new TaskEncoding(TaskEncoding.Format.CBOR, true);
+
+        when(taskReadUseCase.writeTasks(isNull(), eq(TaskListFormat.JSON_ARRAY), eq(cbor), any())).thenAnswer(render(task));
+
+        byte[] body = mockMvc.perform(get("/api/tasks").header(HttpHeaders.ACCEPT, "application/cbor;timestamps=epoch-millis"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor;timestamps=epoch-millis"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode tasks = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertEquals("1", tasks.get(0).get("id").asText());
+        assertEquals(createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), tasks.get(0).get("createdAt").asLong());
+    }
+
+    @Test
+    public void exportTasks_ShouldStreamSmileValues_WhenAccepted() throws Exception {
+        Task task1 = new Task("1", "Task 1", "Description 1", false, LocalDateTime.now(), LocalDateTime.now());
+        Task task2 = new Task("2", "Task 2", "Description 2", true, LocalDateTime.now(), LocalDateTime.now());
+        TaskEncoding smile = new TaskEncoding(TaskEncoding.Format.SMILE, false);
+
+        when(taskReadUseCase.writeTasks(isNull(), eq(TaskListFormat.NDJSON), eq(smile), any())).thenAnswer(render(task1, task2));
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export").header(HttpHeaders.ACCEPT, TaskMediaTypes.APPLICATION_SMILE_VALUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TaskMediaTypes.APPLICATION_SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<JsonNode> tasks = new ObjectMapper(new SmileFactory()).readerFor(JsonNode.class).<JsonNode>readValues(body).readAll();
+        assertEquals(2, tasks.size());
+        assertEquals("2", tasks.get(1).get("id").asText());
+    }
+
+    @Test
+    public void getAllTasks_ShouldReturnNotAcceptable_WhenNoEncodingIsAccepted() throws Exception {
+        mockMvc.perform(get("/api/tasks").header(HttpHeaders.ACCEPT, MediaType.APPLICATION_XML_VALUE))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    public void getTaskById_ShouldNegotiateCborAndTimestamps_ThroughMessageConverters() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 30, 15);
+        Task task = new Task("1", "Test Task", "Test Description", false, createdAt, createdAt, 4L);
+        TaskEncodingConfig config = new TaskEncodingConfig();
+        Supplier<Jackson2ObjectMapperBuilder> builder = () -> Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(config.taskTimestampsModule());
+        MockMvc negotiatingMvc = MockMvcBuilders.standaloneSetup(taskController)
+                .setMessageConverters(config.taskJsonHttpMessageConverter(builder.get().build()),
+                        config.taskCborHttpMessageConverter(builder.get()))
+                .build();
+
+        when(taskUseCase.getTaskById("1")).thenReturn(Optional.of(task));
+
+        negotiatingMvc.perform(get("/api/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdAt").value("2024-01-01T12:30:15"));
+        negotiatingMvc.perform(get("/api/tasks/1").header(HttpHeaders.ACCEPT, "application/json;timestamps=epoch-millis"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdAt").value(createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+        byte[] cbor = negotiatingMvc.perform(get("/api/tasks/1").header(HttpHeaders.ACCEPT, MediaType.APPLICATION_CBOR_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4-cbor\""))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals("Test Task", new ObjectMapper(new CBORFactory()).readTree(cbor).get("title").asText());
+    }
+
+    @Test
+    public void getTaskById_ShouldTagEachRepresentationOfAVersionDifferently() throws Exception {
+        Task task = new Task("1", "Test Task", "Test Description", false, LocalDateTime.now(), LocalDateTime.now(), 2L);
+
+        when(taskUseCase.getTaskById("1")).thenReturn(Optional.of(task));
+
+        mockMvc.perform(get("/api/tasks/1").header(HttpHeaders.ACCEPT, "application/json;timestamps=epoch-millis")
+                        .header("If-None-Match", "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2-epoch-millis\""))
+                .andExpect(content().contentType("application/json;timestamps=epoch-millis"));
+        mockMvc.perform(get("/api/tasks/1").header(HttpHeaders.ACCEPT, "application/json;timestamps=epoch-millis")
+                        .header("If-None-Match", "\"2-epoch-millis\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void markTaskAsCompleted_ShouldAcceptIfMatchOfAnyRepresentation() throws Exception {
+        Task completedTask = new Task("1", "Test Task", null, true, LocalDateTime.now(), LocalDateTime.now(), 5L);
+
+        when(taskUseCase.markTaskAsCompleted("1", 4L)).thenReturn(completedTask);
+
+        mockMvc.perform(patch("/api/tasks/1/complete").header("If-Match", "\"4-smile-epoch-millis\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+    }
+
+    @Test
+    public void markTaskAsCompleted_ShouldMatchIfAnyTagInAnIfMatchListNamesTheCurrentVersion() throws Exception {
+        Task completedTask = new Task("1", "Test Task", null, true, LocalDateTime.now(), LocalDateTime.now(), 5L);
+
+        when(taskUseCase.markTaskAsCompleted("1", 3L)).thenThrow(new TaskVersionConflictException("stale"));
+        when(taskUseCase.markTaskAsCompleted("1", 4L)).thenReturn(completedTask);
+
+        mockMvc.perform(patch("/api/tasks/1/complete").header("If-Match", "\"3\", \"3-cbor\", W/\"9\", \"4\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+        // Tags naming the same version are one attempt
+        verify(taskUseCase, times(1)).markTaskAsCompleted("1", 3L);
+    }
+
+    private Answer<Long> render(Task... tasks) {
+        return invocation -> {
+            TaskListFormat format = invocation.getArgument(1);
+            TaskEncoding encoding = invocation.getArgument(2);
+            try (TaskJsonWriter writer = TaskJsonWriter.create(jsonMapper.getFactory(), invocation.getArgument(3), format, encoding)) {
+                for (Task task : tasks) {
+                    writer.writeTask(task);
+                }
+                return writer.finish();
+            }
+        };
+    }
+}
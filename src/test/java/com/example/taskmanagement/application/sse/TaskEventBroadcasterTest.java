@@ -0,0 +1,133 @@
+package com.example.taskmanagement.application.sse;
+
+import com.example.taskmanagement.config.TaskEventProperties;
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        TaskEventProperties properties = new TaskEventProperties();
+        properties.setBufferSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new TaskEventBroadcaster(Jackson2ObjectMapperBuilder.json().build(), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void publish_ShouldDeliverEventsInOrderToEverySubscriber() throws Exception {
+        RecordingEmitter first = new RecordingEmitter(new CountDownLatch(0));
+        RecordingEmitter second = new RecordingEmitter(new CountDownLatch(0));
+        broadcaster.subscribe(first);
+        broadcaster.subscribe(second);
+
+        broadcaster.publish(TaskEvent.of(TaskEvent.Type.CREATED, task("1")));
+        broadcaster.publish(TaskEvent.of(TaskEvent.Type.COMPLETED, task("1")));
+
+        for (RecordingEmitter emitter : List.of(first, second)) {
+            List<String> sent = emitter.awaitSent(2);
+            assertTrue(sent.get(0).contains("event:created"));
+            assertTrue(sent.get(0).contains("\"id\":\"1\""));
+            assertTrue(sent.get(1).contains("event:completed"));
+        }
+    }
+
+    @Test
+    void publish_ShouldReplaceBacklogWithResync_WhenSubscriberFallsBehind() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        broadcaster.subscribe(slow);
+
+        for (int i = 0; i < 6; i++) {
+            broadcaster.publish(TaskEvent.of(TaskEvent.Type.UPDATED, task(String.valueOf(i))));
+        }
+        release.countDown();
+
+        List<String> sent = slow.awaitSent(2);
+        assertTrue(sent.stream().anyMatch(frame -> frame.contains("event:resync")));
+        assertTrue(meterRegistry.counter("task.events.dropped").count() > 0);
+    }
+
+    @Test
+    void subscriber_ShouldBeRemoved_WhenSendFails() throws Exception {
+        SseEmitter broken = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        broadcaster.subscribe(broken);
+
+        broadcaster.publish(TaskEvent.of(TaskEvent.Type.CREATED, task("1")));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcaster.subscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    private static Task task(String id) {
+        return new Task(id, "Task " + id, null, false, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    /**
+     * Records each event as its wire text; blocks every send until {@code release} opens.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            sent.add(builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining()));
+        }
+
+        List<String> awaitSent(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sent.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(sent.size() >= count, "Expected " + count + " events but got " + sent);
+            return sent;
+        }
+    }
+}
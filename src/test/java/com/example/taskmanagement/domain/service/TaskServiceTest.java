@@ -1,8 +1,21 @@
 package com.example.taskmanagement.domain.service;
 
 import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskChange;
+import com.example.taskmanagement.domain.model.TaskChangeSet;
+import com.example.taskmanagement.domain.model.TaskEvent;
+import com.example.taskmanagement.domain.model.TaskPage;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
+import com.example.taskmanagement.domain.model.TaskTombstone;
+import com.example.taskmanagement.domain.port.out.TaskEventPublisher;
 import com.example.taskmanagement.domain.port.out.TaskRepository;
+import com.example.taskmanagement.domain.port.out.TaskSearchIndex;
+import com.example.taskmanagement.exception.InvalidRequestException;
 import com.example.taskmanagement.exception.TaskNotFoundException;
+import com.example.taskmanagement.exception.TaskVersionConflictException;
+import com.example.taskmanagement.exception.WatermarkExpiredException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -11,11 +24,17 @@ import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 class TaskServiceTest {
@@ -23,6 +42,12 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskSearchIndex searchIndex;
+
+    @Mock
+    private TaskEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -103,8 +128,7 @@ class TaskServiceTest {
         Task existingTask = new Task(taskId, "Existing Task", "Existing Description", false, LocalDateTime.now(), LocalDateTime.now());
         Task updatedTask = new Task(taskId, "Updated Task", "Updated Description", true, existingTask.getCreatedAt(), LocalDateTime.now());
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.updateIfExists(updatedTask)).thenReturn(Optional.of(updatedTask));
 
         Task result = taskService.updateTask(updatedTask);
 
@@ -116,8 +140,9 @@ class TaskServiceTest {
         assertEquals(updatedTask.getCreatedAt(), result.getCreatedAt());
         assertNotNull(result.getUpdatedAt());
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, times(1)).updateIfExists(updatedTask);
+        verify(taskRepository, never()).findById(taskId);
+        verify(taskRepository, never()).save(any(Task.class));
     }
 
     @Test
@@ -125,37 +150,69 @@ class TaskServiceTest {
         String taskId = "1";
         Task updatedTask = new Task(taskId, "Updated Task", "Updated Description", true, LocalDateTime.now(), LocalDateTime.now());
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.updateIfExists(updatedTask)).thenReturn(Optional.empty());
 
         assertThrows(TaskNotFoundException.class, () -> taskService.updateTask(updatedTask));
 
-        verify(taskRepository, times(1)).findById(taskId);
+        verify(taskRepository, times(1)).updateIfExists(updatedTask);
         verify(taskRepository, never()).save(any(Task.class));
     }
 
+    @Test
+    void updateTask_ShouldThrowTaskVersionConflictException_WhenVersionIsStale() {
+        Task current = new Task("1", "Existing Task", null, false, LocalDateTime.now(), LocalDateTime.now(), 4L);
+        Task update = new Task("1", "Updated Task", null, false, null, null, 3L);
+
+        when(taskRepository.updateIfExists(update)).thenReturn(Optional.empty());
+        when(taskRepository.findById("1")).thenReturn(Optional.of(current));
+
+        assertThrows(TaskVersionConflictException.class, () -> taskService.updateTask(update));
+        verify(eventPublisher, never()).publish(any());
+    }
+
+    @Test
+    void markTaskAsCompleted_ShouldThrowTaskVersionConflictException_WhenVersionIsStale() {
+        Task current = new Task("1", "Existing Task", null, false, LocalDateTime.now(), LocalDateTime.now(), 4L);
+
+        when(taskRepository.findById("1")).thenReturn(Optional.of(current));
+
+        assertThrows(TaskVersionConflictException.class, () -> taskService.markTaskAsCompleted("1", 3L));
+        verify(taskRepository, never()).markCompleted("1");
+    }
+
+    @Test
+    void markTaskAsCompleted_ShouldWriteConditionallyWithoutReading_WhenVersionMatches() {
+        Task completed = new Task("1", "Existing Task", null, true, LocalDateTime.now(), LocalDateTime.now(), 4L);
+
+        when(taskRepository.markCompleted("1", 3L)).thenReturn(Optional.of(completed));
+
+        assertSame(completed, taskService.markTaskAsCompleted("1", 3L));
+        verify(taskRepository, never()).findById(any());
+        verify(eventPublisher, times(1)).publish(any(TaskEvent.class));
+    }
+
     @Test
     void deleteTask_ShouldDeleteTask_WhenTaskExists() {
         String taskId = "1";
         Task existingTask = new Task(taskId, "Existing Task", "Existing Description", false, LocalDateTime.now(), LocalDateTime.now());
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+        when(taskRepository.findAndDeleteById(taskId)).thenReturn(Optional.of(existingTask));
 
         taskService.deleteTask(taskId);
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(1)).deleteById(taskId);
+        verify(taskRepository, times(1)).findAndDeleteById(taskId);
+        verify(taskRepository, never()).findById(taskId);
     }
 
     @Test
     void deleteTask_ShouldThrowTaskNotFoundException_WhenTaskDoesNotExist() {
         String taskId = "1";
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.findAndDeleteById(taskId)).thenReturn(Optional.empty());
 
         assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(taskId));
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, never()).deleteById(any(String.class));
+        verify(taskRepository, times(1)).findAndDeleteById(taskId);
     }
     @Test
     void markTaskAsCompleted_ShouldReturnCompletedTask_WhenTaskExists() {
@@ -163,8 +220,7 @@ class TaskServiceTest {
         Task existingTask = new Task(taskId, "Existing Task", "Existing Description", false, LocalDateTime.now(), LocalDateTime.now());
         Task completedTask = new Task(taskId, "Existing Task", "Existing Description", true, existingTask.getCreatedAt(), LocalDateTime.now());
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(completedTask);
+        when(taskRepository.markCompleted(taskId)).thenReturn(Optional.of(completedTask));
 
         Task result = taskService.markTaskAsCompleted(taskId);
 
@@ -176,19 +232,301 @@ class TaskServiceTest {
         assertEquals(completedTask.getCreatedAt(), result.getCreatedAt());
         assertNotNull(result.getUpdatedAt());
 
+        verify(taskRepository, times(1)).markCompleted(taskId);
+        verify(taskRepository, never()).findById(taskId);
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    void markTaskAsCompleted_ShouldReturnTask_WhenTaskIsAlreadyCompleted() {
+        String taskId = "1";
+        Task completedTask = new Task(taskId, "Existing Task", "Existing Description", true, LocalDateTime.now(), LocalDateTime.now());
+
+        when(taskRepository.markCompleted(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(completedTask));
+
+        Task result = taskService.markTaskAsCompleted(taskId);
+
+        assertTrue(result.isCompleted());
+
+        verify(taskRepository, times(1)).markCompleted(taskId);
         verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(1)).save(any(Task.class));
     }
 
     @Test
     void markTaskAsCompleted_ShouldThrowTaskNotFoundException_WhenTaskDoesNotExist() {
         String taskId = "1";
 
+        when(taskRepository.markCompleted(taskId)).thenReturn(Optional.empty());
         when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
 
         assertThrows(TaskNotFoundException.class, () -> taskService.markTaskAsCompleted(taskId));
 
-        verify(taskRepository, times(1)).findById(taskId);
+        verify(taskRepository, times(1)).markCompleted(taskId);
         verify(taskRepository, never()).save(any(Task.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getTaskPage_ShouldReturnNextCursor_WhenMoreTasksExist() {
+        List<Task> tasks = Arrays.asList(
+                new Task("1", "Task 1", "Description 1", false, LocalDateTime.now(), LocalDateTime.now()),
+                new Task("2", "Task 2", "Description 2", false, LocalDateTime.now(), LocalDateTime.now()),
+                new Task("3", "Task 3", "Description 3", false, LocalDateTime.now(), LocalDateTime.now())
+        );
+
+        when(taskRepository.findPageAfter(null, 3)).thenReturn(tasks);
+
+        TaskPage firstPage = taskService.getTaskPage(null, 2);
+
+        assertEquals(2, firstPage.getTasks().size());
+        assertNotNull(firstPage.getNextCursor());
+
+        when(taskRepository.findPageAfter("2", 3)).thenReturn(List.of(tasks.get(2)));
+
+        TaskPage secondPage = taskService.getTaskPage(firstPage.getNextCursor(), 2);
+
+        assertEquals(1, secondPage.getTasks().size());
+        assertNull(secondPage.getNextCursor());
+
+        verify(taskRepository, times(1)).findPageAfter("2", 3);
+    }
+
+    @Test
+    void getTaskPage_ShouldCapPageSize() {
+        when(taskRepository.findPageAfter(null, TaskService.MAX_PAGE_SIZE + 1)).thenReturn(List.of());
+
+        TaskPage page = taskService.getTaskPage(null, 100_000);
+
+        assertTrue(page.getTasks().isEmpty());
+        verify(taskRepository, times(1)).findPageAfter(null, TaskService.MAX_PAGE_SIZE + 1);
+    }
+
+    @Test
+    void getTaskPage_ShouldThrowInvalidRequestException_WhenCursorIsMalformed() {
+        assertThrows(InvalidRequestException.class, () -> taskService.getTaskPage("not*base64", 10));
+
+        verify(taskRepository, never()).findPageAfter(any(), anyInt());
+    }
+
+    @Test
+    void updateTasks_ShouldReportMissingTasksPerItem() {
+        Task existingTask = new Task("1", "Existing Task", "Existing Description", true, LocalDateTime.now(), LocalDateTime.now());
+        List<Task> updates = Arrays.asList(
+                new Task("1", "Updated Task", "Updated Description", false, null, null),
+                new Task("2", "Missing Task", "Missing Description", false, null, null)
+        );
+
+        when(taskRepository.findAllById(List.of("1", "2"))).thenReturn(List.of(existingTask));
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> toSave = invocation.getArgument(0);
+            return List.of(TaskBatchItemResult.success(0, toSave.get(0)));
+        });
+
+        List<TaskBatchItemResult> results = taskService.updateTasks(updates);
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("Updated Task", results.get(0).getTask().getTitle());
+        assertTrue(results.get(0).getTask().isCompleted());
+        assertEquals(existingTask.getCreatedAt(), results.get(0).getTask().getCreatedAt());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals(1, results.get(1).getIndex());
+        assertEquals("2", results.get(1).getId());
+
+        verify(taskRepository, times(1)).findAllById(List.of("1", "2"));
+        verify(taskRepository, times(1)).saveAll(anyList());
+        verify(taskRepository, never()).findById(any(String.class));
+    }
+
+    @Test
+    void deleteTasks_ShouldReportWhatEachDeleteActuallyRemoved() {
+        // Completed between any earlier read and the delete: the removed state is what counts
+        Task removedTask = new Task("1", "Existing Task", "Existing Description", true, LocalDateTime.now(), LocalDateTime.now());
+
+        when(taskRepository.deleteAllById(anyCollection())).thenReturn(List.of(removedTask));
+
+        List<TaskBatchItemResult> results = taskService.deleteTasks(List.of("1", "2", "1"));
+
+        assertTrue(results.get(0).isSuccess());
+        assertTrue(results.get(0).getTask().isCompleted());
+        assertFalse(results.get(1).isSuccess());
+        assertTrue(results.get(2).isSuccess());
+
+        // One bulk delete for the distinct ids, with no per-id round trips
+        verify(taskRepository, times(1)).deleteAllById(new LinkedHashSet<>(List.of("1", "2")));
+        verify(taskRepository, never()).findAndDeleteById(any(String.class));
+        verify(taskRepository, never()).findAllById(anyList());
+        verify(eventPublisher, times(1)).publish(any(TaskEvent.class));
+    }
+
+    @Test
+    void markTasksAsCompleted_ShouldCompleteConditionallyAndNeverReportStale() {
+        Task completedTask = new Task("1", "Existing Task", "Existing Description", true, LocalDateTime.now(), LocalDateTime.now());
+        Task alreadyCompleted = new Task("2", "Other Task", "Other Description", true, LocalDateTime.now(), LocalDateTime.now());
+
+        when(taskRepository.markAllCompleted(anyCollection())).thenReturn(List.of(completedTask));
+        when(taskRepository.findAllById(anyList())).thenReturn(List.of(alreadyCompleted));
+
+        List<TaskBatchItemResult> results = taskService.markTasksAsCompleted(List.of("1", "2", "3"));
+
+        assertTrue(results.get(0).isSuccess());
+        assertTrue(results.get(1).isSuccess());
+        assertFalse(results.get(2).isSuccess());
+        assertEquals("Task not found with id: 3", results.get(2).getError());
+
+        verify(taskRepository, times(1)).markAllCompleted(new LinkedHashSet<>(List.of("1", "2", "3")));
+        // Only the misses are read back, to tell "already completed" from "not found"
+        verify(taskRepository, times(1)).findAllById(List.of("2", "3"));
+        verify(taskRepository, never()).saveAll(anyList());
+        verify(eventPublisher, times(1)).publish(any(TaskEvent.class));
+    }
+
+    @Test
+    void createTasks_ShouldRejectOversizedBatch() {
+        List<Task> tasks = Collections.nCopies(TaskService.MAX_BATCH_SIZE + 1, new Task());
+
+        assertThrows(InvalidRequestException.class, () -> taskService.createTasks(tasks));
+
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void findTasks_ShouldDelegateToRepository_WhenQueryIsValid() {
+        TaskQuery query = TaskQuery.builder().completed(false).build();
+        List<Task> tasks = List.of(new Task("1", "Test Task", null, false, LocalDateTime.now(), LocalDateTime.now()));
+        when(taskRepository.findByQuery(query)).thenReturn(tasks);
+
+        assertEquals(tasks, taskService.findTasks(query));
+    }
+
+    @Test
+    void findTasks_ShouldRejectEmptyRangeAndNonPositiveLimit() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThrows(InvalidRequestException.class,
+                () -> taskService.findTasks(TaskQuery.builder().updatedFrom(now).updatedTo(now).build()));
+        assertThrows(InvalidRequestException.class,
+                () -> taskService.findTasks(TaskQuery.builder().limit(0).build()));
+        verify(taskRepository, never()).findByQuery(any(TaskQuery.class));
+    }
+
+    @Test
+    void searchTasks_ShouldReturnTasksInRankOrder() {
+        Task first = new Task("2", "Buy milk", null, false, LocalDateTime.now(), LocalDateTime.now());
+        Task second = new Task("1", "Milk and bread", null, false, LocalDateTime.now(), LocalDateTime.now());
+        when(searchIndex.search("milk", 20)).thenReturn(List.of("2", "1"));
+        when(taskRepository.findAllById(List.of("2", "1"))).thenReturn(List.of(second, first));
+
+        assertEquals(List.of(first, second), taskService.searchTasks("milk", 20));
+    }
+
+    @Test
+    void searchTasks_ShouldRejectBlankQuery() {
+        assertThrows(InvalidRequestException.class, () -> taskService.searchTasks(" ", 20));
+        verify(searchIndex, never()).search(any(String.class), anyInt());
+    }
+
+    @Test
+    void getTaskStats_ShouldTrackWritesWithoutTouchingRepository() {
+        Task pending = new Task("1", "Test Task", null, false, LocalDateTime.now(), LocalDateTime.now());
+        Task completed = new Task("1", "Test Task", null, true, LocalDateTime.now(), LocalDateTime.now());
+        when(taskRepository.save(any(Task.class))).thenReturn(pending);
+        when(taskRepository.markCompleted("1")).thenReturn(Optional.of(completed)).thenReturn(Optional.empty());
+        when(taskRepository.findById("1")).thenReturn(Optional.of(completed));
+        when(taskRepository.findAndDeleteById("1")).thenReturn(Optional.of(completed));
+
+        taskService.createTask(new Task(null, "Test Task", null, false, null, null));
+        taskService.createTask(new Task(null, "Test Task", null, false, null, null));
+        taskService.markTaskAsCompleted("1");
+        taskService.markTaskAsCompleted("1");
+        assertEquals(new TaskStats(2, 1), taskService.getTaskStats());
+
+        taskService.deleteTask("1");
+        TaskStats stats = taskService.getTaskStats();
+        assertEquals(1, stats.getTotal());
+        assertEquals(0, stats.getCompleted());
+        assertEquals(1, stats.getPending());
+        verify(taskRepository, never()).countTasks();
+        verify(taskRepository, never()).findAll();
+    }
+
+    @Test
+    void reconcileTaskStats_ShouldResetCountsToRepositoryTotals() {
+        when(taskRepository.save(any(Task.class)))
+                .thenReturn(new Task("1", "Test Task", null, false, LocalDateTime.now(), LocalDateTime.now()));
+        when(taskRepository.countTasks()).thenReturn(new TaskStats(10, 4));
+
+        taskService.createTask(new Task(null, "Test Task", null, false, null, null));
+        taskService.reconcileTaskStats();
+        taskService.createTask(new Task(null, "Test Task", null, false, null, null));
+
+        assertEquals(new TaskStats(11, 4), taskService.getTaskStats());
+    }
+
+    @Test
+    void writes_ShouldPublishOneEventPerActualChange() {
+        Task pending = new Task("1", "Test Task", null, false, LocalDateTime.now(), LocalDateTime.now());
+        Task completed = new Task("1", "Test Task", null, true, LocalDateTime.now(), LocalDateTime.now());
+        when(taskRepository.save(any(Task.class))).thenReturn(pending);
+        when(taskRepository.markCompleted("1")).thenReturn(Optional.of(completed)).thenReturn(Optional.empty());
+        when(taskRepository.findById("1")).thenReturn(Optional.of(completed));
+        when(taskRepository.findAndDeleteById("1")).thenReturn(Optional.of(completed));
+
+        taskService.createTask(new Task(null, "Test Task", null, false, null, null));
+        taskService.markTaskAsCompleted("1");
+        taskService.markTaskAsCompleted("1");
+        taskService.deleteTask("1");
+
+        verify(eventPublisher).publish(argThat(event -> event.getType() == TaskEvent.Type.CREATED));
+        verify(eventPublisher).publish(argThat(event -> event.getType() == TaskEvent.Type.COMPLETED));
+        verify(eventPublisher).publish(argThat(event -> event.getType() == TaskEvent.Type.DELETED
+                && event.getTask().getId().equals("1")));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void getChangesSince_ShouldMergeUpdatesAndDeletionsInOrder() {
+        LocalDateTime base = LocalDateTime.now().minusMinutes(5);
+        Task updated = new Task("1", "Task", null, false, base, base.plusSeconds(2));
+        Task later = new Task("3", "Later", null, false, base, base.plusSeconds(3));
+        when(taskRepository.findUpdatedBetween(isNull(), isNull(), any(LocalDateTime.class), eq(3)))
+                .thenReturn(List.of(updated, later));
+        when(taskRepository.findDeletedBetween(isNull(), isNull(), any(LocalDateTime.class), eq(3)))
+                .thenReturn(List.of(new TaskTombstone("2", base.plusSeconds(1))));
+
+        TaskChangeSet result = taskService.getChangesSince(null, 2);
+
+        assertEquals(List.of("2", "1"), result.getChanges().stream().map(TaskChange::getId).toList());
+        assertTrue(result.getChanges().get(0).isDeleted());
+        assertTrue(result.isHasMore());
+
+        when(taskRepository.tombstonesKeptSince()).thenReturn(LocalDateTime.MIN);
+        taskService.getChangesSince(result.getWatermark(), 2);
+        verify(taskRepository).findUpdatedBetween(eq(base.plusSeconds(2)), eq("1"), any(LocalDateTime.class), eq(3));
+    }
+
+    @Test
+    void getChangesSince_ShouldAdvanceWatermark_WhenCaughtUp() {
+        when(taskRepository.tombstonesKeptSince()).thenReturn(LocalDateTime.MIN);
+        when(taskRepository.findUpdatedBetween(any(), any(), any(), anyInt())).thenReturn(Collections.emptyList());
+        when(taskRepository.findDeletedBetween(any(), any(), any(), anyInt())).thenReturn(Collections.emptyList());
+
+        TaskChangeSet result = taskService.getChangesSince(null, 10);
+        taskService.getChangesSince(result.getWatermark(), 10);
+
+        assertTrue(result.getChanges().isEmpty());
+        assertFalse(result.isHasMore());
+        verify(taskRepository).findUpdatedBetween(any(LocalDateTime.class), isNull(), any(LocalDateTime.class), eq(11));
+    }
+
+    @Test
+    void getChangesSince_ShouldThrowWatermarkExpiredException_WhenOlderThanRetainedTombstones() {
+        when(taskRepository.tombstonesKeptSince()).thenReturn(LocalDateTime.now().minusHours(1));
+        String watermark = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((LocalDateTime.now().minusHours(2) + "|1").getBytes());
+
+        assertThrows(WatermarkExpiredException.class, () -> taskService.getChangesSince(watermark, 10));
+        assertThrows(InvalidRequestException.class, () -> taskService.getChangesSince("not-a-watermark", 10));
+        verify(taskRepository, never()).findUpdatedBetween(any(), any(), any(), anyInt());
+    }
+}
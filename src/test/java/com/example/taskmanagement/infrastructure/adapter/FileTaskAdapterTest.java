@@ -0,0 +1,129 @@
+package com.example.taskmanagement.infrastructure.adapter;
+
+import com.example.taskmanagement.config.TaskFileStoreProperties;
+import com.example.taskmanagement.domain.model.Task;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileTaskAdapterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void restart_ShouldRecoverEveryAcknowledgedWrite() throws Exception {
+        FileTaskAdapter taskAdapter = new FileTaskAdapter(properties(64 * 1024 * 1024));
+        Task kept = taskAdapter.save(new Task(null, "Kept Task", "Kept Description", false, null, null));
+        Task deleted = taskAdapter.save(new Task(null, "Deleted Task", null, false, null, null));
+        taskAdapter.updateIfExists(new Task(kept.getId(), "Updated Task", "Updated Description", false, null, null));
+        Task completed = taskAdapter.markCompleted(kept.getId()).orElseThrow();
+        taskAdapter.findAndDeleteById(deleted.getId());
+        taskAdapter.destroy();
+
+        FileTaskAdapter reopened = new FileTaskAdapter(properties(64 * 1024 * 1024));
+
+        assertEquals(List.of(completed), reopened.findAll());
+        reopened.destroy();
+    }
+
+    @Test
+    void compaction_ShouldSnapshotStateAndStartAFreshLog() throws Exception {
+        FileTaskAdapter taskAdapter = new FileTaskAdapter(properties(4 * 1024));
+        for (int i = 0; i < 200; i++) {
+            taskAdapter.save(new Task(null, "Task " + i, "Description " + i, i % 2 == 0, null, null));
+        }
+        List<Task> expected = taskAdapter.findAll();
+        taskAdapter.destroy();
+
+        assertTrue(Files.exists(directory.resolve(FileTaskAdapter.SNAPSHOT_FILE)));
+        assertFalse(Files.exists(directory.resolve(FileTaskAdapter.COMPACTING_LOG_FILE)));
+
+        FileTaskAdapter reopened = new FileTaskAdapter(properties(4 * 1024));
+
+        assertEquals(expected, reopened.findAll());
+        reopened.destroy();
+    }
+
+    @Test
+    void recovery_ShouldStopAtTornRecord() throws Exception {
+        FileTaskAdapter taskAdapter = new FileTaskAdapter(properties(64 * 1024 * 1024));
+        Task first = taskAdapter.save(new Task(null, "First Task", null, false, null, null));
+        taskAdapter.save(new Task(null, "Second Task", null, false, null, null));
+        taskAdapter.destroy();
+
+        // Flip a payload byte of the second record, as a crash in the middle of writing it would
+        int firstRecordLength;
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve(FileTaskAdapter.LOG_FILE).toFile(), "rw")) {
+            firstRecordLength = file.readInt();
+            long secondPayload = 8L + firstRecordLength + 8 + 10;
+            file.seek(secondPayload);
+            int value = file.read();
+            file.seek(secondPayload);
+            file.write(value ^ 0xff);
+        }
+
+        FileTaskAdapter reopened = new FileTaskAdapter(properties(64 * 1024 * 1024));
+        assertEquals(List.of(first), reopened.findAll());
+
+        Task third = reopened.save(new Task(null, "Third Task", null, false, null, null));
+        reopened.destroy();
+
+        FileTaskAdapter reopenedAgain = new FileTaskAdapter(properties(64 * 1024 * 1024));
+        assertEquals(List.of(first, third), reopenedAgain.findAll());
+        reopenedAgain.destroy();
+    }
+
+    @Test
+    void recovery_ShouldStopAtRecordWhoseLengthRunsPastTheLog() throws Exception {
+        FileTaskAdapter taskAdapter = new FileTaskAdapter(properties(64 * 1024 * 1024));
+        Task first = taskAdapter.save(new Task(null, "First Task", null, false, null, null));
+        taskAdapter.save(new Task(null, "Second Task", null, false, null, null));
+        taskAdapter.destroy();
+
+        // A length so large that offset + header + length overflows an int
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve(FileTaskAdapter.LOG_FILE).toFile(), "rw")) {
+            int firstRecordLength = file.readInt();
+            file.seek(8L + firstRecordLength);
+            file.writeInt(Integer.MAX_VALUE - 4);
+        }
+
+        FileTaskAdapter reopened = new FileTaskAdapter(properties(64 * 1024 * 1024));
+        assertEquals(List.of(first), reopened.findAll());
+        reopened.destroy();
+    }
+
+    @Test
+    void failedAppend_ShouldLeaveIndexUnchanged() throws Exception {
+        FileTaskAdapter taskAdapter = new FileTaskAdapter(properties(64 * 1024 * 1024));
+        Task saved = taskAdapter.save(new Task(null, "Saved Task", null, false, null, null));
+        // Closes the log, so every further append fails
+        taskAdapter.destroy();
+
+        assertThrows(UncheckedIOException.class,
+                () -> taskAdapter.updateIfExists(new Task(saved.getId(), "Updated Task", null, false, null, null)));
+        assertThrows(UncheckedIOException.class, () -> taskAdapter.markCompleted(saved.getId()));
+        assertThrows(UncheckedIOException.class, () -> taskAdapter.findAndDeleteById(saved.getId()));
+        assertThrows(UncheckedIOException.class, () -> taskAdapter.save(new Task(null, "New Task", null, false, null, null)));
+
+        assertEquals(List.of(saved), taskAdapter.findAll());
+        assertEquals(1, taskAdapter.countTasks().getTotal());
+    }
+
+    private TaskFileStoreProperties properties(int compactionThreshold) {
+        TaskFileStoreProperties properties = new TaskFileStoreProperties();
+        properties.setDirectory(directory);
+        properties.setFsyncInterval(Duration.ofMillis(1));
+        properties.setInitialLogSize(64 * 1024);
+        properties.setCompactionThreshold(compactionThreshold);
+        return properties;
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.taskmanagement.infrastructure.adapter;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskTombstone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTaskAdapterTest {
+
+    private InMemoryTaskAdapter taskAdapter;
+
+    @BeforeEach
+    void setUp() {
+        taskAdapter = new InMemoryTaskAdapter();
+    }
+
+    @Test
+    void save_ShouldAssignIdAndStampTimestamps() {
+        Task result = taskAdapter.save(new Task(null, "Test Task", "Test Description", false, null, null));
+
+        assertNotNull(result.getId());
+        assertNotNull(result.getCreatedAt());
+        assertNotNull(result.getUpdatedAt());
+        assertEquals(result, taskAdapter.findById(result.getId()).orElseThrow());
+    }
+
+    @Test
+    void updateIfExists_ShouldKeepCreatedAtAndCompletion() {
+        Task saved = taskAdapter.save(new Task(null, "Test Task", "Test Description", true, null, null));
+
+        Task updated = taskAdapter.updateIfExists(new Task(saved.getId(), "Updated Task", "Updated Description", false, null, null))
+                .orElseThrow();
+
+        assertEquals("Updated Task", updated.getTitle());
+        assertTrue(updated.isCompleted());
+        assertEquals(saved.getCreatedAt(), updated.getCreatedAt());
+        assertFalse(taskAdapter.updateIfExists(new Task("missing", "Title", null, false, null, null)).isPresent());
+    }
+
+    @Test
+    void updateIfExists_ShouldBumpVersionAndRejectStaleVersion() {
+        Task saved = taskAdapter.save(new Task(null, "Test Task", "Test Description", false, null, null));
+
+        Task updated = taskAdapter.updateIfExists(new Task(saved.getId(), "Updated Task", null, false, null, null, 0L))
+                .orElseThrow();
+
+        assertEquals(0L, saved.getVersion());
+        assertEquals(1L, updated.getVersion());
+        assertFalse(taskAdapter.updateIfExists(new Task(saved.getId(), "Stale", null, false, null, null, 0L)).isPresent());
+        assertEquals(2L, taskAdapter.markCompleted(saved.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void saveAll_ShouldRejectUpdatesOfTasksDeletedOrChangedSinceRead() {
+        Task kept = taskAdapter.save(new Task(null, "Kept", "Description", false, null, null));
+        Task changed = taskAdapter.save(new Task(null, "Changed", "Description", false, null, null));
+        Task deleted = taskAdapter.save(new Task(null, "Deleted", "Description", false, null, null));
+        taskAdapter.markCompleted(changed.getId());
+        taskAdapter.deleteById(deleted.getId());
+
+        List<TaskBatchItemResult> results = taskAdapter.saveAll(List.of(
+                kept.toBuilder().title("Kept 2").build(),
+                changed.toBuilder().title("Changed 2").build(),
+                deleted.toBuilder().title("Deleted 2").build()));
+
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(kept.getVersion() + 1, results.get(0).getTask().getVersion());
+        assertFalse(results.get(1).isSuccess());
+        assertFalse(results.get(2).isSuccess());
+        Task stillCompleted = taskAdapter.findById(changed.getId()).orElseThrow();
+        assertEquals("Changed", stillCompleted.getTitle());
+        assertTrue(stillCompleted.isCompleted());
+        assertTrue(taskAdapter.findById(deleted.getId()).isEmpty());
+    }
+
+    @Test
+    void markCompleted_ShouldOnlyMatchPendingTasks() {
+        Task saved = taskAdapter.save(new Task(null, "Test Task", "Test Description", false, null, null));
+
+        assertTrue(taskAdapter.markCompleted(saved.getId()).orElseThrow().isCompleted());
+        assertFalse(taskAdapter.markCompleted(saved.getId()).isPresent());
+        assertFalse(taskAdapter.markCompleted("missing").isPresent());
+    }
+
+    @Test
+    void findPageAfter_ShouldWalkTasksInIdOrder() {
+        for (int i = 0; i < 5; i++) {
+            taskAdapter.save(new Task(null, "Task " + i, null, false, null, null));
+        }
+
+        List<Task> firstPage = taskAdapter.findPageAfter(null, 3);
+        List<Task> secondPage = taskAdapter.findPageAfter(firstPage.get(2).getId(), 3);
+
+        assertEquals(3, firstPage.size());
+        assertEquals(2, secondPage.size());
+        assertEquals(List.of("Task 0", "Task 1", "Task 2", "Task 3", "Task 4"),
+                taskAdapter.findAll().stream().map(Task::getTitle).collect(Collectors.toList()));
+    }
+
+    @Test
+    void findByQuery_ShouldFilterByStatusAndRangeInSortOrder() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < 6; i++) {
+            taskAdapter.restore(new Task("t" + i, "Task " + i, null, i % 2 == 0, base.minusDays(i), base.plusHours(i)));
+        }
+
+        List<Task> pendingByUpdate = taskAdapter.findByQuery(TaskQuery.builder()
+                .completed(false)
+                .updatedFrom(base.plusHours(1))
+                .updatedTo(base.plusHours(5))
+                .build());
+        List<Task> oldestCreatedFirst = taskAdapter.findByQuery(TaskQuery.builder()
+                .sortBy(TaskQuery.SortField.CREATED_AT)
+                .descending(false)
+                .limit(2)
+                .build());
+
+        assertEquals(List.of("t3", "t1"), pendingByUpdate.stream().map(Task::getId).collect(Collectors.toList()));
+        assertEquals(List.of("t5", "t4"), oldestCreatedFirst.stream().map(Task::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void findByQuery_ShouldFollowTasksWhoseTimestampsChange() {
+        Task saved = taskAdapter.save(new Task(null, "Test Task", null, false, null, null));
+        Task completed = taskAdapter.markCompleted(saved.getId()).orElseThrow();
+
+        List<Task> completedTasks = taskAdapter.findByQuery(TaskQuery.builder().completed(true).build());
+        List<Task> beforeCompletion = taskAdapter.findByQuery(TaskQuery.builder().updatedTo(completed.getUpdatedAt()).build());
+        List<Task> sinceCompletion = taskAdapter.findByQuery(TaskQuery.builder().updatedFrom(completed.getUpdatedAt()).build());
+
+        assertEquals(List.of(completed), completedTasks);
+        assertTrue(beforeCompletion.isEmpty());
+        assertEquals(List.of(completed), sinceCompletion);
+    }
+
+    @Test
+    void findAndDeleteById_ShouldRemoveTaskFromEveryIndex() {
+        Task saved = taskAdapter.save(new Task(null, "Test Task", "Test Description", false, null, null));
+
+        Optional<Task> deleted = taskAdapter.findAndDeleteById(saved.getId());
+
+        assertTrue(deleted.isPresent());
+        assertFalse(taskAdapter.findById(saved.getId()).isPresent());
+        assertTrue(taskAdapter.findPageAfter(null, 10).isEmpty());
+        assertFalse(taskAdapter.findAndDeleteById(saved.getId()).isPresent());
+    }
+
+    @Test
+    void findChangesBetween_ShouldReturnUpdatesAndTombstonesAfterPosition() {
+        Task first = taskAdapter.save(new Task(null, "First", null, false, null, null));
+        Task second = taskAdapter.save(new Task(null, "Second", null, false, null, null));
+        Task deleted = taskAdapter.save(new Task(null, "Deleted", null, false, null, null));
+        taskAdapter.deleteById(deleted.getId());
+        LocalDateTime before = LocalDateTime.now().plusSeconds(1);
+
+        List<Task> updated = taskAdapter.findUpdatedBetween(null, null, before, 10);
+        List<TaskTombstone> tombstones = taskAdapter.findDeletedBetween(null, null, before, 10);
+
+        assertEquals(List.of(first.getId(), second.getId()), updated.stream().map(Task::getId).collect(Collectors.toList()));
+        assertEquals(List.of(deleted.getId()), tombstones.stream().map(TaskTombstone::getId).collect(Collectors.toList()));
+        assertEquals(List.of(second.getId()), taskAdapter.findUpdatedBetween(first.getUpdatedAt(), first.getId(), before, 10)
+                .stream().map(Task::getId).collect(Collectors.toList()));
+        assertTrue(taskAdapter.findUpdatedBetween(null, null, first.getUpdatedAt(), 10).isEmpty());
+        assertEquals(1, taskAdapter.purgeTombstonesBefore(before));
+        assertTrue(taskAdapter.findDeletedBetween(null, null, before, 10).isEmpty());
+    }
+
+    @Test
+    void concurrentWriters_ShouldLeaveStoreConsistent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int n = i;
+            futures.add(executor.submit(() -> {
+                Task saved = taskAdapter.save(new Task(null, "Task " + n, null, false, null, null));
+                taskAdapter.updateIfExists(new Task(saved.getId(), "Updated " + n, null, false, null, null));
+                taskAdapter.markCompleted(saved.getId());
+                if (n % 2 == 0) {
+                    taskAdapter.deleteById(saved.getId());
+                }
+                return saved.getId();
+            }));
+        }
+        for (Future<String> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        List<Task> remaining = taskAdapter.findAll();
+        assertEquals(1000, remaining.size());
+        assertTrue(remaining.stream().allMatch(Task::isCompleted));
+        assertTrue(remaining.stream().allMatch(task -> task.getTitle().startsWith("Updated")));
+    }
+}
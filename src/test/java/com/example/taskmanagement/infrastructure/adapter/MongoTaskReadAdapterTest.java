@@ -0,0 +1,102 @@
+package com.example.taskmanagement.infrastructure.adapter;
+
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.example.taskmanagement.domain.port.out.TaskReadRepository;
+import com.example.taskmanagement.infrastructure.entity.TaskEntity;
+import com.example.taskmanagement.infrastructure.replica.ReadYourWrites;
+import com.example.taskmanagement.infrastructure.replica.ReplicaRouter;
+import com.example.taskmanagement.infrastructure.writebehind.WriteBehindTaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MongoTaskReadAdapterTest {
+
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(90);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private TaskReadRepository replica;
+
+    @Mock
+    private ObjectProvider<WriteBehindTaskRepository> writeBehind;
+
+    private ReadYourWrites readYourWrites;
+    private SimpleMeterRegistry registry;
+    private MongoTaskReadAdapter readAdapter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        readYourWrites = new ReadYourWrites(MAX_STALENESS);
+        registry = new SimpleMeterRegistry();
+        readAdapter = new MongoTaskReadAdapter(mongoTemplate, new ObjectMapper(), writeBehind, replica,
+                new ReplicaRouter(readYourWrites, MAX_STALENESS, () -> Duration.ZERO, registry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        readYourWrites.clearClient();
+    }
+
+    @Test
+    void writeTasks_ShouldRenderFromReplica_WhenClientHasNotWrittenRecently() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        when(replica.writeTasks(null, TaskListFormat.JSON_ARRAY, TaskEncoding.JSON, out)).thenReturn(2L);
+        readYourWrites.bindClient("client-a");
+
+        assertEquals(2, readAdapter.writeTasks(null, TaskListFormat.JSON_ARRAY, TaskEncoding.JSON, out));
+
+        verify(mongoTemplate, never()).execute(eq(TaskEntity.class), any());
+        assertEquals(1, timerCount("replica"));
+    }
+
+    @Test
+    void writeTasks_ShouldRenderFromPrimary_WhenClientWroteWithinWindow() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        readYourWrites.bindClient("client-a");
+        readYourWrites.recordWrite();
+
+        assertEquals(0, readAdapter.writeTasks(null, TaskListFormat.JSON_ARRAY, TaskEncoding.JSON, out));
+
+        assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+        verify(mongoTemplate).execute(eq(TaskEntity.class), any());
+        verifyNoInteractions(replica);
+        assertEquals(1, timerCount("primary"));
+    }
+
+    private long timerCount(String route) {
+        return registry.get("task.repository.route").tags("route", route, "operation", "writeTasks").timer().count();
+    }
+}
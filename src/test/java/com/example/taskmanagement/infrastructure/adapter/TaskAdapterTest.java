@@ -1,18 +1,37 @@
 package com.example.taskmanagement.infrastructure.adapter;
 
 import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskStats;
 import com.example.taskmanagement.infrastructure.entity.TaskEntity;
+import com.example.taskmanagement.infrastructure.entity.TaskTombstoneEntity;
 import com.example.taskmanagement.infrastructure.repository.TaskInfraRepository;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.BsonDocument;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,6 +42,9 @@ class TaskAdapterTest {
     @Mock
     private TaskInfraRepository taskRepository;
 
+    @Mock
+    private MongoTemplate mongoTemplate;
+
     @InjectMocks
     private TaskAdapter taskAdapter;
 
@@ -113,5 +135,258 @@ class TaskAdapterTest {
 
         verify(taskRepository, times(1)).deleteById(taskId);
     }
-}
 
+    @Test
+    void findPageAfter_ShouldSeekPastCursor() {
+        List<TaskEntity> taskEntities = List.of(
+            new TaskEntity("2", "Task 2", "Description 2", false, LocalDateTime.now(), LocalDateTime.now())
+        );
+
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(eq("1"), any(Pageable.class))).thenReturn(taskEntities);
+
+        List<Task> result = taskAdapter.findPageAfter("1", 10);
+
+        assertEquals(1, result.size());
+        assertEquals("2", result.get(0).getId());
+
+        verify(taskRepository, times(1)).findByIdGreaterThanOrderByIdAsc(eq("1"), any(Pageable.class));
+        verify(taskRepository, never()).findAll();
+    }
+
+    @Test
+    void streamAll_ShouldMapEntitiesLazily() {
+        Stream<TaskEntity> taskEntities = Stream.of(
+            new TaskEntity("1", "Task 1", "Description 1", false, LocalDateTime.now(), LocalDateTime.now()),
+            new TaskEntity("2", "Task 2", "Description 2", true, LocalDateTime.now(), LocalDateTime.now())
+        );
+
+        when(taskRepository.streamAllBy()).thenReturn(taskEntities);
+
+        List<String> ids;
+        try (Stream<Task> result = taskAdapter.streamAll()) {
+            ids = result.map(Task::getId).collect(Collectors.toList());
+        }
+
+        assertEquals(List.of("1", "2"), ids);
+
+        verify(taskRepository, times(1)).streamAllBy();
+        verify(taskRepository, never()).findAll();
+    }
+
+    @Test
+    void saveAll_ShouldInsertInSingleBulkWriteAndReportItemErrors() {
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        BulkOperationException bulkException = mock(BulkOperationException.class);
+        List<Task> tasks = Arrays.asList(
+            new Task(null, "Task 1", "Description 1", false, null, null),
+            new Task(null, "Task 2", "Description 2", true, null, null)
+        );
+
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskEntity.class)).thenReturn(bulkOperations);
+        when(bulkException.getErrors()).thenReturn(List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 1)));
+        when(bulkOperations.execute()).thenThrow(bulkException);
+
+        List<TaskBatchItemResult> results = taskAdapter.saveAll(tasks);
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertNotNull(results.get(0).getId());
+        assertNotNull(results.get(0).getTask().getCreatedAt());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals(1, results.get(1).getIndex());
+        assertEquals("duplicate key", results.get(1).getError());
+
+        verify(bulkOperations, times(1)).insert(anyList());
+        verify(bulkOperations, times(1)).execute();
+        verify(taskRepository, never()).save(any(TaskEntity.class));
+    }
+
+    @Test
+    void saveAll_ShouldReportEachUpdateByWhetherItsOwnConditionalWriteMatched() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = List.of(
+            new Task("6500000000000000000000aa", "Applied", "Description", false, now, now, 3L),
+            new Task("6500000000000000000000bb", "Changed", "Description", false, now, now, 1L)
+        );
+
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(TaskEntity.class)))
+                .thenReturn(new TaskEntity("6500000000000000000000aa", "Applied", "Description", false, now, now, 4L))
+                .thenReturn(null);
+
+        List<TaskBatchItemResult> results = taskAdapter.saveAll(tasks);
+
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(4L, results.get(0).getTask().getVersion());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals(1, results.get(1).getIndex());
+        ArgumentCaptor<Query> filter = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).findAndModify(filter.capture(), any(Update.class), any(FindAndModifyOptions.class), eq(TaskEntity.class));
+        assertEquals(3L, filter.getAllValues().get(0).getQueryObject().get("version"));
+        // Outcomes come from each write, never from reading the tasks back
+        verify(taskRepository, never()).findAllById(anyList());
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(TaskEntity.class));
+    }
+
+    @Test
+    void updateIfExists_ShouldUpdateInSingleRoundTrip() {
+        Task task = new Task("1", "Updated Task", "Updated Description", false, null, null);
+        TaskEntity updatedEntity = new TaskEntity("1", "Updated Task", "Updated Description", true, LocalDateTime.now(), LocalDateTime.now());
+
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(TaskEntity.class)))
+                .thenReturn(updatedEntity);
+
+        Optional<Task> result = taskAdapter.updateIfExists(task);
+
+        assertTrue(result.isPresent());
+        assertEquals("Updated Task", result.get().getTitle());
+        assertTrue(result.get().isCompleted());
+
+        verify(taskRepository, never()).findById(any(String.class));
+        verify(taskRepository, never()).save(any(TaskEntity.class));
+    }
+
+    @Test
+    void markCompleted_ShouldReturnEmpty_WhenNoPendingTaskMatches() {
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(TaskEntity.class)))
+                .thenReturn(null);
+
+        Optional<Task> result = taskAdapter.markCompleted("1");
+
+        assertFalse(result.isPresent());
+    }
+
+    @Test
+    void findAndDeleteById_ShouldReturnDeletedTask() {
+        TaskEntity deletedEntity = new TaskEntity("1", "Test Task", "Test Description", false, LocalDateTime.now(), LocalDateTime.now());
+
+        when(mongoTemplate.findAndRemove(any(Query.class), eq(TaskEntity.class))).thenReturn(deletedEntity);
+
+        Optional<Task> result = taskAdapter.findAndDeleteById("1");
+
+        assertTrue(result.isPresent());
+        assertEquals("1", result.get().getId());
+
+        verify(taskRepository, never()).deleteById(any(String.class));
+    }
+
+    @Test
+    void findByQuery_ShouldFilterAndSortInTheDatabase() {
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        TaskEntity entity = new TaskEntity("1", "Test Task", "Test Description", true, from, from);
+        TaskQuery query = TaskQuery.builder().completed(true).updatedFrom(from).descending(false).limit(10).build();
+
+        when(mongoTemplate.find(any(Query.class), eq(TaskEntity.class))).thenReturn(List.of(entity));
+
+        List<Task> result = taskAdapter.findByQuery(query);
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(TaskEntity.class));
+        Query mongoQuery = captor.getValue();
+        assertEquals(true, mongoQuery.getQueryObject().get("completed"));
+        assertEquals(new org.bson.Document("$gte", from), mongoQuery.getQueryObject().get("updatedAt"));
+        assertEquals(new org.bson.Document("updatedAt", 1).append("_id", 1), mongoQuery.getSortObject());
+        assertEquals(10, mongoQuery.getLimit());
+        assertEquals(1, result.size());
+        verify(taskRepository, never()).findAll();
+    }
+
+    @Test
+    void countTasks_ShouldCountByStatusInOneAggregation() {
+        List<org.bson.Document> groups = List.of(
+                new org.bson.Document("_id", true).append("count", 3),
+                new org.bson.Document("_id", false).append("count", 5L));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(TaskEntity.class), eq(org.bson.Document.class)))
+                .thenReturn(new AggregationResults<>(groups, new org.bson.Document()));
+
+        assertEquals(new TaskStats(8, 3), taskAdapter.countTasks());
+        verify(taskRepository, never()).findAll();
+    }
+
+    @Test
+    void findUpdatedBetween_ShouldSeekPastWatermarkPosition() {
+        LocalDateTime after = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime before = after.plusDays(1);
+        when(mongoTemplate.find(any(Query.class), eq(TaskEntity.class))).thenReturn(List.of());
+
+        taskAdapter.findUpdatedBetween(after, "1", before, 5);
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(captor.capture(), eq(TaskEntity.class));
+        Query mongoQuery = captor.getValue();
+        assertEquals(new org.bson.Document("$lt", before), mongoQuery.getQueryObject().get("updatedAt"));
+        assertEquals(List.of(
+                        new org.bson.Document("updatedAt", new org.bson.Document("$gt", after)),
+                        new org.bson.Document("updatedAt", after).append("_id", new org.bson.Document("$gt", "1"))),
+                mongoQuery.getQueryObject().get("$or"));
+        assertEquals(new org.bson.Document("updatedAt", 1).append("_id", 1), mongoQuery.getSortObject());
+        assertEquals(5, mongoQuery.getLimit());
+    }
+
+    @Test
+    void findAndDeleteById_ShouldLeaveTombstone_WhenTaskExisted() {
+        LocalDateTime now = LocalDateTime.now();
+        when(mongoTemplate.findAndRemove(any(Query.class), eq(TaskEntity.class)))
+                .thenReturn(new TaskEntity("1", "Test Task", "Test Description", false, now, now))
+                .thenReturn(null);
+
+        assertTrue(taskAdapter.findAndDeleteById("1").isPresent());
+        assertFalse(taskAdapter.findAndDeleteById("1").isPresent());
+
+        verify(mongoTemplate, times(1)).save(any(TaskTombstoneEntity.class));
+    }
+
+    @Test
+    void deleteAllById_ShouldTombstoneOnlyTheTasksItRemoved() {
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        when(mongoTemplate.findAllAndRemove(any(Query.class), eq(TaskEntity.class)))
+                .thenReturn(List.of(new TaskEntity("1", "Test Task", "Test Description", true, now, now)));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskTombstoneEntity.class)).thenReturn(bulkOperations);
+
+        List<Task> deleted = taskAdapter.deleteAllById(List.of("1", "missing"));
+
+        assertEquals(1, deleted.size());
+        assertTrue(deleted.get(0).isCompleted());
+        ArgumentCaptor<Query> tombstones = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOperations, times(1)).upsert(tombstones.capture(), any(Update.class));
+        assertEquals("1", tombstones.getValue().getQueryObject().get("_id"));
+        verify(bulkOperations, times(1)).execute();
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(TaskEntity.class));
+    }
+
+    @Test
+    void markAllCompleted_ShouldCompletePendingTasksInOneUpdateAndReadBackOnlyThose() {
+        LocalDateTime now = LocalDateTime.now();
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(TaskEntity.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        when(mongoTemplate.find(any(Query.class), eq(TaskEntity.class)))
+                .thenReturn(List.of(new TaskEntity("1", "Test Task", "Test Description", true, now, now)));
+
+        List<Task> completed = taskAdapter.markAllCompleted(List.of("1", "2"));
+
+        assertEquals(1, completed.size());
+        assertTrue(completed.get(0).isCompleted());
+        ArgumentCaptor<Query> update = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> change = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(1)).updateMulti(update.capture(), change.capture(), eq(TaskEntity.class));
+        assertEquals(false, update.getValue().getQueryObject().get("completed"));
+        // The read-back matches the stamp this update wrote, not whatever else is completed now
+        ArgumentCaptor<Query> readBack = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(1)).find(readBack.capture(), eq(TaskEntity.class));
+        Object stamp = ((org.bson.Document) change.getValue().getUpdateObject().get("$set")).get("completionId");
+        assertEquals(stamp, readBack.getValue().getQueryObject().get("completionId"));
+        verify(mongoTemplate, never()).save(any(TaskEntity.class));
+    }
+
+    @Test
+    void markCompleted_ShouldMatchVersionAndPendingStateInTheWrite_WhenVersionIsGiven() {
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.findAndModify(query.capture(), any(Update.class), any(FindAndModifyOptions.class), eq(TaskEntity.class)))
+                .thenReturn(null);
+
+        assertTrue(taskAdapter.markCompleted("1", 3L).isEmpty());
+        assertEquals(3L, query.getValue().getQueryObject().get("version"));
+        assertEquals(false, query.getValue().getQueryObject().get("completed"));
+        verify(taskRepository, never()).findById(any());
+    }
+}
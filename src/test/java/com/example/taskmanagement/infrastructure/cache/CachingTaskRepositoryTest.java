@@ -0,0 +1,171 @@
+package com.example.taskmanagement.infrastructure.cache;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingTaskRepositoryTest {
+
+    @Mock
+    private TaskRepository delegate;
+
+    private AtomicLong nanos;
+    private CachingTaskRepository cachingRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        nanos = new AtomicLong();
+        cachingRepository = new CachingTaskRepository(delegate, 100, Duration.ofSeconds(30), nanos::get);
+    }
+
+    @Test
+    void findById_ShouldHitDelegateOnlyOnce_WhenTaskIsCached() {
+        Task task = new Task("1", "Test Task", "Test Description", false, LocalDateTime.now(), LocalDateTime.now());
+
+        when(delegate.findById("1")).thenReturn(Optional.of(task));
+
+        assertEquals(task, cachingRepository.findById("1").orElseThrow());
+        assertEquals(task, cachingRepository.findById("1").orElseThrow());
+
+        verify(delegate, times(1)).findById("1");
+        assertEquals(1, cachingRepository.stats().hitCount());
+        assertEquals(1, cachingRepository.stats().missCount());
+    }
+
+    @Test
+    void findById_ShouldReturnCopies_SoCallersCannotCorruptTheCache() {
+        Task task = new Task("1", "Test Task", "Test Description", false, LocalDateTime.now(), LocalDateTime.now());
+
+        when(delegate.findById("1")).thenReturn(Optional.of(task));
+
+        cachingRepository.findById("1").orElseThrow().setTitle("Mutated");
+
+        assertEquals("Test Task", cachingRepository.findById("1").orElseThrow().getTitle());
+    }
+
+    @Test
+    void findById_ShouldReload_AfterTtlExpires() {
+        Task task = new Task("1", "Test Task", "Test Description", false, LocalDateTime.now(), LocalDateTime.now());
+
+        when(delegate.findById("1")).thenReturn(Optional.of(task));
+
+        cachingRepository.findById("1");
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        cachingRepository.findById("1");
+
+        verify(delegate, times(2)).findById("1");
+    }
+
+    @Test
+    void updateIfExists_ShouldRefreshCachedTask() {
+        Task task = new Task("1", "Test Task", "Test Description", false, LocalDateTime.now(), LocalDateTime.now());
+        Task updatedTask = new Task("1", "Updated Task", "Updated Description", false, task.getCreatedAt(), LocalDateTime.now());
+
+        when(delegate.findById("1")).thenReturn(Optional.of(task));
+        when(delegate.updateIfExists(updatedTask)).thenReturn(Optional.of(updatedTask));
+
+        cachingRepository.findById("1");
+        cachingRepository.updateIfExists(updatedTask);
+
+        assertEquals("Updated Task", cachingRepository.findById("1").orElseThrow().getTitle());
+        verify(delegate, times(1)).findById("1");
+    }
+
+    @Test
+    void findById_ShouldNotCacheTaskReadBeforeConcurrentWrite() throws Exception {
+        Task task = new Task("1", "Test Task", "Test Description", false, LocalDateTime.now(), LocalDateTime.now());
+        Task updatedTask = new Task("1", "Updated Task", "Updated Description", false, task.getCreatedAt(), LocalDateTime.now());
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(delegate.findById("1")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return Optional.of(task);
+        });
+        when(delegate.updateIfExists(updatedTask)).thenReturn(Optional.of(updatedTask));
+
+        Thread reader = Thread.ofPlatform().start(() -> cachingRepository.findById("1"));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        Thread writer = Thread.ofPlatform().start(() -> cachingRepository.updateIfExists(updatedTask));
+        // Let the writer get as far as it can while the read of the old task is still in flight
+        while (writer.getState() == Thread.State.RUNNABLE || writer.getState() == Thread.State.NEW) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        reader.join(5000);
+        writer.join(5000);
+
+        assertEquals("Updated Task", cachingRepository.findById("1").orElseThrow().getTitle());
+        verify(delegate, times(1)).findById("1");
+    }
+
+    @Test
+    void findAndDeleteById_ShouldInvalidateCachedTask() {
+        Task task = new Task("1", "Test Task", "Test Description", false, LocalDateTime.now(), LocalDateTime.now());
+
+        when(delegate.findById("1")).thenReturn(Optional.of(task)).thenReturn(Optional.empty());
+        when(delegate.findAndDeleteById("1")).thenReturn(Optional.of(task));
+
+        cachingRepository.findById("1");
+        cachingRepository.findAndDeleteById("1");
+
+        assertFalse(cachingRepository.findById("1").isPresent());
+        verify(delegate, times(2)).findById("1");
+    }
+
+    @Test
+    void findById_ShouldNotHoldUpWritesWhileLoading() throws Exception {
+        Task task = new Task("1", "Test Task", "Test Description", false, LocalDateTime.now(), LocalDateTime.now(), 1L);
+        Task updatedTask = new Task("1", "Updated Task", "Updated Description", false, task.getCreatedAt(), LocalDateTime.now(), 2L);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(delegate.findById("1")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return Optional.of(task);
+        });
+        when(delegate.updateIfExists(updatedTask)).thenReturn(Optional.of(updatedTask));
+
+        Thread reader = Thread.ofPlatform().start(() -> cachingRepository.findById("1"));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        // The store read is still in flight, and a write to the same task completes regardless
+        cachingRepository.updateIfExists(updatedTask);
+        release.countDown();
+        reader.join(5000);
+
+        assertEquals("Updated Task", cachingRepository.findById("1").orElseThrow().getTitle());
+        verify(delegate, times(1)).findById("1");
+    }
+
+    @Test
+    void putAll_ShouldNotReplaceCachedTaskWithOlderVersion() {
+        Task newer = new Task("1", "Newer Task", null, false, LocalDateTime.now(), LocalDateTime.now(), 5L);
+        Task older = new Task("1", "Older Task", null, false, newer.getCreatedAt(), LocalDateTime.now(), 4L);
+
+        when(delegate.updateIfExists(newer)).thenReturn(Optional.of(newer));
+
+        cachingRepository.updateIfExists(newer);
+        // A write that returns after a newer one must not put its older copy back
+        cachingRepository.putAll(List.of(older));
+
+        assertEquals("Newer Task", cachingRepository.findById("1").orElseThrow().getTitle());
+        verify(delegate, never()).findById("1");
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.taskmanagement.infrastructure.coalescing;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.port.out.TaskReadRepository;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CoalescingTaskReadRepositoryTest {
+
+    private static final int CALLERS = 8;
+    private static final TaskQuery PENDING = TaskQuery.builder().completed(false).build();
+
+    @Mock
+    private TaskReadRepository delegate;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private CoalescingTaskReadRepository coalescingReadRepository;
+    private ExecutorService executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        coalescingReadRepository = new CoalescingTaskReadRepository(delegate, new SimpleMeterRegistry());
+        executor = Executors.newFixedThreadPool(CALLERS);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void writeTasks_ShouldSendOneRenderedListToEveryConcurrentCaller() throws Exception {
+        when(delegate.writeTasks(any(), eq(TaskListFormat.JSON_ARRAY), eq(TaskEncoding.JSON), any()))
+                .thenAnswer(invocation -> {
+                    release.await();
+                    return render(invocation.getArgument(3), "[{\"id\":\"1\"}]", 1);
+                });
+
+        List<Future<String>> results = IntStream.range(0, CALLERS)
+                .mapToObj(i -> executor.submit(() -> writeTasks(PENDING.toBuilder().build(), TaskListFormat.JSON_ARRAY)))
+                .toList();
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("[{\"id\":\"1\"}]", result.get(5, TimeUnit.SECONDS));
+        }
+        verify(delegate, times(1)).writeTasks(eq(PENDING), any(), any(), any());
+    }
+
+    @Test
+    void writeTasks_ShouldNotJoinRenderStartedBeforeAWrite() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        when(delegate.writeTasks(any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await();
+                    return render(invocation.getArgument(3), "[\"stale\"]", 1);
+                })
+                .thenAnswer(invocation -> render(invocation.getArgument(3), "[\"fresh\"]", 1));
+        Task task = new Task("1", "Test Task", null, true, LocalDateTime.now(), LocalDateTime.now());
+        when(taskRepository.markCompleted("1")).thenReturn(Optional.of(task));
+        CoalescingTaskRepository coalescingRepository =
+                new CoalescingTaskRepository(taskRepository, new SimpleMeterRegistry(), coalescingReadRepository);
+
+        Future<String> inFlight = executor.submit(() -> writeTasks(PENDING, TaskListFormat.JSON_ARRAY));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        coalescingRepository.markCompleted("1");
+
+        assertEquals("[\"fresh\"]", writeTasks(PENDING, TaskListFormat.JSON_ARRAY));
+        release.countDown();
+        assertEquals("[\"stale\"]", inFlight.get(5, TimeUnit.SECONDS));
+        verify(delegate, times(2)).writeTasks(any(), any(), any(), any());
+    }
+
+    @Test
+    void writeTasks_ShouldStreamNdjsonStraightThrough() {
+        OutputStream out = new ByteArrayOutputStream();
+        when(delegate.writeTasks(null, TaskListFormat.NDJSON, TaskEncoding.JSON, out)).thenReturn(3L);
+
+        assertEquals(3, coalescingReadRepository.writeTasks(null, TaskListFormat.NDJSON, TaskEncoding.JSON, out));
+        verify(delegate).writeTasks(null, TaskListFormat.NDJSON, TaskEncoding.JSON, out);
+    }
+
+    private String writeTasks(TaskQuery query, TaskListFormat format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        coalescingReadRepository.writeTasks(query, format, TaskEncoding.JSON, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static long render(OutputStream out, String body, long count) throws Exception {
+        out.write(body.getBytes(StandardCharsets.UTF_8));
+        return count;
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescingReadRepository.coalescedCount() < expected) {
+            assertTrue(System.nanoTime() < deadline, "callers did not join the in-flight render");
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.taskmanagement.infrastructure.coalescing;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CoalescingTaskRepositoryTest {
+
+    private static final int CALLERS = 8;
+
+    @Mock
+    private TaskRepository delegate;
+
+    private SimpleMeterRegistry registry;
+    private CoalescingTaskRepository coalescingRepository;
+    private ExecutorService executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        registry = new SimpleMeterRegistry();
+        coalescingRepository = new CoalescingTaskRepository(delegate, registry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void findById_ShouldShareOneLookup_WhenCalledConcurrently() throws Exception {
+        Task task = task("1", "Test Task");
+        when(delegate.findById("1")).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(task);
+        });
+
+        List<Future<Optional<Task>>> results = concurrently(() -> coalescingRepository.findById("1"));
+        awaitCoalesced("findById", CALLERS - 1);
+        release.countDown();
+
+        for (Future<Optional<Task>> result : results) {
+            assertEquals(task, result.get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        verify(delegate, times(1)).findById("1");
+        assertEquals(CALLERS - 1, registry.get("task.repository.coalesced").tag("operation", "findById").counter().count());
+    }
+
+    @Test
+    void findById_ShouldReturnCopies_SoCallersCannotCorruptEachOther() throws Exception {
+        Task task = task("1", "Test Task");
+        when(delegate.findById("1")).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(task);
+        });
+
+        List<Future<Optional<Task>>> results = concurrently(() -> coalescingRepository.findById("1"));
+        awaitCoalesced("findById", CALLERS - 1);
+        release.countDown();
+
+        Task first = results.get(0).get(5, TimeUnit.SECONDS).orElseThrow();
+        first.setTitle("Mutated");
+        for (Future<Optional<Task>> result : results.subList(1, CALLERS)) {
+            Task other = result.get(5, TimeUnit.SECONDS).orElseThrow();
+            assertNotSame(first, other);
+            assertEquals("Test Task", other.getTitle());
+        }
+        assertEquals("Test Task", task.getTitle());
+    }
+
+    @Test
+    void findByQuery_ShouldShareOneQuery_OnlyForEqualCriteria() throws Exception {
+        TaskQuery pending = TaskQuery.builder().completed(false).build();
+        TaskQuery completed = TaskQuery.builder().completed(true).build();
+        when(delegate.findByQuery(any())).thenAnswer(invocation -> {
+            release.await();
+            return List.of(task("1", "Test Task"));
+        });
+
+        List<Future<List<Task>>> results = concurrently(
+                () -> coalescingRepository.findByQuery(pending.toBuilder().build()));
+        awaitCoalesced("findByQuery", CALLERS - 1);
+        Future<List<Task>> other = executor.submit(() -> coalescingRepository.findByQuery(completed));
+        release.countDown();
+
+        for (Future<List<Task>> result : results) {
+            assertEquals(1, result.get(5, TimeUnit.SECONDS).size());
+        }
+        assertEquals(1, other.get(5, TimeUnit.SECONDS).size());
+        verify(delegate, times(1)).findByQuery(pending);
+        verify(delegate, times(1)).findByQuery(completed);
+    }
+
+    @Test
+    void findById_ShouldPropagateFailureToEveryCaller() throws Exception {
+        when(delegate.findById("1")).thenAnswer(invocation -> {
+            release.await();
+            throw new IllegalStateException("store unavailable");
+        });
+
+        List<Future<Optional<Task>>> results = concurrently(() -> coalescingRepository.findById("1"));
+        awaitCoalesced("findById", CALLERS - 1);
+        release.countDown();
+
+        for (Future<Optional<Task>> result : results) {
+            Exception e = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+        verify(delegate, times(1)).findById("1");
+    }
+
+    @Test
+    void findById_ShouldNotJoinLookupStartedBeforeAWrite() throws Exception {
+        Task stale = task("1", "Stale");
+        Task fresh = task("1", "Fresh");
+        CountDownLatch started = new CountDownLatch(1);
+        when(delegate.findById("1"))
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await();
+                    return Optional.of(stale);
+                })
+                .thenReturn(Optional.of(fresh));
+        when(delegate.markCompleted("1")).thenReturn(Optional.of(fresh));
+
+        Future<Optional<Task>> inFlight = executor.submit(() -> coalescingRepository.findById("1"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        coalescingRepository.markCompleted("1");
+
+        assertEquals("Fresh", coalescingRepository.findById("1").orElseThrow().getTitle());
+        release.countDown();
+        assertEquals("Stale", inFlight.get(5, TimeUnit.SECONDS).orElseThrow().getTitle());
+        verify(delegate, times(2)).findById("1");
+    }
+
+    private <T> List<Future<T>> concurrently(Callable<T> call) {
+        return IntStream.range(0, CALLERS)
+                .mapToObj(i -> executor.submit(call))
+                .toList();
+    }
+
+    private void awaitCoalesced(String operation, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescingRepository.coalescedCount(operation) < expected) {
+            assertTrue(System.nanoTime() < deadline, "callers did not join the in-flight call");
+            Thread.sleep(1);
+        }
+    }
+
+    private static Task task(String id, String title) {
+        return new Task(id, title, "Test Description", false, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
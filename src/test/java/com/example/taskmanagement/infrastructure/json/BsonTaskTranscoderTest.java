@@ -0,0 +1,81 @@
+package com.example.taskmanagement.infrastructure.json;
+
+import com.example.taskmanagement.application.dto.TaskDTO;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BsonTaskTranscoderTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void transcode_ShouldRenderTheSameJsonAsTheMappedReadPath() throws Exception {
+        ObjectId id = new ObjectId();
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS).withNano(120_000_000);
+        LocalDateTime updatedAt = createdAt.withNano(0).plusSeconds(5);
+        BsonDocument stored = new BsonDocument("_id", new BsonObjectId(id))
+                .append("updatedAt", new BsonDateTime(toMillis(updatedAt)))
+                .append("title", new BsonString("Task"))
+                .append("completed", BsonBoolean.TRUE)
+                .append("version", new BsonInt64(3))
+                .append("createdAt", new BsonDateTime(toMillis(createdAt)));
+        BsonDocument second = new BsonDocument("_id", new BsonString("custom"))
+                .append("title", new BsonString("Other"))
+                .append("description", BsonNull.VALUE)
+                .append("completed", BsonBoolean.FALSE);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TaskJsonWriter writer = new TaskJsonWriter(objectMapper.getFactory(), out, TaskListFormat.JSON_ARRAY)) {
+            BsonTaskTranscoder.transcode(new RawBsonDocument(stored, new BsonDocumentCodec()), writer);
+            BsonTaskTranscoder.transcode(new RawBsonDocument(second, new BsonDocumentCodec()), writer);
+            assertEquals(2, writer.finish());
+        }
+
+        String expected = objectMapper.writeValueAsString(List.of(
+                new TaskDTO(id.toHexString(), "Task", null, true, createdAt, updatedAt),
+                new TaskDTO("custom", "Other", null, false, null, null)));
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writer_ShouldWriteOneTaskPerLine_WhenFormatIsNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TaskJsonWriter writer = new TaskJsonWriter(objectMapper.getFactory(), out, TaskListFormat.NDJSON)) {
+            writer.writeTask("1", "First", null, false, null, null);
+            writer.writeTask("2", "Second", null, false, null, null);
+            writer.finish();
+        }
+
+        assertEquals(objectMapper.writeValueAsString(new TaskDTO("1", "First", null, false, null, null)) + "\n"
+                        + objectMapper.writeValueAsString(new TaskDTO("2", "Second", null, false, null, null)) + "\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
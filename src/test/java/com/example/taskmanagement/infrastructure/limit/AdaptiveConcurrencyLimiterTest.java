@@ -0,0 +1,76 @@
+package com.example.taskmanagement.infrastructure.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long BASELINE = TimeUnit.MILLISECONDS.toNanos(5);
+
+    @Test
+    void tryAcquire_ShouldRefuse_WhenLimitIsInUse() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 1.5, 0.2);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.inFlight());
+
+        limiter.release(BASELINE);
+
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void release_ShouldRaiseLimit_WhileSaturatedAndLatencyHolds() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 5, 100, 1.5, 0.2);
+
+        runSaturated(limiter, 50, BASELINE);
+
+        assertTrue(limiter.limit() > 10, "limit was " + limiter.limit());
+    }
+
+    @Test
+    void release_ShouldNotRaiseLimit_WhenMostOfItIsUnused() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 5, 100, 1.5, 0.2);
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(BASELINE);
+        }
+
+        assertEquals(10, limiter.limit());
+    }
+
+    @Test
+    void release_ShouldShrinkLimitTowardsMinimum_WhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 5, 100, 1.5, 0.2);
+        runSaturated(limiter, 200, BASELINE);
+        int steady = limiter.limit();
+
+        runSaturated(limiter, 30, BASELINE * 20);
+
+        assertTrue(limiter.limit() < steady / 2, "limit went from " + steady + " to " + limiter.limit());
+        assertTrue(limiter.limit() >= 5);
+    }
+
+    @Test
+    void constructor_ShouldRejectInitialLimitOutsideBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(200, 5, 100, 1.5, 0.2));
+    }
+
+    private static void runSaturated(AdaptiveConcurrencyLimiter limiter, int rounds, long rttNanos) {
+        for (int i = 0; i < rounds; i++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int j = 0; j < acquired; j++) {
+                limiter.release(rttNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.taskmanagement.infrastructure.limit;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskEncoding;
+import com.example.taskmanagement.domain.model.TaskListFormat;
+import com.example.taskmanagement.domain.port.in.TaskReadUseCase;
+import com.example.taskmanagement.domain.port.in.TaskUseCase;
+import com.example.taskmanagement.exception.TaskOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitedTaskUseCaseTest {
+
+    @Mock
+    private TaskUseCase delegate;
+
+    private SimpleMeterRegistry registry;
+    private AdaptiveConcurrencyLimiter readLimiter;
+    private AdaptiveConcurrencyLimiter writeLimiter;
+    private ConcurrencyLimitedTaskUseCase limitedUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        registry = new SimpleMeterRegistry();
+        readLimiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 1.5, 0.2);
+        writeLimiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 1.5, 0.2);
+        limitedUseCase = new ConcurrencyLimitedTaskUseCase(delegate, readLimiter, writeLimiter, Duration.ofSeconds(2), registry);
+    }
+
+    @Test
+    void getTaskById_ShouldFailFast_WhenReadBudgetIsExhausted() {
+        assertTrue(readLimiter.tryAcquire());
+
+        TaskOverloadedException e = assertThrows(TaskOverloadedException.class, () -> limitedUseCase.getTaskById("1"));
+
+        assertEquals(Duration.ofSeconds(2), e.getRetryAfter());
+        verify(delegate, never()).getTaskById(any());
+        assertEquals(1, registry.get("task.limit.rejected").tag("budget", "read").counter().count());
+    }
+
+    @Test
+    void createTask_ShouldProceed_WhenOnlyReadBudgetIsExhausted() {
+        Task task = new Task(null, "Test Task", "Test Description", false, LocalDateTime.now(), LocalDateTime.now());
+        when(delegate.createTask(task)).thenReturn(task);
+        assertTrue(readLimiter.tryAcquire());
+
+        assertSame(task, limitedUseCase.createTask(task));
+        assertEquals(0, writeLimiter.inFlight());
+    }
+
+    @Test
+    void getTaskById_ShouldReleaseSlot_WhenDelegateThrows() {
+        when(delegate.getTaskById("1"))
+                .thenThrow(new IllegalStateException("store unavailable"))
+                .thenReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class, () -> limitedUseCase.getTaskById("1"));
+
+        assertTrue(limitedUseCase.getTaskById("1").isEmpty());
+        assertEquals(0, readLimiter.inFlight());
+    }
+
+    @Test
+    void reconcileTaskStats_ShouldNotBeLimited() {
+        assertTrue(readLimiter.tryAcquire());
+
+        limitedUseCase.reconcileTaskStats();
+
+        verify(delegate).reconcileTaskStats();
+    }
+
+    @Test
+    void writeTasks_ShouldDrawOnSharedReadBudget_ButNotLimitExports() {
+        TaskReadUseCase readDelegate = mock(TaskReadUseCase.class);
+        ConcurrencyLimitedTaskReadUseCase limitedReadUseCase =
+                new ConcurrencyLimitedTaskReadUseCase(readDelegate, readLimiter, Duration.ofSeconds(2), registry);
+        OutputStream out = new ByteArrayOutputStream();
+        assertTrue(readLimiter.tryAcquire());
+
+        assertThrows(TaskOverloadedException.class,
+                () -> limitedReadUseCase.writeTasks(null, TaskListFormat.JSON_ARRAY, TaskEncoding.JSON, out));
+        limitedReadUseCase.writeTasks(null, TaskListFormat.NDJSON, TaskEncoding.JSON, out);
+
+        verify(readDelegate, never()).writeTasks(any(), eq(TaskListFormat.JSON_ARRAY), any(), any());
+        verify(readDelegate).writeTasks(null, TaskListFormat.NDJSON, TaskEncoding.JSON, out);
+        assertEquals(1, registry.get("task.limit.rejected").tag("budget", "read").counter().count());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.taskmanagement.infrastructure.metrics;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.port.out.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MeteredTaskRepositoryTest {
+
+    @Mock
+    private TaskRepository delegate;
+
+    private SimpleMeterRegistry registry;
+    private MeteredTaskRepository meteredRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        registry = new SimpleMeterRegistry();
+        meteredRepository = new MeteredTaskRepository(delegate, registry);
+    }
+
+    @Test
+    void findAll_ShouldRecordLatencyAndResultSize() {
+        when(delegate.findAll()).thenReturn(Arrays.asList(
+                new Task("1", "Task 1", "Description 1", false, LocalDateTime.now(), LocalDateTime.now()),
+                new Task("2", "Task 2", "Description 2", true, LocalDateTime.now(), LocalDateTime.now())
+        ));
+
+        meteredRepository.findAll();
+
+        assertEquals(1, registry.get("task.repository").tag("operation", "findAll").timer().count());
+        assertEquals(2.0, registry.get("task.repository.results").tag("operation", "findAll").summary().totalAmount());
+    }
+
+    @Test
+    void findById_ShouldCountErrorsByExceptionType() {
+        when(delegate.findById("1")).thenThrow(new IllegalStateException("connection reset"));
+
+        assertThrows(IllegalStateException.class, () -> meteredRepository.findById("1"));
+
+        assertEquals(1.0, registry.get("task.repository.errors")
+                .tag("operation", "findById")
+                .tag("exception", "IllegalStateException")
+                .counter().count());
+        assertEquals(1, registry.get("task.repository").tag("operation", "findById").timer().count());
+    }
+}
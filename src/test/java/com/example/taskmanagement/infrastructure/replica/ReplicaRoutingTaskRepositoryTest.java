@@ -0,0 +1,177 @@
+package com.example.taskmanagement.infrastructure.replica;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.infrastructure.adapter.InMemoryTaskAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingTaskRepositoryTest {
+
+    private static final Duration LAG = Duration.ofSeconds(2);
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(10);
+
+    private final AtomicLong ticks = new AtomicLong();
+    private MutableClock clock;
+    private InMemoryTaskAdapter primary;
+    private LaggingReplicaTaskRepository replica;
+    private ReadYourWrites readYourWrites;
+    private SimpleMeterRegistry registry;
+    private ReplicaRoutingTaskRepository routingRepository;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.now());
+        primary = new InMemoryTaskAdapter();
+        replica = new LaggingReplicaTaskRepository(primary, LAG, clock);
+        readYourWrites = new ReadYourWrites(MAX_STALENESS, ticks::get);
+        registry = new SimpleMeterRegistry();
+        routingRepository = new ReplicaRoutingTaskRepository(primary, replica,
+                new ReplicaRouter(readYourWrites, MAX_STALENESS, replica::lag, registry));
+        replica.replicate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        readYourWrites.clearClient();
+        replica.close();
+    }
+
+    @Test
+    void findById_ShouldReadFromReplica_AndMissWritesItHasNotReplicatedYet() {
+        Task saved = routingRepository.save(newTask());
+
+        assertTrue(routingRepository.findById(saved.getId()).isEmpty());
+        assertTrue(primary.findById(saved.getId()).isPresent());
+    }
+
+    @Test
+    void findById_ShouldSeeWrite_OnceReplicaCaughtUp() {
+        Task saved = routingRepository.save(newTask());
+
+        clock.advance(LAG.plusSeconds(1));
+        replica.replicate();
+
+        assertEquals(saved, routingRepository.findById(saved.getId()).orElseThrow());
+    }
+
+    @Test
+    void findById_ShouldReadFromPrimary_WhenClientWroteWithinWindow() {
+        readYourWrites.bindClient("client-a");
+        Task saved = routingRepository.save(newTask());
+        readYourWrites.recordWrite();
+
+        assertEquals(saved, routingRepository.findById(saved.getId()).orElseThrow());
+
+        readYourWrites.bindClient("client-b");
+        assertTrue(routingRepository.findById(saved.getId()).isEmpty());
+    }
+
+    @Test
+    void findById_ShouldReadFromReplicaAgain_WhenWindowExpired() {
+        readYourWrites.bindClient("client-a");
+        Task saved = routingRepository.save(newTask());
+        readYourWrites.recordWrite();
+
+        ticks.addAndGet(MAX_STALENESS.plusSeconds(1).toNanos());
+
+        assertFalse(readYourWrites.requiresPrimary());
+        assertTrue(routingRepository.findById(saved.getId()).isEmpty());
+    }
+
+    @Test
+    void findById_ShouldReadFromPrimary_WhenReplicaIsTooStale() {
+        Task saved = routingRepository.save(newTask());
+
+        // The replica stops applying changes, so its lag grows past the bound
+        clock.advance(MAX_STALENESS.plusSeconds(1));
+
+        assertTrue(replica.lag().compareTo(MAX_STALENESS) > 0);
+        assertEquals(saved, routingRepository.findById(saved.getId()).orElseThrow());
+    }
+
+    @Test
+    void findById_ShouldReadFromPrimary_WhileAnyClientIsWriting() {
+        // Created by someone else and not replicated yet
+        Task saved = primary.save(newTask());
+        readYourWrites.bindClient("client-b");
+
+        assertTrue(readYourWrites.write(() -> routingRepository.findById(saved.getId())).isPresent());
+        assertEquals(1, readYourWrites.write(() -> routingRepository.findAllById(List.of(saved.getId()))).size());
+
+        readYourWrites.clearClient();
+        assertTrue(routingRepository.findById(saved.getId()).isEmpty());
+        assertTrue(readYourWrites.write(() -> routingRepository.findById(saved.getId())).isPresent());
+    }
+
+    @Test
+    void countTasks_ShouldAlwaysUsePrimary() {
+        routingRepository.save(newTask());
+
+        assertEquals(1, routingRepository.countTasks().getTotal());
+        assertEquals(0, replica.countTasks().getTotal());
+    }
+
+    @Test
+    void routes_ShouldBeTimedPerRouteAndOperation() {
+        Task saved = routingRepository.save(newTask());
+        routingRepository.findById(saved.getId());
+        routingRepository.findAll();
+
+        assertEquals(1, timerCount("primary", "save"));
+        assertEquals(1, timerCount("replica", "findById"));
+        assertEquals(1, timerCount("replica", "findAll"));
+        assertNull(registry.find("task.repository.route").tags("route", "primary", "operation", "findById").timer());
+    }
+
+    @Test
+    void replica_ShouldRejectWrites() {
+        assertThrows(UnsupportedOperationException.class, () -> replica.save(newTask()));
+    }
+
+    private long timerCount(String route, String operation) {
+        return registry.get("task.repository.route").tags("route", route, "operation", operation).timer().count();
+    }
+
+    private static Task newTask() {
+        return new Task(null, "Task", "Description", false, null, null);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
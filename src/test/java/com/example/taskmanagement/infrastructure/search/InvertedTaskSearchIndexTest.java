@@ -0,0 +1,117 @@
+package com.example.taskmanagement.infrastructure.search;
+
+import com.example.taskmanagement.domain.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedTaskSearchIndexTest {
+
+    private InvertedTaskSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new InvertedTaskSearchIndex();
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesAndRareTermsFirst() {
+        searchIndex.rebuild(Stream.of(
+                new Task("1", "Buy milk", "From the corner shop", false, null, null),
+                new Task("2", "Weekly shopping", "Milk, eggs and bread", false, null, null),
+                new Task("3", "Call plumber", "Kitchen sink is leaking", false, null, null),
+                new Task("4", "Fix sink", "Bathroom", false, null, null)));
+
+        assertEquals(List.of("1", "2"), searchIndex.search("MILK", 10));
+        assertEquals(List.of("4", "3"), searchIndex.search("sink", 10));
+        assertEquals("1", searchIndex.search("milk corner", 10).get(0));
+        assertEquals(List.of("1"), searchIndex.search("milk", 1));
+        assertTrue(searchIndex.search("nothing-matches-this", 10).isEmpty());
+        assertTrue(searchIndex.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    void index_ShouldReplacePreviousVersionOfTask() {
+        searchIndex.index(new Task("1", "Buy milk", null, false, null, null));
+        searchIndex.index(new Task("1", "Buy bread", null, false, null, null));
+
+        assertTrue(searchIndex.search("milk", 10).isEmpty());
+        assertEquals(List.of("1"), searchIndex.search("bread", 10));
+        assertEquals(1, searchIndex.size());
+    }
+
+    @Test
+    void remove_ShouldCompactPostingsWithoutLosingLiveTasks() {
+        IntStream.range(0, 3000).forEach(i -> searchIndex.index(new Task("t" + i, "common", "term" + i, false, null, null)));
+        IntStream.range(0, 2500).forEach(i -> searchIndex.remove("t" + i));
+
+        assertEquals(500, searchIndex.size());
+        assertEquals(500, searchIndex.search("common", 1000).size());
+        assertEquals(List.of("t2999"), searchIndex.search("term2999", 10));
+        assertTrue(searchIndex.search("term0", 10).isEmpty());
+    }
+
+    @Test
+    void rebuild_ShouldKeepChangesMadeWhileReadingTasks() {
+        searchIndex.index(new Task("1", "Buy milk", null, false, null, null));
+        searchIndex.index(new Task("2", "Call plumber", null, false, null, null));
+
+        // The store is read before these writes land, so the rebuilt tasks are older than the index
+        Stream<Task> staleRead = Stream.of(
+                new Task("1", "Buy milk", null, false, null, null),
+                new Task("2", "Call plumber", null, false, null, null),
+                new Task("3", "Water plants", null, false, null, null)
+        ).peek(task -> {
+            if (task.getId().equals("3")) {
+                searchIndex.index(new Task("1", "Buy bread", null, false, null, null));
+                searchIndex.remove("2");
+                searchIndex.index(new Task("4", "Pay rent", null, false, null, null));
+            }
+        });
+        searchIndex.rebuild(staleRead);
+
+        assertEquals(List.of("1"), searchIndex.search("bread", 10));
+        assertTrue(searchIndex.search("milk", 10).isEmpty());
+        assertTrue(searchIndex.search("plumber", 10).isEmpty());
+        assertEquals(List.of("3"), searchIndex.search("plants", 10));
+        assertEquals(List.of("4"), searchIndex.search("rent", 10));
+        assertEquals(3, searchIndex.size());
+    }
+
+    @Test
+    void index_ShouldIgnoreVersionOlderThanTheIndexedOne() {
+        searchIndex.index(new Task("1", "Buy bread", null, false, null, null, 2L));
+        // An earlier update of the same task reaches the index last
+        searchIndex.index(new Task("1", "Buy milk", null, false, null, null, 1L));
+
+        assertTrue(searchIndex.search("milk", 10).isEmpty());
+        assertEquals(List.of("1"), searchIndex.search("bread", 10));
+    }
+
+    @Test
+    void remove_ShouldKeepTaskOut_WhenAnUpdateItRacedReachesTheIndexLater() {
+        searchIndex.index(new Task("1", "Buy milk", null, false, null, null, 1L));
+        searchIndex.remove("1", 2L);
+        searchIndex.index(new Task("1", "Buy bread", null, false, null, null, 2L));
+
+        assertTrue(searchIndex.search("bread", 10).isEmpty());
+        assertEquals(0, searchIndex.size());
+    }
+
+    @Test
+    void search_ShouldNotWeighTermsByDeadPostings() {
+        searchIndex.index(new Task("a", "alpha", null, false, null, null));
+        // Dead until compaction, which these are too few to trigger
+        IntStream.range(0, 100).forEach(i -> searchIndex.index(new Task("d" + i, "alpha", null, false, null, null)));
+        IntStream.range(0, 100).forEach(i -> searchIndex.remove("d" + i));
+        searchIndex.index(new Task("b", "beta", null, false, null, null));
+
+        // Both terms are in one live task each, so they weigh the same and the earlier task wins the tie
+        assertEquals(List.of("a", "b"), searchIndex.search("alpha beta", 10));
+    }
+}
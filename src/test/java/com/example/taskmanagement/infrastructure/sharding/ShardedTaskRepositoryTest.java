@@ -0,0 +1,194 @@
+package com.example.taskmanagement.infrastructure.sharding;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.domain.model.TaskBatchItemResult;
+import com.example.taskmanagement.domain.model.TaskQuery;
+import com.example.taskmanagement.domain.model.TaskTombstone;
+import com.example.taskmanagement.infrastructure.adapter.InMemoryTaskAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedTaskRepositoryTest {
+
+    private static final int TASKS = 300;
+
+    private Map<String, InMemoryTaskAdapter> stores;
+    private ShardedTaskRepository shardedRepository;
+
+    @BeforeEach
+    void setUp() {
+        stores = new LinkedHashMap<>();
+        for (int i = 0; i < 3; i++) {
+            stores.put("shard-" + i, new InMemoryTaskAdapter());
+        }
+        shardedRepository = new ShardedTaskRepository(new LinkedHashMap<>(stores), 128);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardedRepository.close();
+    }
+
+    @Test
+    void save_ShouldPlaceEachTaskOnExactlyOneShard_AndSpreadThemAll() {
+        List<Task> saved = saveTasks(TASKS);
+
+        for (Task task : saved) {
+            long copies = stores.values().stream().filter(store -> store.findById(task.getId()).isPresent()).count();
+            assertEquals(1, copies);
+            assertEquals(task, shardedRepository.findById(task.getId()).orElseThrow());
+        }
+        for (InMemoryTaskAdapter store : stores.values()) {
+            assertTrue(store.countTasks().getTotal() > TASKS / 6, "shard holds " + store.countTasks().getTotal());
+        }
+        assertEquals(TASKS, shardedRepository.countTasks().getTotal());
+    }
+
+    @Test
+    void findPageAfter_ShouldPageThroughAllShardsInIdOrder() {
+        List<String> ids = saveTasks(TASKS).stream().map(Task::getId).sorted().toList();
+
+        List<String> paged = new ArrayList<>();
+        String afterId = null;
+        List<Task> page;
+        while (!(page = shardedRepository.findPageAfter(afterId, 40)).isEmpty()) {
+            page.forEach(task -> paged.add(task.getId()));
+            afterId = page.get(page.size() - 1).getId();
+        }
+
+        assertEquals(ids, paged);
+    }
+
+    @Test
+    void findByQuery_ShouldMergeShardsInSortOrder_AndApplyLimitGlobally() {
+        List<Task> saved = saveTasks(TASKS);
+        saved.stream().limit(100).forEach(task -> shardedRepository.markCompleted(task.getId()));
+
+        List<Task> result = shardedRepository.findByQuery(TaskQuery.builder()
+                .completed(true)
+                .sortBy(TaskQuery.SortField.UPDATED_AT)
+                .descending(true)
+                .limit(25)
+                .build());
+
+        List<Task> expected = stores.values().stream()
+                .flatMap(store -> store.findAll().stream())
+                .filter(Task::isCompleted)
+                .sorted(Comparator.comparing(Task::getUpdatedAt).thenComparing(Task::getId).reversed())
+                .limit(25)
+                .toList();
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void saveAll_ShouldReturnResultsInInputOrder() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tasks.add(new Task(null, "Task " + i, "Description", false, null, null));
+        }
+
+        List<TaskBatchItemResult> results = shardedRepository.saveAll(tasks);
+
+        assertEquals(50, results.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, results.get(i).getIndex());
+            assertEquals("Task " + i, results.get(i).getTask().getTitle());
+        }
+        assertEquals(50, shardedRepository.findAllById(results.stream().map(TaskBatchItemResult::getId).toList()).size());
+    }
+
+    @Test
+    void addShard_ShouldMoveOnlyTasksTheNewShardOwns_AndKeepEveryTaskReadable() {
+        List<Task> saved = saveTasks(TASKS);
+        InMemoryTaskAdapter added = new InMemoryTaskAdapter();
+
+        long moved = shardedRepository.addShard("shard-3", added);
+
+        assertEquals(added.countTasks().getTotal(), moved);
+        // A quarter of the keys on average; far fewer than a modulo reshuffle would move
+        assertTrue(moved > TASKS / 8 && moved < TASKS / 2, "moved " + moved);
+        assertEquals(TASKS, shardedRepository.countTasks().getTotal());
+        for (Task task : saved) {
+            Task found = shardedRepository.findById(task.getId()).orElseThrow();
+            assertEquals(task.getTitle(), found.getTitle());
+            assertEquals(task.getVersion(), found.getVersion());
+        }
+        assertEquals(List.of("shard-0", "shard-1", "shard-2", "shard-3"), shardedRepository.shardNames());
+    }
+
+    @Test
+    void addShard_ShouldReportMovedTasksAsUpdatedAfterTheirTombstones() {
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+        saveTasks(TASKS);
+
+        shardedRepository.addShard("shard-3", new InMemoryTaskAdapter());
+
+        LocalDateTime horizon = LocalDateTime.now().plusSeconds(1);
+        Map<String, LocalDateTime> deletedAt = shardedRepository.findDeletedBetween(before, null, horizon, TASKS).stream()
+                .collect(Collectors.toMap(TaskTombstone::getId, TaskTombstone::getDeletedAt));
+        assertFalse(deletedAt.isEmpty());
+        for (Map.Entry<String, LocalDateTime> tombstone : deletedAt.entrySet()) {
+            Task task = shardedRepository.findById(tombstone.getKey()).orElseThrow();
+            assertTrue(task.getUpdatedAt().isAfter(tombstone.getValue()));
+        }
+    }
+
+    @Test
+    void updateIfExists_ShouldReachTaskOnItsOwner_AfterRebalance() {
+        List<Task> saved = saveTasks(TASKS);
+        InMemoryTaskAdapter added = new InMemoryTaskAdapter();
+        shardedRepository.addShard("shard-3", added);
+        Task moved = saved.stream().filter(task -> added.findById(task.getId()).isPresent()).findFirst().orElseThrow();
+
+        Task updated = shardedRepository.updateIfExists(moved.toBuilder().title("Updated").build()).orElseThrow();
+
+        assertEquals("Updated", updated.getTitle());
+        assertEquals("Updated", added.findById(moved.getId()).orElseThrow().getTitle());
+        assertTrue(stores.values().stream().allMatch(store -> store.findById(moved.getId()).isEmpty()));
+    }
+
+    @Test
+    void addShard_ShouldKeepEveryTask_WhenOldShardFailsToDelete() {
+        AtomicBoolean failed = new AtomicBoolean();
+        stores.put("shard-0", new InMemoryTaskAdapter() {
+            @Override
+            public void deleteById(String id) {
+                if (failed.compareAndSet(false, true)) {
+                    throw new IllegalStateException("shard unavailable");
+                }
+                super.deleteById(id);
+            }
+        });
+        shardedRepository.close();
+        shardedRepository = new ShardedTaskRepository(new LinkedHashMap<>(stores), 128);
+        List<Task> saved = saveTasks(TASKS);
+
+        InMemoryTaskAdapter added = new InMemoryTaskAdapter();
+        assertThrows(IllegalStateException.class, () -> shardedRepository.addShard("shard-3", added));
+
+        for (Task task : saved) {
+            assertTrue(shardedRepository.findById(task.getId()).isPresent(), "lost " + task.getId());
+        }
+        assertEquals(TASKS, shardedRepository.findAll().size());
+    }
+
+    private List<Task> saveTasks(int count) {
+        List<Task> saved = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            saved.add(shardedRepository.save(new Task(null, "Task " + i, "Description " + i, false, null, null)));
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.taskmanagement.infrastructure.writebehind;
+
+import com.example.taskmanagement.domain.model.Task;
+import com.example.taskmanagement.infrastructure.adapter.InMemoryTaskAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class WriteBehindTaskRepositoryTest {
+
+    // Long enough that only explicit waits and full batches trigger a flush
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    private final InMemoryTaskAdapter store = spy(new InMemoryTaskAdapter());
+    private WriteBehindTaskRepository writeBehind;
+
+    @AfterEach
+    void tearDown() {
+        writeBehind.close();
+    }
+
+    @Test
+    void save_ShouldCoalesceRepeatedWritesIntoOneFlush() {
+        writeBehind = WriteBehindTaskRepository.start(store, NEVER, 100, 100, WriteBehindTaskRepository.Durability.ENQUEUED);
+        Task created = writeBehind.save(new Task(null, "Title", "Description", false, null, null));
+        for (int i = 0; i < 10; i++) {
+            writeBehind.updateIfExists(new Task(created.getId(), "Title " + i, "Description", false, null, null));
+        }
+        writeBehind.markCompleted(created.getId());
+
+        writeBehind.awaitQueuedWrites();
+
+        verify(store, times(1)).putAll(anyCollection());
+        verify(store, never()).save(any());
+        Task stored = store.findById(created.getId()).orElseThrow();
+        assertEquals("Title 9", stored.getTitle());
+        assertTrue(stored.isCompleted());
+        assertEquals(11L, stored.getVersion());
+    }
+
+    @Test
+    void findById_ShouldSeeQueuedWrite_BeforeItIsFlushed() {
+        writeBehind = WriteBehindTaskRepository.start(store, NEVER, 100, 100, WriteBehindTaskRepository.Durability.ENQUEUED);
+        Task created = writeBehind.save(new Task(null, "Title", "Description", false, null, null));
+
+        assertTrue(store.findById(created.getId()).isEmpty());
+        assertEquals(created, writeBehind.findById(created.getId()).orElseThrow());
+        assertEquals(List.of(created), writeBehind.findAllById(List.of(created.getId())));
+        assertEquals(1, writeBehind.findAll().size());
+    }
+
+    @Test
+    void findAndDeleteById_ShouldHideTaskAndDeleteItFromStore_OnFlush() {
+        Task stored = store.save(new Task(null, "Title", "Description", false, null, null));
+        writeBehind = WriteBehindTaskRepository.start(store, NEVER, 100, 100, WriteBehindTaskRepository.Durability.ENQUEUED);
+
+        assertEquals(stored, writeBehind.findAndDeleteById(stored.getId()).orElseThrow());
+        assertTrue(writeBehind.findById(stored.getId()).isEmpty());
+        assertTrue(writeBehind.findAndDeleteById(stored.getId()).isEmpty());
+
+        writeBehind.awaitQueuedWrites();
+
+        assertTrue(store.findById(stored.getId()).isEmpty());
+        verify(store).deleteAllById(List.of(stored.getId()));
+    }
+
+    @Test
+    void updateIfExists_ShouldReturnEmpty_WhenVersionIsStaleAgainstQueuedWrite() {
+        writeBehind = WriteBehindTaskRepository.start(store, NEVER, 100, 100, WriteBehindTaskRepository.Durability.ENQUEUED);
+        Task created = writeBehind.save(new Task(null, "Title", "Description", false, null, null));
+        writeBehind.markCompleted(created.getId());
+
+        Task stale = new Task(created.getId(), "Updated", "Description", false, null, null, created.getVersion());
+
+        assertTrue(writeBehind.updateIfExists(stale).isEmpty());
+    }
+
+    @Test
+    void save_ShouldReturnOnlyOnceFlushed_WhenDurabilityIsFlushed() {
+        writeBehind = WriteBehindTaskRepository.start(store, Duration.ofMillis(5), 100, 100,
+                WriteBehindTaskRepository.Durability.FLUSHED);
+
+        Task created = writeBehind.save(new Task(null, "Title", "Description", false, null, null));
+
+        assertEquals(created, store.findById(created.getId()).orElseThrow());
+    }
+
+    @Test
+    void save_ShouldFlushEarly_WhenQueueIsFull() {
+        writeBehind = WriteBehindTaskRepository.start(store, NEVER, 100, 2, WriteBehindTaskRepository.Durability.ENQUEUED);
+
+        for (int i = 0; i < 5; i++) {
+            writeBehind.save(new Task(null, "Title " + i, "Description", false, null, null));
+        }
+
+        assertTrue(writeBehind.pendingCount() <= 2);
+        assertTrue(store.countTasks().getTotal() >= 3);
+    }
+
+    @Test
+    void deleteAllById_ShouldReturnQueuedAndStoredTasks() {
+        Task stored = store.save(new Task(null, "Stored", "Description", false, null, null));
+        writeBehind = WriteBehindTaskRepository.start(store, NEVER, 100, 100, WriteBehindTaskRepository.Durability.ENQUEUED);
+        Task queued = writeBehind.save(new Task(null, "Queued", "Description", false, null, null));
+
+        Collection<String> ids = List.of(stored.getId(), queued.getId(), "missing");
+
+        List<Task> deleted = writeBehind.deleteAllById(ids);
+
+        assertEquals(Set.of(stored.getId(), queued.getId()),
+                deleted.stream().map(Task::getId).collect(Collectors.toSet()));
+        assertEquals(0, writeBehind.countTasks().getTotal());
+    }
+
+    @Test
+    void close_ShouldFlushQueuedWritesAndKeepInterrupt_WhenCallerIsInterrupted() {
+        writeBehind = WriteBehindTaskRepository.start(store, NEVER, 100, 100, WriteBehindTaskRepository.Durability.ENQUEUED);
+        Task created = writeBehind.save(new Task(null, "Title", "Description", false, null, null));
+
+        Thread.currentThread().interrupt();
+        writeBehind.close();
+
+        assertTrue(Thread.interrupted());
+        assertTrue(store.findById(created.getId()).isPresent());
+    }
+}